@@ -0,0 +1,439 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+* An {@link AsyncLogDispatcher} executes logging calls of {@linkplain LogInject#async(AsyncLogDispatcher)
+* asynchronous} loggers on a background thread. Logging calls are handed off through a bounded, lock-free
+* {@link RingBuffer}, so that slow handlers or appenders (for example, handlers that write files inline) do not
+* delay the calling threads. If the ring buffer is full, the dispatcher's {@link Backpressure} policy determines
+* whether the calling thread waits or the logging call is dropped:
+* <pre>
+*     AsyncLogDispatcher dispatcher = AsyncLogDispatcher.droppingBelow(8192, Level.WARNING);
+*     loginject(Logger::getLogger, currentClassName()).async(dispatcher).as(Binder.class)
+* </pre>
+* Only logging calls are dispatched asynchronously. Level checks, getters, and configuration methods are still
+* executed on the calling thread. The level of a logging call is determined from the {@link LogRecord} (for
+* {@link java.util.logging.Logger}), or from the method name or a level argument (for other logger types, e.g.,
+* {@code warn(...)} or {@code log(Level.WARN, ...)}). Logging calls whose level is disabled are discarded on the
+* calling thread (via the logger's level check, e.g., {@code isDebugEnabled()} for {@code debug(...)}), so that they
+* never occupy the ring buffer.
+* <p>
+* The arguments of a dispatched logging call are not copied. Objects that are passed to a logging call (e.g., the
+* parameters of a message format, or an exception) must therefore not be modified afterwards, since the backend may
+* only format them later on the background thread.
+* <p>
+* For {@link java.util.logging.Logger}, log records are created on the calling thread, so their time stamp, thread
+* ID, and source class and method refer to the original logging call. For all other logger types, the backend only
+* receives the logging call on the background thread, where it creates its log event. The time stamp, thread name,
+* thread-local context (e.g., an MDC or Log4J {@code ThreadContext}), and inferred location of such events therefore
+* refer to the background thread. Logger types whose events need the caller's context should use the asynchronous
+* appenders of their backend instead.
+* <p>
+* A dispatcher is {@linkplain #close() closed}, and all pending logging calls are flushed, when the container that
+* uses it shuts down (for DI frameworks with a container life cycle, i.e., HK2 and Spring), or otherwise when the JVM
+* shuts down (a single shutdown hook closes all dispatchers that are still open). Logging calls that are made after a
+* dispatcher was closed are executed synchronously.
+*
+* @author Mirko Raner
+**/
+public final class AsyncLogDispatcher implements AutoCloseable
+{
+    /**
+    * The policies for logging calls that are made while the ring buffer is full.
+    **/
+    public static enum Backpressure
+    {
+        /**
+        * The calling thread waits until there is space in the ring buffer. No logging calls are lost. The waiting
+        * thread parks with an increasing back-off (of up to a millisecond) rather than spinning.
+        **/
+        BLOCK,
+
+        /**
+        * The logging call is dropped. The calling thread never waits.
+        **/
+        DROP,
+
+        /**
+        * Logging calls below a threshold level are dropped; calling threads of all other logging calls wait.
+        **/
+        DROP_BELOW_LEVEL
+    }
+
+    private final static AtomicInteger THREADS = new AtomicInteger();
+    private final static long MIN_BACKOFF_NANOS = 1_000;
+    private final static long MAX_BACKOFF_NANOS = 1_000_000;
+
+    final static Set<AsyncLogDispatcher> OPEN = ConcurrentHashMap.newKeySet();
+
+    static
+    {
+        Thread shutdownHook = new Thread(() -> new ArrayList<>(OPEN).forEach(AsyncLogDispatcher::close));
+        shutdownHook.setName("loginject-async-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private final RingBuffer<Runnable> buffer;
+    private final Backpressure backpressure;
+    private final int threshold;
+    private final Thread consumer;
+    private final LongAdder dropped = new LongAdder();
+    private volatile long processed;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+    private boolean exited;
+
+    private AsyncLogDispatcher(int capacity, Backpressure backpressure, Level threshold)
+    {
+        this.buffer = new RingBuffer<>(capacity);
+        this.backpressure = backpressure;
+        this.threshold = threshold.intValue();
+        this.consumer = new Thread(this::consume, "loginject-async-" + THREADS.incrementAndGet());
+        consumer.setDaemon(true);
+        consumer.start();
+        OPEN.add(this);
+    }
+
+    /**
+    * Creates a dispatcher whose calling threads wait while the ring buffer is full.
+    *
+    * @param capacity the capacity of the ring buffer (rounded up to the next power of two)
+    * @return the {@link AsyncLogDispatcher}
+    * @see Backpressure#BLOCK
+    **/
+    public static AsyncLogDispatcher blocking(int capacity)
+    {
+        return new AsyncLogDispatcher(capacity, Backpressure.BLOCK, Level.ALL);
+    }
+
+    /**
+    * Creates a dispatcher that drops logging calls while the ring buffer is full.
+    *
+    * @param capacity the capacity of the ring buffer (rounded up to the next power of two)
+    * @return the {@link AsyncLogDispatcher}
+    * @see Backpressure#DROP
+    **/
+    public static AsyncLogDispatcher dropping(int capacity)
+    {
+        return new AsyncLogDispatcher(capacity, Backpressure.DROP, Level.OFF);
+    }
+
+    /**
+    * Creates a dispatcher that drops logging calls below a threshold level while the ring buffer is full. Levels of
+    * other logging frameworks are mapped to the closest {@link java.util.logging.Level} (e.g., {@code DEBUG} to
+    * {@link Level#FINE}, {@code WARN} to {@link Level#WARNING}, and {@code ERROR} to {@link Level#SEVERE}).
+    *
+    * @param capacity the capacity of the ring buffer (rounded up to the next power of two)
+    * @param threshold the lowest level that is never dropped
+    * @return the {@link AsyncLogDispatcher}
+    * @see Backpressure#DROP_BELOW_LEVEL
+    **/
+    public static AsyncLogDispatcher droppingBelow(int capacity, Level threshold)
+    {
+        return new AsyncLogDispatcher(capacity, Backpressure.DROP_BELOW_LEVEL, threshold);
+    }
+
+    /**
+    * @return the dispatcher's {@link Backpressure} policy
+    **/
+    public Backpressure getBackpressure()
+    {
+        return backpressure;
+    }
+
+    /**
+    * @return the number of logging calls that were dropped because the ring buffer was full
+    **/
+    public long getDroppedCount()
+    {
+        return dropped.sum();
+    }
+
+    /**
+    * Waits until all logging calls that were dispatched before this method was invoked have been executed.
+    **/
+    public void flush()
+    {
+        long target = buffer.getAddedCount();
+        while (processed < target && consumer.isAlive())
+        {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(100_000);
+        }
+    }
+
+    /**
+    * Executes all pending logging calls and stops the background thread. Closing a dispatcher more than once has no
+    * effect.
+    **/
+    @Override
+    public void close()
+    {
+        if (closed)
+        {
+            return;
+        }
+        closed = true;
+        OPEN.remove(this);
+        LockSupport.unpark(consumer);
+        try
+        {
+            consumer.join();
+        }
+        catch (InterruptedException interrupted)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+    * Wraps a logger in an asynchronous facade.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class of the binding
+    * @param logger the actual logger
+    * @return the asynchronous facade (which, for implementation classes other than
+    * {@link java.util.logging.Logger}, is only an instance of the logger interfaces)
+    * @throws LogInjectException if the logger implements no interfaces and is not a {@link java.util.logging.Logger}
+    **/
+    @SuppressWarnings("unchecked")
+    <_Logger_> _Logger_ wrap(Class<_Logger_> loggerClass, _Logger_ logger)
+    {
+        if (logger instanceof Logger && loggerClass.isAssignableFrom(Logger.class))
+        {
+            return (_Logger_)new JavaUtilLogger(this, (Logger)logger);
+        }
+        Object facade = LoggingCalls.newProxy(loggerClass, new Facade(this, logger));
+        if (facade == null)
+        {
+            throw new LogInjectException("no asynchronous facade available for " + loggerClass.getName());
+        }
+        return (_Logger_)facade;
+    }
+
+    /**
+    * Dispatches a logging call to the background thread. If the dispatcher was closed, the logging call is executed
+    * immediately.
+    *
+    * @param level the {@link java.util.logging.Level} value of the logging call
+    * @param call the logging call
+    **/
+    void dispatch(int level, Runnable call)
+    {
+        long backoff = MIN_BACKOFF_NANOS;
+        while (!closed)
+        {
+            if (buffer.offer(call))
+            {
+                if (waiting)
+                {
+                    LockSupport.unpark(consumer);
+                }
+                if (closed)
+                {
+                    drainAfterClose();
+                }
+                return;
+            }
+            if (backpressure == Backpressure.DROP || level < threshold)
+            {
+                dropped.increment();
+                return;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(this, backoff);
+            backoff = Math.min(backoff*2, MAX_BACKOFF_NANOS);
+        }
+        call.run();
+    }
+
+    private void consume()
+    {
+        while (!closed)
+        {
+            Runnable call = buffer.poll();
+            if (call != null)
+            {
+                execute(call);
+                processed++;
+                continue;
+            }
+            waiting = true;
+            if (buffer.getAddedCount() == processed)
+            {
+                LockSupport.parkNanos(this, 10_000_000);
+            }
+            waiting = false;
+        }
+        synchronized (this)
+        {
+            drain();
+            exited = true;
+        }
+    }
+
+    /**
+    * Executes logging calls that were added to the ring buffer while the dispatcher was closed. Such calls are either
+    * executed by the background thread before it exits, or by the calling thread.
+    **/
+    private synchronized void drainAfterClose()
+    {
+        if (exited)
+        {
+            drain();
+        }
+    }
+
+    private void drain()
+    {
+        for (Runnable call = buffer.poll(); call != null; call = buffer.poll())
+        {
+            execute(call);
+            processed++;
+        }
+    }
+
+    private void execute(Runnable call)
+    {
+        try
+        {
+            call.run();
+        }
+        catch (RuntimeException | LinkageError exception)
+        {
+            // A failing logging call must not stop the background thread:
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), exception);
+        }
+    }
+
+    /**
+    * The asynchronous facade for interface logger types. Methods without a return value whose level can be determined
+    * are dispatched to the background thread (unless the logger's level check rejects them); all other methods are
+    * invoked directly. The backend creates the log events of dispatched calls on the background thread (i.e., without
+    * the calling thread's context).
+    **/
+    static class Facade implements InvocationHandler
+    {
+        private final AsyncLogDispatcher dispatcher;
+        private final Object logger;
+
+        Facade(AsyncLogDispatcher dispatcher, Object logger)
+        {
+            this.dispatcher = dispatcher;
+            this.logger = logger;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable
+        {
+            if (method.getDeclaringClass() == Object.class)
+            {
+                switch (method.getName())
+                {
+                    case "equals":
+                        return proxy == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+            }
+            int level = LoggingCalls.getLevel(method, arguments);
+            if (level != LoggingCalls.NOT_LOGGING)
+            {
+                if (LoggingCalls.isEnabled(logger, method, arguments))
+                {
+                    dispatcher.dispatch(level, () -> invoke(method, arguments));
+                }
+                return null;
+            }
+            try
+            {
+                return method.invoke(logger, arguments);
+            }
+            catch (InvocationTargetException exception)
+            {
+                throw exception.getCause();
+            }
+        }
+
+        private void invoke(Method method, Object[] arguments)
+        {
+            try
+            {
+                method.invoke(logger, arguments);
+            }
+            catch (IllegalAccessException exception)
+            {
+                throw new LogInjectException("cannot invoke " + method, exception);
+            }
+            catch (InvocationTargetException exception)
+            {
+                throw new LogInjectException("logging call failed: " + method, exception.getCause());
+            }
+        }
+    }
+
+    /**
+    * The asynchronous facade for {@link java.util.logging.Logger}. Log records are created, checked, and completed
+    * (including the inference of their source class and method) on the calling thread; only the publication of each
+    * record is dispatched to the background thread.
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final AsyncLogDispatcher dispatcher;
+        private final Logger logger;
+
+        JavaUtilLogger(AsyncLogDispatcher dispatcher, Logger logger)
+        {
+            this.dispatcher = dispatcher;
+            this.logger = logger;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger;
+        }
+
+        @Override
+        public void log(LogRecord record)
+        {
+            if (!isLoggable(record.getLevel()))
+            {
+                return;
+            }
+            // Infer the source on the calling thread, before the record is handed off:
+            record.getSourceClassName();
+            dispatcher.dispatch(record.getLevel().intValue(), () -> super.log(record));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+/**
+* A {@link ClassNamePattern} selects injectee classes by name. The pattern is either a fully qualified class name, or
+* a prefix that ends with an asterisk (e.g., {@code com.acme.client.*} for all classes in the package
+* {@code com.acme.client} and its sub-packages, or {@code *} for all classes).
+*
+* @author Mirko Raner
+**/
+final class ClassNamePattern
+{
+    private final String prefix;
+    private final boolean wildcard;
+
+    ClassNamePattern(String pattern)
+    {
+        this.wildcard = pattern.endsWith("*");
+        this.prefix = wildcard? pattern.substring(0, pattern.length() - 1):pattern;
+    }
+
+    boolean matches(Class<?> type)
+    {
+        String className = type.getName();
+        return wildcard? className.startsWith(prefix):className.equals(prefix);
+    }
+
+    @Override
+    public String toString()
+    {
+        return wildcard? prefix + '*':prefix;
+    }
+}
@@ -0,0 +1,496 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+* The {@link DecoratorGenerator} writes the class files of {@linkplain LogDecorator decorated} loggers. Since loginject
+* has no dependencies, the generator writes the (very limited) subset of the class file format that the delegating
+* classes require. The generated classes use class file version 49, so that no stack map frames are needed.
+* <p>
+* A generated class extends {@link Object} and implements the logger interfaces. It has a final field for the actual
+* logger, the injectee class, and each decorator of the chain (typed with the decorator's class, if it is accessible).
+* Its only constructor receives the actual logger, the injectee class, and the array of decorators. Each logging method
+* invokes the decorators and the actual logger as described in {@link LogDecorator}; all other methods simply invoke the
+* actual logger.
+*
+* @author Mirko Raner
+**/
+final class DecoratorGenerator
+{
+    private final static int VERSION = 49;
+
+    private final static int ACC_PUBLIC = 0x0001;
+    private final static int ACC_PRIVATE = 0x0002;
+    private final static int ACC_FINAL = 0x0010;
+    private final static int ACC_SUPER = 0x0020;
+
+    private final static int SIPUSH = 0x11;
+    private final static int LDC_W = 0x13;
+    private final static int ILOAD = 0x15;
+    private final static int LLOAD = 0x16;
+    private final static int FLOAD = 0x17;
+    private final static int DLOAD = 0x18;
+    private final static int ALOAD = 0x19;
+    private final static int LSTORE = 0x37;
+    private final static int ASTORE = 0x3A;
+    private final static int AALOAD = 0x32;
+    private final static int IFEQ = 0x99;
+    private final static int IRETURN = 0xAC;
+    private final static int LRETURN = 0xAD;
+    private final static int FRETURN = 0xAE;
+    private final static int DRETURN = 0xAF;
+    private final static int ARETURN = 0xB0;
+    private final static int RETURN = 0xB1;
+    private final static int GETFIELD = 0xB4;
+    private final static int PUTFIELD = 0xB5;
+    private final static int INVOKEVIRTUAL = 0xB6;
+    private final static int INVOKESPECIAL = 0xB7;
+    private final static int INVOKEINTERFACE = 0xB9;
+    private final static int ATHROW = 0xBF;
+    private final static int CHECKCAST = 0xC0;
+
+    private final static String CONSTRUCTOR = "(Ljava/lang/Object;Ljava/lang/Class;[Lorg/loginject/LogDecorator;)V";
+    private final static String IS_ENABLED = "(Ljava/lang/Class;I)Z";
+    private final static String ENTER = "(Ljava/lang/Class;I)J";
+    private final static String EXIT = "(Ljava/lang/Class;IJ)V";
+
+    private final String className;
+    private final Class<?>[] interfaces;
+    private final Class<?> delegateType;
+    private final Class<?>[] decoratorTypes;
+    private final Map<List<Object>, Integer> constants = new HashMap<>();
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private int poolCount = 1;
+
+    /**
+    * Creates a new {@link DecoratorGenerator}.
+    *
+    * @param className the name of the generated class
+    * @param interfaces the interfaces of the generated class
+    * @param delegateType the (accessible) type of the actual logger field
+    * @param decoratorTypes the (accessible) types of the decorator fields
+    **/
+    DecoratorGenerator(String className, Class<?>[] interfaces, Class<?> delegateType, Class<?>[] decoratorTypes)
+    {
+        this.className = internalName(className);
+        this.interfaces = interfaces;
+        this.delegateType = delegateType;
+        this.decoratorTypes = decoratorTypes;
+    }
+
+    /**
+    * Generates the class file.
+    *
+    * @param methods the methods of the generated class
+    * @return the class file
+    **/
+    byte[] generate(List<Method> methods)
+    {
+        try
+        {
+            ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+            DataOutputStream body = new DataOutputStream(bodyBytes);
+            body.writeShort(ACC_PUBLIC|ACC_FINAL|ACC_SUPER);
+            body.writeShort(classReference(className));
+            body.writeShort(classReference(internalName(Object.class.getName())));
+            body.writeShort(interfaces.length);
+            for (Class<?> type: interfaces)
+            {
+                body.writeShort(classReference(internalName(type.getName())));
+            }
+            body.writeShort(2 + decoratorTypes.length);
+            writeField(body, "delegate", descriptor(delegateType));
+            writeField(body, "injectee", "Ljava/lang/Class;");
+            for (int index = 0; index < decoratorTypes.length; index++)
+            {
+                writeField(body, "decorator" + index, descriptor(decoratorTypes[index]));
+            }
+            body.writeShort(1 + methods.size());
+            writeConstructor(body);
+            for (Method method: methods)
+            {
+                int level = LoggingCalls.getLevel(method);
+                writeMethod(body, method, level == LoggingCalls.NOT_LOGGING || decoratorTypes.length == 0? null:level);
+            }
+            body.writeShort(0);
+            ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(classFile);
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(VERSION);
+            output.writeShort(poolCount);
+            poolBytes.writeTo(output);
+            bodyBytes.writeTo(output);
+            return classFile.toByteArray();
+        }
+        catch (IOException exception)
+        {
+            throw new LogInjectException("cannot generate " + className, exception);
+        }
+    }
+
+    private void writeField(DataOutputStream body, String name, String descriptor) throws IOException
+    {
+        body.writeShort(ACC_PRIVATE|ACC_FINAL);
+        body.writeShort(utf8(name));
+        body.writeShort(utf8(descriptor));
+        body.writeShort(0);
+    }
+
+    private void writeConstructor(DataOutputStream body) throws IOException
+    {
+        Code code = new Code();
+        code.op(ALOAD, 0).op(INVOKESPECIAL).u2(methodReference(Object.class, "<init>", "()V", false));
+        code.op(ALOAD, 0).op(ALOAD, 1);
+        if (delegateType != Object.class)
+        {
+            code.op(CHECKCAST).u2(classReference(internalName(delegateType.getName())));
+        }
+        code.op(PUTFIELD).u2(fieldReference("delegate", descriptor(delegateType)));
+        code.op(ALOAD, 0).op(ALOAD, 2).op(PUTFIELD).u2(fieldReference("injectee", "Ljava/lang/Class;"));
+        for (int index = 0; index < decoratorTypes.length; index++)
+        {
+            code.op(ALOAD, 0).op(ALOAD, 3).op(SIPUSH).u2(index).op(AALOAD);
+            code.op(CHECKCAST).u2(classReference(internalName(decoratorTypes[index].getName())));
+            code.op(PUTFIELD).u2(fieldReference("decorator" + index, descriptor(decoratorTypes[index])));
+        }
+        code.op(RETURN);
+        writeCode(body, "<init>", CONSTRUCTOR, code, 3, 4);
+    }
+
+    /**
+    * Writes a delegating method. If a level is given, the method is a decorated logging method.
+    **/
+    private void writeMethod(DataOutputStream body, Method method, Integer level) throws IOException
+    {
+        Class<?>[] parameters = method.getParameterTypes();
+        int parameterSlots = slots(parameters);
+        Code code = new Code();
+        int exceptionSlot = 1 + parameterSlots + 2*decoratorTypes.length;
+        int skip = 0;
+        if (level != null)
+        {
+            for (int index = 0; index < decoratorTypes.length; index++)
+            {
+                invokeDecorator(code, index, level, "isEnabled", IS_ENABLED);
+                skip = code.op(IFEQ).label(skip);
+            }
+            for (int index = 0; index < decoratorTypes.length; index++)
+            {
+                invokeDecorator(code, index, level, "enter", ENTER);
+                code.op(LSTORE, 1 + parameterSlots + 2*index);
+            }
+        }
+        int start = code.position();
+        code.op(ALOAD, 0).op(GETFIELD).u2(fieldReference("delegate", descriptor(delegateType)));
+        for (int index = 0, slot = 1; index < parameters.length; slot += slots(parameters[index++]))
+        {
+            code.op(loadOpcode(parameters[index]), slot);
+        }
+        String descriptor = methodDescriptor(parameters, method.getReturnType());
+        Class<?> owner = method.getDeclaringClass();
+        code.op(INVOKEINTERFACE).u2(methodReference(owner, method.getName(), descriptor, true));
+        code.u1(1 + parameterSlots).u1(0);
+        if (level == null)
+        {
+            code.op(returnOpcode(method.getReturnType()));
+            int maxStack = Math.max(1 + parameterSlots, slots(method.getReturnType()));
+            writeCode(body, method.getName(), descriptor, code, maxStack, 1 + parameterSlots);
+            return;
+        }
+        int end = code.position();
+        invokeExits(code, level, parameterSlots);
+        code.bind(skip);
+        code.op(RETURN);
+        int handler = code.position();
+        code.op(ASTORE, exceptionSlot);
+        invokeExits(code, level, parameterSlots);
+        code.op(ALOAD, exceptionSlot).op(ATHROW);
+        code.handle(start, end, handler);
+        writeCode(body, method.getName(), descriptor, code, Math.max(1 + parameterSlots, 5), exceptionSlot + 1);
+    }
+
+    private void invokeExits(Code code, int level, int parameterSlots)
+    {
+        for (int index = decoratorTypes.length - 1; index >= 0; index--)
+        {
+            code.op(ALOAD, 0).op(GETFIELD).u2(fieldReference("decorator" + index, descriptor(decoratorTypes[index])));
+            code.op(ALOAD, 0).op(GETFIELD).u2(fieldReference("injectee", "Ljava/lang/Class;"));
+            code.op(LDC_W).u2(integer(level));
+            code.op(LLOAD, 1 + parameterSlots + 2*index);
+            invoke(code, decoratorTypes[index], "exit", EXIT, 5);
+        }
+    }
+
+    private void invokeDecorator(Code code, int index, int level, String name, String descriptor)
+    {
+        code.op(ALOAD, 0).op(GETFIELD).u2(fieldReference("decorator" + index, descriptor(decoratorTypes[index])));
+        code.op(ALOAD, 0).op(GETFIELD).u2(fieldReference("injectee", "Ljava/lang/Class;"));
+        code.op(LDC_W).u2(integer(level));
+        invoke(code, decoratorTypes[index], name, descriptor, 3);
+    }
+
+    private void invoke(Code code, Class<?> owner, String name, String descriptor, int argumentSlots)
+    {
+        if (owner.isInterface())
+        {
+            code.op(INVOKEINTERFACE).u2(methodReference(owner, name, descriptor, true)).u1(argumentSlots).u1(0);
+        }
+        else
+        {
+            code.op(INVOKEVIRTUAL).u2(methodReference(owner, name, descriptor, false));
+        }
+    }
+
+    private void writeCode(DataOutputStream body, String name, String descriptor, Code code, int maxStack,
+        int maxLocals) throws IOException
+    {
+        if (maxLocals > 0xFF)
+        {
+            throw new LogInjectException("too many parameters for decorated method " + name + descriptor);
+        }
+        body.writeShort(ACC_PUBLIC);
+        body.writeShort(utf8(name));
+        body.writeShort(utf8(descriptor));
+        body.writeShort(1);
+        body.writeShort(utf8("Code"));
+        byte[] bytes = code.bytes.toByteArray();
+        body.writeInt(2 + 2 + 4 + bytes.length + 2 + 8*code.handlers.size() + 2);
+        body.writeShort(maxStack);
+        body.writeShort(maxLocals);
+        body.writeInt(bytes.length);
+        body.write(bytes);
+        body.writeShort(code.handlers.size());
+        for (int[] handler: code.handlers)
+        {
+            body.writeShort(handler[0]);
+            body.writeShort(handler[1]);
+            body.writeShort(handler[2]);
+            body.writeShort(0);
+        }
+        body.writeShort(0);
+    }
+
+    private int utf8(String value)
+    {
+        return constant(Arrays.asList(1, value), pool -> pool.writeUTF(value));
+    }
+
+    private int integer(int value)
+    {
+        return constant(Arrays.asList(3, value), pool -> pool.writeInt(value));
+    }
+
+    private int classReference(String internalName)
+    {
+        int name = utf8(internalName);
+        return constant(Arrays.asList(7, internalName), pool -> pool.writeShort(name));
+    }
+
+    private int nameAndType(String name, String descriptor)
+    {
+        int nameIndex = utf8(name);
+        int descriptorIndex = utf8(descriptor);
+        return constant(Arrays.asList(12, name, descriptor), pool ->
+        {
+            pool.writeShort(nameIndex);
+            pool.writeShort(descriptorIndex);
+        });
+    }
+
+    private int fieldReference(String name, String descriptor)
+    {
+        int owner = classReference(className);
+        int nameAndType = nameAndType(name, descriptor);
+        return constant(Arrays.asList(9, className, name, descriptor), pool ->
+        {
+            pool.writeShort(owner);
+            pool.writeShort(nameAndType);
+        });
+    }
+
+    private int methodReference(Class<?> type, String name, String descriptor, boolean isInterface)
+    {
+        String internalName = internalName(type.getName());
+        int owner = classReference(internalName);
+        int nameAndType = nameAndType(name, descriptor);
+        int tag = isInterface? 11:10;
+        return constant(Arrays.asList(tag, internalName, name, descriptor), pool ->
+        {
+            pool.writeShort(owner);
+            pool.writeShort(nameAndType);
+        });
+    }
+
+    @FunctionalInterface
+    private static interface ConstantWriter
+    {
+        void write(DataOutputStream pool) throws IOException;
+    }
+
+    private int constant(List<Object> key, ConstantWriter writer)
+    {
+        Integer index = constants.get(key);
+        if (index != null)
+        {
+            return index;
+        }
+        try
+        {
+            pool.writeByte((Integer)key.get(0));
+            writer.write(pool);
+        }
+        catch (IOException exception)
+        {
+            throw new LogInjectException("cannot generate " + className, exception);
+        }
+        constants.put(key, poolCount);
+        return poolCount++;
+    }
+
+    static String internalName(String className)
+    {
+        return className.replace('.', '/');
+    }
+
+    static String descriptor(Class<?> type)
+    {
+        if (type.isArray())
+        {
+            return internalName(type.getName());
+        }
+        if (!type.isPrimitive())
+        {
+            return 'L' + internalName(type.getName()) + ';';
+        }
+        if (type == void.class)
+        {
+            return "V";
+        }
+        String[] names = {"boolean", "byte", "char", "short", "int", "long", "float", "double"};
+        return String.valueOf("ZBCSIJFD".charAt(Arrays.asList(names).indexOf(type.getName())));
+    }
+
+    static String methodDescriptor(Class<?>[] parameters, Class<?> returnType)
+    {
+        StringBuilder descriptor = new StringBuilder("(");
+        Arrays.stream(parameters).map(DecoratorGenerator::descriptor).forEach(descriptor::append);
+        return descriptor.append(')').append(descriptor(returnType)).toString();
+    }
+
+    private static int slots(Class<?>... types)
+    {
+        return Arrays.stream(types).mapToInt(type -> type == void.class? 0:type == long.class || type == double.class?
+            2:1).sum();
+    }
+
+    private static int loadOpcode(Class<?> type)
+    {
+        return type == long.class? LLOAD:type == float.class? FLOAD:type == double.class? DLOAD
+            :type.isPrimitive()? ILOAD:ALOAD;
+    }
+
+    private static int returnOpcode(Class<?> type)
+    {
+        return type == void.class? RETURN:type == long.class? LRETURN:type == float.class? FRETURN
+            :type == double.class? DRETURN:type.isPrimitive()? IRETURN:ARETURN;
+    }
+
+    /**
+    * The bytecode of a single method, with a simple chain of forward branches (i.e., labels) and exception handlers.
+    **/
+    private static class Code
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final List<int[]> handlers = new ArrayList<>();
+
+        Code op(int opcode)
+        {
+            bytes.write(opcode);
+            return this;
+        }
+
+        Code op(int opcode, int localVariable)
+        {
+            return op(opcode).u1(localVariable);
+        }
+
+        Code u1(int value)
+        {
+            bytes.write(value);
+            return this;
+        }
+
+        Code u2(int value)
+        {
+            bytes.write(value >>> 8);
+            bytes.write(value);
+            return this;
+        }
+
+        int position()
+        {
+            return bytes.size();
+        }
+
+        /**
+        * Adds a forward branch to a label that is bound later. The branch offsets of all branches to the same label
+        * are chained through their (not yet patched) offsets, so that a label is simply the position of its last
+        * branch.
+        *
+        * @param previous the previous branch to the same label (or zero)
+        * @return the new label
+        **/
+        int label(int previous)
+        {
+            int branch = position() - 1;
+            u2(previous);
+            return branch;
+        }
+
+        void bind(int label)
+        {
+            byte[] code = bytes.toByteArray();
+            for (int branch = label; branch != 0;)
+            {
+                int previous = ((code[branch + 1] & 0xFF) << 8)|(code[branch + 2] & 0xFF);
+                int offset = position() - branch;
+                code[branch + 1] = (byte)(offset >>> 8);
+                code[branch + 2] = (byte)offset;
+                branch = previous;
+            }
+            bytes.reset();
+            bytes.write(code, 0, code.length);
+        }
+
+        void handle(int start, int end, int handler)
+        {
+            handlers.add(new int[] {start, end, handler});
+        }
+    }
+}
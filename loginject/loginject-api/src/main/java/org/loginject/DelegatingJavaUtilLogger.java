@@ -0,0 +1,167 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ResourceBundle;
+import java.util.logging.Filter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+* A {@link DelegatingJavaUtilLogger} is a {@link java.util.logging.Logger} that forwards to another logger. Since
+* {@link Logger} is a class rather than an interface, this class serves as a hand-written stand-in where other logger
+* types can simply use a {@link java.lang.reflect.Proxy}.
+* <p>
+* Only the methods that access the state of a logger (level, handlers, filter, parent, resource bundle) and
+* {@link #log(LogRecord)} are forwarded. All other logging methods are inherited, so that their
+* {@link LogRecord}s are created and checked (via {@link #isLoggable(Level)}) exactly as for a regular logger,
+* and the source class and method of each record are still inferred correctly. The logger name and resource bundle
+* of a record are replaced by the delegate's before the record is forwarded.
+*
+* @author Mirko Raner
+**/
+abstract class DelegatingJavaUtilLogger extends Logger
+{
+    protected DelegatingJavaUtilLogger()
+    {
+        super(null, null);
+    }
+
+    /**
+    * @return the logger to which all calls are forwarded
+    **/
+    protected abstract Logger getDelegate();
+
+    @Override
+    public void log(LogRecord record)
+    {
+        Logger delegate = getDelegate();
+        // Infer the source before the record leaves the inherited logging methods, which the inference skips:
+        record.getSourceClassName();
+        record.setLoggerName(delegate.getName());
+        if (record.getResourceBundle() == null && record.getResourceBundleName() == null)
+        {
+            record.setResourceBundle(delegate.getResourceBundle());
+            record.setResourceBundleName(delegate.getResourceBundleName());
+        }
+        delegate.log(record);
+    }
+
+    @Override
+    public boolean isLoggable(Level level)
+    {
+        return getDelegate().isLoggable(level);
+    }
+
+    @Override
+    public String getName()
+    {
+        return getDelegate().getName();
+    }
+
+    @Override
+    public Level getLevel()
+    {
+        return getDelegate().getLevel();
+    }
+
+    @Override
+    public void setLevel(Level level)
+    {
+        getDelegate().setLevel(level);
+    }
+
+    @Override
+    public Filter getFilter()
+    {
+        return getDelegate().getFilter();
+    }
+
+    @Override
+    public void setFilter(Filter filter)
+    {
+        getDelegate().setFilter(filter);
+    }
+
+    @Override
+    public Handler[] getHandlers()
+    {
+        return getDelegate().getHandlers();
+    }
+
+    @Override
+    public void addHandler(Handler handler)
+    {
+        getDelegate().addHandler(handler);
+    }
+
+    @Override
+    public void removeHandler(Handler handler)
+    {
+        getDelegate().removeHandler(handler);
+    }
+
+    @Override
+    public boolean getUseParentHandlers()
+    {
+        return getDelegate().getUseParentHandlers();
+    }
+
+    @Override
+    public void setUseParentHandlers(boolean useParentHandlers)
+    {
+        getDelegate().setUseParentHandlers(useParentHandlers);
+    }
+
+    @Override
+    public Logger getParent()
+    {
+        return getDelegate().getParent();
+    }
+
+    @Override
+    public void setParent(Logger parent)
+    {
+        getDelegate().setParent(parent);
+    }
+
+    @Override
+    public ResourceBundle getResourceBundle()
+    {
+        return getDelegate().getResourceBundle();
+    }
+
+    @Override
+    public String getResourceBundleName()
+    {
+        return getDelegate().getResourceBundleName();
+    }
+
+    @Override
+    public void setResourceBundle(ResourceBundle bundle)
+    {
+        getDelegate().setResourceBundle(bundle);
+    }
+
+    @Override
+    public String toString()
+    {
+        return getClass().getSimpleName() + "[" + getDelegate() + "]";
+    }
+}
@@ -0,0 +1,39 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+* {@link InjectStatic} marks static logger fields that are injected by bindings with
+* {@linkplain LogInject#staticFields() static-field injection}. The annotation works with all DI frameworks; some
+* frameworks (such as HK2) reject static fields that are annotated with {@code @Inject}, whereas others (Guice and
+* Spring) simply ignore them, and loginject also injects them.
+*
+* @author Mirko Raner
+**/
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InjectStatic
+{
+    // Marker annotation...
+}
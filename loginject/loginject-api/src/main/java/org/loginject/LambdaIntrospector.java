@@ -0,0 +1,103 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.io.Serializable;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+
+/**
+* The {@link LambdaIntrospector} determines the declared return type of serializable lambdas and method references
+* without invoking them. The Java compiler generates a {@code writeReplace} method for every serializable lambda; the
+* {@link SerializedLambda} returned by that method describes the lambda's implementation method and its instantiated
+* method type.
+*
+* @author Mirko Raner
+**/
+class LambdaIntrospector
+{
+    private LambdaIntrospector()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Returns the {@link SerializedLambda} of a lambda or method reference.
+    *
+    * @param lambda the lambda object
+    * @return the {@link SerializedLambda}, or {@code null} if the object is not a serializable lambda
+    **/
+    static SerializedLambda getSerializedLambda(Object lambda)
+    {
+        if (!(lambda instanceof Serializable))
+        {
+            return null;
+        }
+        try
+        {
+            Method writeReplace = lambda.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            Object replacement = writeReplace.invoke(lambda);
+            return replacement instanceof SerializedLambda? (SerializedLambda)replacement:null;
+        }
+        catch (ReflectiveOperationException|RuntimeException noLambda)
+        {
+            return null;
+        }
+    }
+
+    /**
+    * Determines the declared return type of a lambda or method reference.
+    *
+    * @param lambda the lambda object
+    * @return the return type, or {@code null} if the return type could not be determined or is not more specific
+    * than {@link Object}
+    **/
+    static Class<?> getReturnType(Object lambda)
+    {
+        SerializedLambda serializedLambda = getSerializedLambda(lambda);
+        if (serializedLambda == null)
+        {
+            return null;
+        }
+        ClassLoader classLoader = lambda.getClass().getClassLoader();
+        Class<?> returnType = getReturnType(serializedLambda.getInstantiatedMethodType(), classLoader);
+        if (returnType == null || returnType == Object.class)
+        {
+            returnType = getReturnType(serializedLambda.getImplMethodSignature(), classLoader);
+        }
+        return returnType == Object.class? null:returnType;
+    }
+
+    private static Class<?> getReturnType(String methodDescriptor, ClassLoader classLoader)
+    {
+        String returnType = methodDescriptor.substring(methodDescriptor.lastIndexOf(')') + 1);
+        if (!returnType.startsWith("L") || !returnType.endsWith(";"))
+        {
+            return null;
+        }
+        String className = returnType.substring(1, returnType.length()-1).replace('/', '.');
+        try
+        {
+            return Class.forName(className, false, classLoader);
+        }
+        catch (ClassNotFoundException unknownClass)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.inject.Provider;
+
+/**
+* A {@link LazyLogger} creates the actual logger for an injection point when it is first needed. The stand-in that is
+* injected instead of the actual logger is either a {@link Proxy} (for interface logger types) or a
+* {@link DelegatingJavaUtilLogger} (for {@link java.util.logging.Logger}). The actual logger is created exactly once
+* (double-checked, using a volatile field); afterwards, the {@link LazyLogger} drops its references to the
+* {@link LogInject} binding and the injection point.
+* <p>
+* A {@link LazyLogger} also serves as the {@link Provider} for {@code Provider<Logger>} injection points.
+*
+* @param <_Logger_> the logger type
+*
+* @author Mirko Raner
+**/
+final class LazyLogger<_Logger_> implements Supplier<_Logger_>, Provider<_Logger_>, InvocationHandler
+{
+    private volatile _Logger_ logger;
+    private LogInject<_Logger_> loginject;
+    private LogInjectionPoint injectionPoint;
+
+    private LazyLogger(LogInject<_Logger_> loginject, LogInjectionPoint injectionPoint)
+    {
+        this.loginject = loginject;
+        this.injectionPoint = injectionPoint;
+    }
+
+    /**
+    * Creates a lazily initialized stand-in for a logger. If no stand-in can be created for the logger type (i.e., for
+    * implementation classes other than {@link java.util.logging.Logger}), the actual logger is created immediately.
+    *
+    * @param <_Logger_> the logger type
+    * @param loginject the {@link LogInject} binding that creates the actual logger
+    * @param injectionPoint the injection point of the logger
+    * @return the stand-in (or the actual logger)
+    **/
+    static <_Logger_> _Logger_ create(LogInject<_Logger_> loginject, LogInjectionPoint injectionPoint)
+    {
+        Class<_Logger_> loggerClass = loginject.getLoggerClass();
+        LazyLogger<_Logger_> lazyLogger = new LazyLogger<>(loginject, injectionPoint);
+        if (loggerClass.isInterface())
+        {
+            ClassLoader classLoader = loggerClass.getClassLoader();
+            Class<?>[] interfaces = {loggerClass};
+            return loggerClass.cast(Proxy.newProxyInstance(classLoader, interfaces, lazyLogger));
+        }
+        if (loggerClass == Logger.class)
+        {
+            @SuppressWarnings("unchecked")
+            LazyLogger<Logger> lazyJavaUtilLogger = (LazyLogger<Logger>)lazyLogger;
+            return loggerClass.cast(new JavaUtilLogger(lazyJavaUtilLogger));
+        }
+        return lazyLogger.get();
+    }
+
+    /**
+    * Creates a {@link Provider} that creates the actual logger on its first invocation and returns the same logger
+    * for all subsequent invocations.
+    *
+    * @param <_Logger_> the logger type
+    * @param loginject the {@link LogInject} binding that creates the actual logger
+    * @param injectionPoint the injection point of the provider
+    * @return the {@link Provider}
+    **/
+    static <_Logger_> Provider<_Logger_> provider(LogInject<_Logger_> loginject, LogInjectionPoint injectionPoint)
+    {
+        return new LazyLogger<>(loginject, injectionPoint);
+    }
+
+    @Override
+    public _Logger_ get()
+    {
+        _Logger_ logger = this.logger;
+        if (logger == null)
+        {
+            synchronized (this)
+            {
+                if ((logger = this.logger) == null)
+                {
+                    logger = loginject.resolveLogger(injectionPoint);
+                    if (logger == null)
+                    {
+                        throw new LogInjectException("logger factory returned null for " + injectionPoint);
+                    }
+                    this.logger = logger;
+                    loginject = null;
+                    injectionPoint = null;
+                }
+            }
+        }
+        return logger;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            switch (method.getName())
+            {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+        }
+        try
+        {
+            return method.invoke(get(), arguments);
+        }
+        catch (InvocationTargetException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final LazyLogger<Logger> logger;
+
+        JavaUtilLogger(LazyLogger<Logger> logger)
+        {
+            this.logger = logger;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger.get();
+        }
+    }
+}
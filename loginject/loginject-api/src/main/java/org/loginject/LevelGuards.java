@@ -0,0 +1,208 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.beans.PropertyChangeListener;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+
+/**
+* {@link LevelGuards} keeps track of the level guards of {@linkplain LogInject#guarded() guarded} loggers. A level
+* guard caches the effective level of its logger in a plain field, so that level checks on the hot path do not need
+* to walk the logger hierarchy or read volatile state. The cached levels are refreshed when the logging configuration
+* changes:
+* <ul>
+*  <li>whenever the {@link LogManager} configuration is (re-)read (via a configuration listener on Java 9 and later,
+*      and via a property change listener on Java 8)</li>
+*  <li>whenever the level or parent of a logger is changed through a guarded logger</li>
+*  <li>whenever the application calls {@link #refresh()} (for example, after changing the level of a logger that
+*      was obtained directly from the logging framework)</li>
+* </ul>
+* Since the cached levels are not volatile, a refreshed level is not guaranteed to become visible to other threads
+* immediately; like any other configuration change, it takes effect eventually. There is at most one level guard per
+* backend logger, which all injections of that logger share. Level guards are only weakly referenced and do not
+* prevent guarded loggers from being garbage-collected.
+* <p>
+* Level guards are only available for {@link java.util.logging.Logger}. Log4J 2 loggers already compare against a
+* cached level in their level checks and notify their own configuration listeners, so guarding them (and listening
+* for Log4J 2 configuration changes) is out of scope.
+*
+* @author Mirko Raner
+**/
+public final class LevelGuards
+{
+    private final static Map<Logger, Reference<JavaUtilLogger>> GUARDED = new WeakHashMap<>();
+
+    static
+    {
+        addConfigurationListener(LogManager.getLogManager(), LevelGuards::refresh);
+    }
+
+    private LevelGuards()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Refreshes the cached levels of all guarded loggers.
+    **/
+    public static void refresh()
+    {
+        List<Reference<JavaUtilLogger>> guards;
+        synchronized (GUARDED)
+        {
+            guards = new ArrayList<>(GUARDED.values());
+        }
+        guards.stream().map(Reference::get).filter(Objects::nonNull).forEach(JavaUtilLogger::refresh);
+    }
+
+    /**
+    * Wraps a logger in a level guard. All injections of the same backend logger share the same level guard.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class of the binding (which must be {@linkplain #supports(Class) supported})
+    * @param logger the actual logger
+    * @return the guarded logger
+    **/
+    static <_Logger_> _Logger_ guard(Class<_Logger_> loggerClass, _Logger_ logger)
+    {
+        synchronized (GUARDED)
+        {
+            Reference<JavaUtilLogger> reference = GUARDED.get(logger);
+            JavaUtilLogger guarded = reference == null ? null : reference.get();
+            if (guarded == null)
+            {
+                guarded = new JavaUtilLogger((Logger)logger);
+                // The guard refers to its logger, so the map must not refer to the guard strongly:
+                GUARDED.put((Logger)logger, new WeakReference<>(guarded));
+            }
+            return loggerClass.cast(guarded);
+        }
+    }
+
+    /**
+    * Determines whether level guards are available for a logger type.
+    *
+    * @param loggerClass the logger class
+    * @return {@code true} if loggers of the given type can be guarded
+    **/
+    static boolean supports(Class<?> loggerClass)
+    {
+        return loggerClass == Logger.class;
+    }
+
+    private static void addConfigurationListener(LogManager logManager, Runnable listener)
+    {
+        try
+        {
+            // Java 9 and later:
+            LogManager.class.getMethod("addConfigurationListener", Runnable.class).invoke(logManager, listener);
+        }
+        catch (NoSuchMethodException java8)
+        {
+            addPropertyChangeListener(logManager, listener);
+        }
+        catch (IllegalAccessException | InvocationTargetException exception)
+        {
+            throw new LogInjectException("cannot add configuration listener", exception);
+        }
+    }
+
+    private static void addPropertyChangeListener(LogManager logManager, Runnable listener)
+    {
+        // LogManager.addPropertyChangeListener was removed in Java 9, so it must be invoked reflectively:
+        PropertyChangeListener propertyChangeListener = event -> listener.run();
+        try
+        {
+            Method method = LogManager.class.getMethod("addPropertyChangeListener", PropertyChangeListener.class);
+            method.invoke(logManager, propertyChangeListener);
+        }
+        catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException exception)
+        {
+            throw new LogInjectException("cannot add configuration listener", exception);
+        }
+    }
+
+    /**
+    * The level guard for {@link java.util.logging.Logger}. All inherited logging methods check the cached level
+    * before a {@link java.util.logging.LogRecord} is created.
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final static int OFF = Level.OFF.intValue();
+
+        private final Logger logger;
+        private int levelValue;
+
+        JavaUtilLogger(Logger logger)
+        {
+            this.logger = logger;
+            refresh();
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger;
+        }
+
+        @Override
+        public boolean isLoggable(Level level)
+        {
+            return level.intValue() >= levelValue && levelValue != OFF;
+        }
+
+        @Override
+        public void setLevel(Level level)
+        {
+            super.setLevel(level);
+            // The level change also affects the child loggers, which might be guarded as well:
+            LevelGuards.refresh();
+        }
+
+        @Override
+        public void setParent(Logger parent)
+        {
+            super.setParent(parent);
+            LevelGuards.refresh();
+        }
+
+        void refresh()
+        {
+            for (Logger current = logger; current != null; current = current.getParent())
+            {
+                Level level = current.getLevel();
+                if (level != null)
+                {
+                    levelValue = level.intValue();
+                    return;
+                }
+            }
+            levelValue = Level.INFO.intValue();
+        }
+    }
+}
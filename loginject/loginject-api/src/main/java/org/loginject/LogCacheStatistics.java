@@ -0,0 +1,88 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+/**
+* {@link LogCacheStatistics} is an immutable snapshot of the usage statistics of a {@link LogInject#cached() cached}
+* logger binding.
+*
+* @author Mirko Raner
+**/
+public final class LogCacheStatistics
+{
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+    private final int maximumSize;
+
+    LogCacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maximumSize)
+    {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+    * @return the number of injections that were served with an already existing logger
+    **/
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+    /**
+    * @return the number of injections that required the creation of a new logger
+    **/
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+    /**
+    * @return the number of loggers that were removed from the cache to stay within its maximum size
+    **/
+    public long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+    /**
+    * @return the number of loggers currently held by the cache
+    **/
+    public int getSize()
+    {
+        return size;
+    }
+
+    /**
+    * @return the maximum number of loggers held by the cache (or zero if caching is not enabled)
+    **/
+    public int getMaximumSize()
+    {
+        return maximumSize;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount
+            + ", size=" + size + "/" + maximumSize;
+    }
+}
@@ -0,0 +1,176 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+* A {@link LogContext} defines a fixed set of structured key/value fields (such as component, team, or owning module)
+* that are derived from the class into which a logger is injected. The fields of each injectee class are computed only
+* once and are then shared as an immutable map, so that, unlike fields that are pushed to a mapped diagnostic context
+* around each logging call, they cost nothing on the logging path. The fields are passed to the logger factory via
+* {@link LogParameter#context(LogContext)}, which allows the factory to create loggers that attach them to every event:
+* <pre>
+*     LogContext context = LogContext.fields()
+*         .constant("team", "payments")
+*         .field("component", currentPackageName().map(String.class, Components::forPackage))
+*         .annotation("owner", Owner.class, Owner::value);
+*     loginject(ContextLoggers::getLogger, currentClassName(), context(context))
+* </pre>
+* Fields whose value is {@code null} for a particular injectee class (e.g., because the class has no such annotation)
+* are omitted. All other values are converted to strings. {@link LogContext} objects are immutable; each method that
+* adds a field returns a new {@link LogContext}.
+* <p>
+* For Log4J 2, the {@code loginject-log4j} module provides such a factory:
+* {@code ContextLog4jLogger.contextLoggers(context)} binds loggers that put the fields into the Log4J
+* {@code ThreadContext} for every enabled event.
+*
+* @author Mirko Raner
+**/
+public final class LogContext
+{
+    private final static LogContext EMPTY = new LogContext(Collections.emptyList());
+
+    private final List<Field> fields;
+    private final ClassValue<Map<String, String>> values = new ClassValue<Map<String, String>>()
+    {
+        @Override
+        protected Map<String, String> computeValue(Class<?> injectee)
+        {
+            return computeFields(injectee);
+        }
+    };
+
+    private LogContext(List<Field> fields)
+    {
+        this.fields = fields;
+    }
+
+    /**
+    * @return a {@link LogContext} without any fields
+    **/
+    public static LogContext fields()
+    {
+        return EMPTY;
+    }
+
+    /**
+    * Adds a field whose value is derived from the injectee class. The parameter must not depend on the individual
+    * {@link LogInjectionPoint}.
+    *
+    * @param key the field key
+    * @param value the {@link LogParameter} that determines the field value
+    * @return a new {@link LogContext} with the additional field
+    * @throws LogInjectException if the parameter depends on the injection point
+    **/
+    public LogContext field(String key, LogParameter<?> value)
+    {
+        Objects.requireNonNull(key);
+        if (value.isInjectionPointSensitive())
+        {
+            throw new LogInjectException("context field " + key + " must not depend on the injection point");
+        }
+        List<Field> extended = new ArrayList<>(fields);
+        extended.add(new Field(key, value));
+        return new LogContext(Collections.unmodifiableList(extended));
+    }
+
+    /**
+    * Adds a field with a constant value.
+    *
+    * @param key the field key
+    * @param value the field value
+    * @return a new {@link LogContext} with the additional field
+    **/
+    public LogContext constant(String key, String value)
+    {
+        return field(key, LogParameter.constantString(value));
+    }
+
+    /**
+    * Adds a field whose value is derived from an annotation of the injectee class. The field is omitted for classes
+    * without such annotation.
+    *
+    * @param <_Annotation_> the annotation type
+    * @param key the field key
+    * @param annotationType the annotation class (which must be retained at runtime)
+    * @param value the function that derives the field value from the annotation
+    * @return a new {@link LogContext} with the additional field
+    **/
+    public <_Annotation_ extends Annotation> LogContext annotation(String key, Class<_Annotation_> annotationType,
+        Function<? super _Annotation_, ?> value)
+    {
+        return field(key, LogParameter.annotation(annotationType).map(Object.class, value));
+    }
+
+    /**
+    * Returns the fields of an injectee class. The fields are computed when this method is first invoked for a class;
+    * subsequent invocations return the same map.
+    *
+    * @param injectee the injectee class
+    * @return the immutable map of fields (in the order in which they were defined)
+    **/
+    public Map<String, String> getFields(Class<?> injectee)
+    {
+        return values.get(injectee);
+    }
+
+    private Map<String, String> computeFields(Class<?> injectee)
+    {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (Field field: fields)
+        {
+            Object value = field.value.getValue(injectee);
+            if (value != null)
+            {
+                map.put(field.key, value.toString());
+            }
+        }
+        return map.isEmpty()? Collections.emptyMap():Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public String toString()
+    {
+        return LogContext.class.getSimpleName() + fields;
+    }
+
+    private final static class Field
+    {
+        final String key;
+        final LogParameter<?> value;
+
+        Field(String key, LogParameter<?> value)
+        {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String toString()
+        {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+/**
+* A {@link LogDecorator} adds behavior (such as timing, enrichment of the logging context, or additional guards) to
+* the logging calls of {@linkplain LogInject#decorated(LogDecorator...) decorated} loggers. For each logger type and
+* chain of decorator classes, loginject generates a concrete delegating class once; the generated class calls the
+* decorators directly (without reflection or boxing of the logging call's arguments), so that decorated logging
+* calls remain monomorphic and can be inlined by the JIT compiler.
+* <p>
+* For every logging call, {@link #isEnabled(Class, int)} is invoked on all decorators of the chain first; if any
+* decorator returns {@code false}, the logging call is skipped. Otherwise, {@link #enter(Class, int)} is invoked on
+* all decorators in order, the logging call is passed on to the actual logger, and {@link #exit(Class, int, long)} is
+* invoked on all decorators in reverse order (even if the actual logger throws an exception). Methods that are not
+* logging calls (such as level checks or getters) are passed on directly.
+* <p>
+* Levels are passed as {@link java.util.logging.Level} values. Levels of other logging frameworks are mapped to the
+* closest {@link java.util.logging.Level} (e.g., {@code debug(...)} to {@link java.util.logging.Level#FINE}); for
+* logging calls whose level is only determined by an argument of another logging framework (e.g.,
+* {@code log(Level.WARN, ...)}), the level is {@link java.util.logging.Level#ALL}. Decorator classes should be public,
+* so that the generated classes can call them without an interface dispatch.
+*
+* @author Mirko Raner
+**/
+public interface LogDecorator
+{
+    /**
+    * Determines whether a logging call is passed on.
+    *
+    * @param injectee the injectee class
+    * @param level the {@link java.util.logging.Level} value of the logging call
+    * @return {@code false} to skip the logging call
+    **/
+    default boolean isEnabled(Class<?> injectee, int level)
+    {
+        return true;
+    }
+
+    /**
+    * Is invoked before a logging call is passed on.
+    *
+    * @param injectee the injectee class
+    * @param level the {@link java.util.logging.Level} value of the logging call
+    * @return a token that is passed to {@link #exit(Class, int, long)} (e.g., a start time)
+    **/
+    default long enter(Class<?> injectee, int level)
+    {
+        return 0;
+    }
+
+    /**
+    * Is invoked after a logging call was passed on.
+    *
+    * @param injectee the injectee class
+    * @param level the {@link java.util.logging.Level} value of the logging call
+    * @param token the token that was returned by {@link #enter(Class, int)}
+    **/
+    default void exit(Class<?> injectee, int level, long token)
+    {
+        // Nothing to do by default...
+    }
+}
@@ -0,0 +1,292 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.loginject.LogInject.ClassType;
+
+/**
+* {@link LogDecorators} wraps loggers in the generated delegating classes of {@linkplain LogDecorator decorators}.
+* A delegating class is generated once per logger class and chain of decorator classes:
+* <ul>
+*  <li>for logger interfaces, the generated class implements the logger interface</li>
+*  <li>for {@linkplain ClassType#IMPLEMENTATION implementation} classes, the generated class implements all public
+*      interfaces of the logger class (so, like other wrappers, it is not an instance of the logger class
+*      itself)</li>
+* </ul>
+* Generated classes never extend a logger class: subclasses would have to invoke a backend constructor with made-up
+* arguments, and they could not intercept final methods. Other logger classes cannot be decorated.
+* {@link java.util.logging.Logger} is decorated by the hand-written {@link JavaUtilLogger} instead, which passes the
+* level of each {@link LogRecord} to the decorators (a generated subclass would prevent the inference of the source
+* class and method of log records). Generated classes are defined by a separate class loader, and they are retained
+* only as long as the logger class.
+*
+* @author Mirko Raner
+**/
+final class LogDecorators
+{
+    private final static AtomicInteger CLASSES = new AtomicInteger();
+
+    private final static ClassValue<ConcurrentMap<List<Class<?>>, Constructor<?>>> CONSTRUCTORS =
+        new ClassValue<ConcurrentMap<List<Class<?>>, Constructor<?>>>()
+    {
+        @Override
+        protected ConcurrentMap<List<Class<?>>, Constructor<?>> computeValue(Class<?> loggerClass)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private LogDecorators()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Wraps a logger in a decorated logger.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class of the binding
+    * @param type the {@link ClassType} of the logger class
+    * @param logger the actual logger
+    * @param injectee the injectee class
+    * @param decorators the chain of decorators
+    * @return the decorated logger
+    * @throws LogInjectException if no decorated class can be generated for the logger class
+    **/
+    @SuppressWarnings("unchecked")
+    static <_Logger_> _Logger_ decorate(Class<_Logger_> loggerClass, ClassType type, _Logger_ logger,
+        Class<?> injectee, LogDecorator[] decorators)
+    {
+        if (logger instanceof Logger && loggerClass.isAssignableFrom(Logger.class))
+        {
+            return (_Logger_)new JavaUtilLogger((Logger)logger, injectee, decorators);
+        }
+        List<Class<?>> chain = Arrays.asList(Stream.of(decorators).map(Object::getClass).toArray(Class<?>[]::new));
+        Constructor<?> constructor = CONSTRUCTORS.get(loggerClass)
+            .computeIfAbsent(chain, key -> generate(loggerClass, type, key));
+        try
+        {
+            return (_Logger_)constructor.newInstance(logger, injectee, decorators);
+        }
+        catch (InstantiationException | IllegalAccessException exception)
+        {
+            throw new LogInjectException("cannot decorate " + loggerClass.getName(), exception);
+        }
+        catch (InvocationTargetException exception)
+        {
+            throw new LogInjectException("cannot decorate " + loggerClass.getName(), exception.getCause());
+        }
+    }
+
+    /**
+    * Determines whether loggers of a logger class can be decorated.
+    *
+    * @param loggerClass the logger class
+    * @param type the {@link ClassType} of the logger class
+    * @return {@code true} if loggers of the given class can be decorated
+    **/
+    static boolean supports(Class<?> loggerClass, ClassType type)
+    {
+        return loggerClass.isAssignableFrom(Logger.class) || canGenerate(loggerClass, type);
+    }
+
+    private static boolean canGenerate(Class<?> loggerClass, ClassType type)
+    {
+        return (loggerClass.isInterface() || type == ClassType.IMPLEMENTATION) && getInterfaces(loggerClass).length > 0;
+    }
+
+    private static Class<?>[] getInterfaces(Class<?> loggerClass)
+    {
+        Stream<Class<?>> types = LogInjectIndex.getSupertypes(loggerClass).stream().filter(Class::isInterface);
+        return types.filter(LogDecorators::isAccessible).toArray(Class<?>[]::new);
+    }
+
+    private static Constructor<?> generate(Class<?> loggerClass, ClassType type, List<Class<?>> chain)
+    {
+        if (!canGenerate(loggerClass, type))
+        {
+            throw new LogInjectException("no decorated class available for " + loggerClass.getName());
+        }
+        Class<?>[] interfaces = getInterfaces(loggerClass);
+        Map<String, Method> methods = new LinkedHashMap<>();
+        for (Class<?> loggerInterface: interfaces)
+        {
+            for (Method method: loggerInterface.getMethods())
+            {
+                if (!Modifier.isStatic(method.getModifiers()) && !isAccessible(method))
+                {
+                    throw new LogInjectException("cannot decorate " + method + " (inaccessible types)");
+                }
+                if (!Modifier.isStatic(method.getModifiers()))
+                {
+                    methods.putIfAbsent(getSignature(method), method);
+                }
+            }
+        }
+        Class<?> delegateType = isAccessible(loggerClass)? loggerClass:Object.class;
+        Class<?>[] decoratorTypes = chain.stream()
+            .map(decorator -> isAccessible(decorator)? decorator:LogDecorator.class).toArray(Class<?>[]::new);
+        String className = LogDecorators.class.getPackage().getName() + ".generated." + loggerClass.getSimpleName()
+            + "$Decorated$" + CLASSES.incrementAndGet();
+        DecoratorGenerator generator = new DecoratorGenerator(className, interfaces, delegateType, decoratorTypes);
+        byte[] classFile = generator.generate(Arrays.asList(methods.values().toArray(new Method[0])));
+        Stream<Class<?>> types = Stream.concat(Stream.of(LogDecorator.class, loggerClass), chain.stream());
+        ClassLoader[] loaders = Stream.concat(types, Stream.of(interfaces)).map(Class::getClassLoader).distinct()
+            .toArray(ClassLoader[]::new);
+        Class<?> decoratedClass = new DecoratorClassLoader(loggerClass.getClassLoader(), loaders)
+            .define(className, classFile);
+        try
+        {
+            return decoratedClass.getConstructor(Object.class, Class.class, LogDecorator[].class);
+        }
+        catch (NoSuchMethodException exception)
+        {
+            throw new LogInjectException("cannot decorate " + loggerClass.getName(), exception);
+        }
+    }
+
+    private static String getSignature(Method method)
+    {
+        return method.getName() + DecoratorGenerator.methodDescriptor(method.getParameterTypes(),
+            method.getReturnType());
+    }
+
+    private static boolean isAccessible(Method method)
+    {
+        return isAccessible(method.getReturnType()) && Stream.of(method.getParameterTypes())
+            .allMatch(LogDecorators::isAccessible);
+    }
+
+    private static boolean isAccessible(Class<?> type)
+    {
+        if (type.isArray())
+        {
+            return isAccessible(type.getComponentType());
+        }
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+    }
+
+    /**
+    * The class loader for generated classes. Besides the class loader of the logger class, it can also see the
+    * classes of loginject, of the decorators, and of the logger interfaces.
+    **/
+    private final static class DecoratorClassLoader extends ClassLoader
+    {
+        private final ClassLoader[] loaders;
+
+        DecoratorClassLoader(ClassLoader parent, ClassLoader[] loaders)
+        {
+            super(parent);
+            this.loaders = loaders;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException
+        {
+            for (ClassLoader loader: loaders)
+            {
+                try
+                {
+                    return Class.forName(name, false, loader);
+                }
+                catch (ClassNotFoundException notFound)
+                {
+                    continue;
+                }
+            }
+            throw new ClassNotFoundException(name);
+        }
+
+        Class<?> define(String name, byte[] classFile)
+        {
+            return defineClass(name, classFile, 0, classFile.length);
+        }
+    }
+
+    /**
+    * The decorated {@link java.util.logging.Logger}. The decorators are invoked with the level of each
+    * {@link LogRecord} (after the level check of the actual logger).
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final Logger logger;
+        private final Class<?> injectee;
+        private final LogDecorator[] decorators;
+
+        JavaUtilLogger(Logger logger, Class<?> injectee, LogDecorator[] decorators)
+        {
+            this.logger = logger;
+            this.injectee = injectee;
+            this.decorators = decorators;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger;
+        }
+
+        @Override
+        public void log(LogRecord record)
+        {
+            // Infer the source before the record is passed on:
+            record.getSourceClassName();
+            int level = record.getLevel().intValue();
+            for (LogDecorator decorator: decorators)
+            {
+                if (!decorator.isEnabled(injectee, level))
+                {
+                    return;
+                }
+            }
+            log(record, level, 0);
+        }
+
+        private void log(LogRecord record, int level, int index)
+        {
+            if (index == decorators.length)
+            {
+                super.log(record);
+                return;
+            }
+            LogDecorator decorator = decorators[index];
+            long token = decorator.enter(injectee, level);
+            try
+            {
+                log(record, level, index + 1);
+            }
+            finally
+            {
+                decorator.exit(injectee, level, token);
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+* A {@link LogGranularity} maps injectee classes to logger names. By default, every injectee class receives its own
+* logger ({@link #perClass()}). Coarser granularities let multiple classes share the same logger, which reduces the
+* number of logger objects (and logging back-end configuration entries) in applications with many classes.
+* <p>
+* A granularity is used in two places: {@link LogParameter#currentClassName(LogGranularity)} provides the logger
+* name for a logger factory, and {@link LogInject#granularity(LogGranularity)} makes all injectees that map to the
+* same name share a single logger instance:
+* <pre>
+*     loginject(Logger::getLogger, currentClassName(perPackage())).granularity(perPackage())
+* </pre>
+* The name of each injectee class is computed only once. Both places must use the same granularity (i.e., granularities
+* that are {@linkplain #equals(Object) equal}); otherwise, {@link LogInject#granularity(LogGranularity)} throws a
+* {@link LogInjectException}.
+*
+* @author Mirko Raner
+**/
+public final class LogGranularity
+{
+    private final static LogGranularity PER_CLASS = new LogGranularity("class", Class::getName);
+    private final static LogGranularity PER_PACKAGE = new LogGranularity("package", LogGranularity::getPackageName);
+
+    private final Object identity;
+    private final ClassValue<String> names;
+
+    private LogGranularity(Object identity, Function<Class<?>, String> naming)
+    {
+        this.identity = identity;
+        names = new ClassValue<String>()
+        {
+            @Override
+            protected String computeValue(Class<?> injectee)
+            {
+                return naming.apply(injectee);
+            }
+        };
+    }
+
+    /**
+    * @return a {@link LogGranularity} that provides a separate logger for each class (named after the class)
+    **/
+    public static LogGranularity perClass()
+    {
+        return PER_CLASS;
+    }
+
+    /**
+    * @return a {@link LogGranularity} that provides one logger per package (named after the package); classes in the
+    * default package share a logger with an empty name
+    **/
+    public static LogGranularity perPackage()
+    {
+        return PER_PACKAGE;
+    }
+
+    /**
+    * Returns a {@link LogGranularity} that truncates fully qualified class names after a particular number of
+    * segments. For example, with two segments, {@code com.acme.billing.Invoice} and {@code com.acme.crm.Customer}
+    * would share a logger named {@code com.acme}. Class names with fewer segments remain unchanged.
+    *
+    * @param segments the number of name segments to retain
+    * @return the {@link LogGranularity}
+    * @throws IllegalArgumentException if the number of segments is not positive
+    **/
+    public static LogGranularity segments(int segments)
+    {
+        if (segments < 1)
+        {
+            throw new IllegalArgumentException("number of segments must be positive: " + segments);
+        }
+        return new LogGranularity(Arrays.asList("segments", segments), injectee -> truncate(injectee.getName(),
+            segments));
+    }
+
+    /**
+    * Returns a custom {@link LogGranularity}. The naming function is invoked only once per injectee class. Custom
+    * granularities are equal if they use the same naming function object.
+    *
+    * @param naming a function that maps an injectee class to a logger name
+    * @return the {@link LogGranularity}
+    **/
+    public static LogGranularity custom(Function<Class<?>, String> naming)
+    {
+        return new LogGranularity(naming, naming);
+    }
+
+    /**
+    * Returns the logger name for an injectee class.
+    *
+    * @param injectee the class into which the logger is injected
+    * @return the logger name
+    **/
+    public String getName(Class<?> injectee)
+    {
+        return names.get(injectee);
+    }
+
+    /**
+    * Determines whether another {@link LogGranularity} maps classes to the same logger names. Granularities with the
+    * same number of {@linkplain #segments(int) segments} are equal, as are custom granularities with the same naming
+    * function.
+    *
+    * @param object the other object
+    * @return {@code true} if the other object is an equal {@link LogGranularity}
+    **/
+    @Override
+    public boolean equals(Object object)
+    {
+        return object instanceof LogGranularity && identity.equals(((LogGranularity)object).identity);
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return identity.hashCode();
+    }
+
+    private static String getPackageName(Class<?> injectee)
+    {
+        String name = injectee.getName();
+        int lastDot = name.lastIndexOf('.');
+        return lastDot == -1? "":name.substring(0, lastDot);
+    }
+
+    private static String truncate(String name, int segments)
+    {
+        int index = -1;
+        for (int segment = 0; segment < segments; segment++)
+        {
+            index = name.indexOf('.', index+1);
+            if (index == -1)
+            {
+                return name;
+            }
+        }
+        return name.substring(0, index);
+    }
+}
@@ -16,15 +16,30 @@
 
 package org.loginject;
 
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.ServiceLoader;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
-import static java.util.stream.StreamSupport.stream;
+import javax.inject.Provider;
+import static org.loginject.LogInjectionServices.find;
 
 /**
 * The {@link LogInject} class provides static methods for creating injectee-sensitive bindings for loggers. The
@@ -45,7 +60,8 @@ import static java.util.stream.StreamSupport.stream;
 * no dependencies on either). However, to provide bindings for a specific DI framework, a corresponding
 * {@link LogInjectionService} needs to be installed. The available {@link LogInjectionService}s are discovered
 * dynamically via Java's {@link ServiceLoader} mechanism, so it is sufficient to have the service implementation JAR
-* on the class path (no additional configuration is required). No support is needed for specific logging frameworks.
+* on the class path (no additional configuration is required). Discovered services are kept in the
+* {@link LogInjectionServices} registry. No support is needed for specific logging frameworks.
 * <p>
 * For example, to use {@link LogInject} with the HK2 dependency injection framework {@link java.util.logging.Logger},
 * you could create the following HK2 binder:
@@ -63,7 +79,9 @@ import static java.util.stream.StreamSupport.stream;
 * </pre>
 * <b>Known Limitations</b>
 * <p>
-* Currently, loginject only supports factory methods with zero, one, or two parameters.
+* Factory methods with zero, one, or two parameters can be bound as method references or lambdas. Factory methods
+* and constructors with more parameters need to be bound via reflection (see
+* {@link #loginject(Class, Executable, LogParameter...)}).
 *
 * @param <_Logger_> the logger type (e.g., {@link java.util.logging.Logger})
 *
@@ -73,33 +91,97 @@ public class LogInject<_Logger_>
 {
     static enum ClassType {INTERFACE, IMPLEMENTATION}
 
+    /**
+    * The default maximum number of loggers that are retained by a {@link #cached()} binding.
+    **/
+    public final static int DEFAULT_CACHE_SIZE = 10_000;
+
+    /**
+    * A serializable {@link Supplier}. Lambdas and method references that are passed as a {@link SerializableSupplier}
+    * (to {@link #loginjectDeclared(SerializableSupplier)}) allow loginject to determine the logger type without
+    * invoking the factory.
+    *
+    * @param <_Logger_> the logger type
+    **/
+    @FunctionalInterface
+    public static interface SerializableSupplier<_Logger_> extends Supplier<_Logger_>, Serializable
+    {
+        // No additional methods...
+    }
+
+    /**
+    * A serializable {@link Function}. Lambdas and method references that are passed as a {@link SerializableFunction}
+    * (to {@link #loginjectDeclared(SerializableFunction, LogParameter)}) allow loginject to determine the logger type
+    * without invoking the factory.
+    *
+    * @param <_Parameter_> the log parameter type
+    * @param <_Logger_> the logger type
+    **/
+    @FunctionalInterface
+    public static interface SerializableFunction<_Parameter_, _Logger_> extends Function<_Parameter_, _Logger_>,
+        Serializable
+    {
+        // No additional methods...
+    }
+
+    /**
+    * A serializable {@link BiFunction}. Lambdas and method references that are passed as a
+    * {@link SerializableBiFunction} (to {@link #loginjectDeclared(SerializableBiFunction, LogParameter, LogParameter)})
+    * allow loginject to determine the logger type without invoking the factory.
+    *
+    * @param <_Parameter0_> the first log parameter type
+    * @param <_Parameter1_> the second log parameter type
+    * @param <_Logger_> the logger type
+    **/
+    @FunctionalInterface
+    public static interface SerializableBiFunction<_Parameter0_, _Parameter1_, _Logger_>
+        extends BiFunction<_Parameter0_, _Parameter1_, _Logger_>, Serializable
+    {
+        // No additional methods...
+    }
+
     private ClassType type;
-    private Class<LogInjectionService<?, _Logger_>> classLogInjectionService;
     private Class<_Logger_> loggerClass;
     private LogParameter<?>[] parameterTypes;
-    private Function<Object[], _Logger_> loggerCreator;
+    private LoggerCreator<_Logger_> loggerCreator;
+    private LoggerCache<_Logger_> cache;
+    private LogGranularity granularity;
+    private ConcurrentMap<Object, _Logger_> sharedLoggers;
+    private boolean lazy;
+    private Object sharedFactory;
+    private boolean injectionPointSensitive;
+    private List<String> qualifierNames = new ArrayList<>();
+    private List<Class<? extends Annotation>> qualifierTypes = new ArrayList<>();
+    private Predicate<? super _Logger_> disabled;
+    private _Logger_ noOpLogger;
+    private boolean guarded;
+    private AsyncLogDispatcher dispatcher;
+    private RateLimitedLogger.Rules rateLimits;
+    private SwappableLoggers<_Logger_> swappableLoggers;
+    private LogDecorator[] decorators = {};
+    private LogScope<?>[] scopes = {};
+    private boolean staticInjection;
 
-    private LogInject(Class<_Logger_> loggerClass, Function<Object[], _Logger_> loggerCreator,
+    private LogInject(Class<_Logger_> loggerClass, LoggerCreator<_Logger_> loggerCreator,
         LogParameter<?>... parameterTypes)
     {
         this(ClassType.INTERFACE, loggerClass, loggerCreator, parameterTypes);
     }
 
     @SuppressWarnings("unchecked")
-    private LogInject(_Logger_ logger, Function<Object[], _Logger_> loggerCreator, LogParameter<?>... parameterTypes)
+    private LogInject(_Logger_ logger, LoggerCreator<_Logger_> loggerCreator, LogParameter<?>... parameterTypes)
     {
         this(ClassType.IMPLEMENTATION, (Class<_Logger_>)logger.getClass(), loggerCreator, parameterTypes);
     }
 
-    private LogInject(ClassType type, Class<_Logger_> logger, Function<Object[], _Logger_> loggerCreator,
+    private LogInject(ClassType type, Class<_Logger_> logger, LoggerCreator<_Logger_> loggerCreator,
         LogParameter<?>... parameterTypes)
     {
         this.type = type;
         this.loggerClass = logger;
         this.loggerCreator = loggerCreator;
         this.parameterTypes = parameterTypes;
-        classLogInjectionService =
-            new LogLiteral<LogInjectionService<?, _Logger_>>(LogInjectionService.class).getLiteral();
+        this.injectionPointSensitive = Stream.of(parameterTypes).anyMatch(LogParameter::isInjectionPointSensitive);
     }
 
     Class<_Logger_> getLoggerClass()
@@ -114,8 +196,714 @@ public class LogInject<_Logger_>
 
     _Logger_ createLogger(Class<?> currentClass)
     {
-        Stream<Object> parameters = Arrays.stream(parameterTypes).map(parameter -> parameter.getValue(currentClass));
-        return loggerCreator.apply(parameters.toArray(Object[]::new));
+        return lazy? LazyLogger.create(this, LogInjectionPoint.of(currentClass)):resolveLogger(currentClass);
+    }
+
+    _Logger_ createLogger(LogInjectionPoint injectionPoint)
+    {
+        return lazy? LazyLogger.create(this, injectionPoint):resolveLogger(injectionPoint);
+    }
+
+    Provider<_Logger_> createProvider(Class<?> currentClass)
+    {
+        return LazyLogger.provider(this, LogInjectionPoint.of(currentClass));
+    }
+
+    Provider<_Logger_> createProvider(LogInjectionPoint injectionPoint)
+    {
+        return LazyLogger.provider(this, injectionPoint);
+    }
+
+    boolean isInjectionPointSensitive()
+    {
+        return injectionPointSensitive;
+    }
+
+    AsyncLogDispatcher getDispatcher()
+    {
+        return dispatcher;
+    }
+
+    boolean isStaticInjection()
+    {
+        return staticInjection;
+    }
+
+    /**
+    * Determines whether the injected loggers of an {@linkplain ClassType#IMPLEMENTATION implementation} class are
+    * wrapped in proxies that only implement the logger class's interfaces (i.e., they are not instances of the
+    * logger class itself). {@link java.util.logging.Logger}s are always wrapped in subclasses of
+    * {@link java.util.logging.Logger}.
+    *
+    * @return {@code true} if injected loggers are interface proxies rather than instances of the logger class
+    **/
+    boolean isProxied()
+    {
+        if (type != ClassType.IMPLEMENTATION || loggerClass.isAssignableFrom(java.util.logging.Logger.class))
+        {
+            return false;
+        }
+        boolean disabledProxy = disabled != null && !loggerClass.isInstance(noOpLogger);
+        return disabledProxy || dispatcher != null || scopes.length > 0 || rateLimits != null
+            || decorators.length > 0 || swappableLoggers != null;
+    }
+
+    List<String> getQualifierNames()
+    {
+        return qualifierNames;
+    }
+
+    List<Class<? extends Annotation>> getQualifierTypes()
+    {
+        return qualifierTypes;
+    }
+
+    _Logger_ resolveLogger(Class<?> currentClass)
+    {
+        if (swappableLoggers != null)
+        {
+            return swappableLoggers.hold(currentClass, () -> decorate(currentClass, resolveLogger(currentClass, null)));
+        }
+        return decorate(currentClass, resolveLogger(currentClass, null));
+    }
+
+    _Logger_ resolveLogger(LogInjectionPoint injectionPoint)
+    {
+        Class<?> injectee = injectionPoint.getInjecteeClass();
+        LogInjectionPoint sensitivePoint = injectionPointSensitive? injectionPoint:null;
+        if (swappableLoggers != null)
+        {
+            return swappableLoggers.hold(injectee, () -> decorate(injectee, resolveLogger(injectee, sensitivePoint)));
+        }
+        return decorate(injectee, resolveLogger(injectee, sensitivePoint));
+    }
+
+    /**
+    * Replaces a logger with the no-op logger if the logger is {@linkplain #disabledIf(Predicate) disabled}, or wraps it
+    * in a {@linkplain #guarded() level guard}, an {@linkplain #async(AsyncLogDispatcher) asynchronous facade}, a
+    * {@linkplain #scoped(LogScope...) scoped} logger, and a {@linkplain #rateLimited(String, LogRateLimit) rate
+    * limiter} (in this order, so that suppressed messages are neither stamped nor handed off to the background thread,
+    * and scope values are read on the calling thread), and finally in a {@linkplain #decorated(LogDecorator...)
+    * decorated} logger. The actual logger is still created (and cached or shared), so that its level can be checked
+    * again upon re-injection. Each injection receives its own wrappers, but the rate limiter state is shared by all
+    * injections into the same class.
+    **/
+    private _Logger_ decorate(Class<?> injectee, _Logger_ logger)
+    {
+        if (logger == null)
+        {
+            return null;
+        }
+        if (disabled != null && disabled.test(logger))
+        {
+            return noOpLogger;
+        }
+        _Logger_ guardedLogger = guarded? LevelGuards.guard(loggerClass, logger):logger;
+        _Logger_ asyncLogger = dispatcher != null? dispatcher.wrap(loggerClass, guardedLogger):guardedLogger;
+        _Logger_ scopedLogger = scopes.length > 0? ScopedLogger.wrap(loggerClass, asyncLogger, scopes):asyncLogger;
+        LogRateLimit.Limiter limiter = rateLimits != null? rateLimits.get(injectee):null;
+        _Logger_ limitedLogger = limiter != null? RateLimitedLogger.wrap(loggerClass, scopedLogger, injectee, limiter)
+            :scopedLogger;
+        if (decorators.length == 0)
+        {
+            return limitedLogger;
+        }
+        return LogDecorators.decorate(loggerClass, type, limitedLogger, injectee, decorators);
+    }
+
+    /**
+    * Resolves the logger for an injectee class. The injection point is only passed in (i.e., not {@code null}) if
+    * any of the {@link LogParameter}s depends on it.
+    **/
+    private _Logger_ resolveLogger(Class<?> currentClass, LogInjectionPoint injectionPoint)
+    {
+        if (granularity == null)
+        {
+            return newLogger(currentClass, injectionPoint);
+        }
+        Object name = granularity.getName(currentClass);
+        if (injectionPoint != null)
+        {
+            name = Arrays.asList(name, Arrays.asList(getParameterValues(currentClass, injectionPoint)));
+        }
+        _Logger_ logger = sharedLoggers.get(name);
+        if (logger == null && (logger = newLogger(currentClass, injectionPoint)) != null)
+        {
+            _Logger_ existing = sharedLoggers.putIfAbsent(name, logger);
+            return existing != null? existing:logger;
+        }
+        return logger;
+    }
+
+    private _Logger_ newLogger(Class<?> currentClass, LogInjectionPoint injectionPoint)
+    {
+        if (cache == null && sharedFactory == null)
+        {
+            return injectionPoint != null? loggerCreator.create(injectionPoint):loggerCreator.create(currentClass);
+        }
+        Object[] parameters = getParameterValues(currentClass, injectionPoint);
+        Supplier<_Logger_> creator = injectionPoint != null? () -> loggerCreator.create(injectionPoint)
+            :() -> loggerCreator.create(currentClass);
+        if (sharedFactory != null)
+        {
+            Supplier<_Logger_> factory = creator;
+            creator = () -> LoggerRegistry.get(loggerClass, sharedFactory, parameters, factory);
+        }
+        return cache != null? cache.get(currentClass, parameters, creator):creator.get();
+    }
+
+    private Object[] getParameterValues(Class<?> currentClass, LogInjectionPoint injectionPoint)
+    {
+        Object[] parameters = new Object[parameterTypes.length];
+        for (int index = 0; index < parameters.length; index++)
+        {
+            LogParameter<?> parameter = parameterTypes[index];
+            parameters[index] = injectionPoint != null? parameter.getValue(injectionPoint)
+                :parameter.getValue(currentClass);
+        }
+        return parameters;
+    }
+
+    /**
+    * Enables caching of created loggers, using the {@linkplain #DEFAULT_CACHE_SIZE default maximum cache size}.
+    *
+    * @return this {@link LogInject} object
+    * @see #cached(int)
+    **/
+    public LogInject<_Logger_> cached()
+    {
+        return cached(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+    * Enables caching of created loggers. By default, the logger factory is invoked for every single injection, so
+    * that, for example, each instance of a per-lookup service will receive its own logger instance. In cached mode,
+    * loggers are reused for all injections into the same class (and with the same {@link LogParameter} values).
+    * Once the cache exceeds its maximum size, the oldest loggers are evicted.
+    * <p>
+    * Example use:
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName()).cached(1000).as(Binder.class)
+    * </pre>
+    * @param maximumSize the maximum number of loggers retained by the cache
+    * @return this {@link LogInject} object
+    * @throws IllegalArgumentException if the maximum size is not positive
+    **/
+    public LogInject<_Logger_> cached(int maximumSize)
+    {
+        cache = new LoggerCache<>(maximumSize);
+        return this;
+    }
+
+    /**
+    * Shares loggers between injectees according to a {@link LogGranularity}. All injectee classes that the
+    * granularity maps to the same logger name will receive the same logger instance. The logger is created by the
+    * logger factory when the first of these classes is injected, so the {@link LogParameter}s for the factory must
+    * be based on the same granularity:
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName(perPackage())).granularity(perPackage())
+    * </pre>
+    * @param granularity the {@link LogGranularity}
+    * @return this {@link LogInject} object
+    * @throws LogInjectException if a {@link LogParameter} of the factory is based on a different granularity (e.g.,
+    * {@link LogParameter#currentClassName()} or {@link LogParameter#currentClass()}, which are based on
+    * {@link LogGranularity#perClass()}, while loggers are shared {@link LogGranularity#perPackage() per package})
+    **/
+    public LogInject<_Logger_> granularity(LogGranularity granularity)
+    {
+        for (LogParameter<?> parameter: parameterTypes)
+        {
+            LogGranularity parameterGranularity = parameter.getGranularity();
+            if (parameterGranularity != null && !parameterGranularity.equals(granularity))
+            {
+                throw new LogInjectException("logger names and shared loggers use different granularities");
+            }
+        }
+        this.granularity = granularity;
+        this.sharedLoggers = new ConcurrentHashMap<>();
+        return this;
+    }
+
+    /**
+    * Shares loggers with all other shared bindings in the same JVM, across containers and DI frameworks. Requests for
+    * the same logger type, from the same logger factory, and with the same {@link LogParameter} values receive the
+    * same logger instance, even if they come from separate {@link LogInject} objects (for example, from a Guice
+    * child injector and an HK2 service locator that each install their own binding). Serializable lambdas and
+    * method references (e.g., those bound via the {@code loginjectDeclared} methods, or those passed as a
+    * {@link SerializableFunction}) are recognized as the same factory if they refer to the same method, regardless of
+    * where they were created; all other factory objects are only recognized as the same factory if the same object is
+    * passed to each binding.
+    * <p>
+    * Shared loggers are only weakly referenced by the process-wide registry; a logger that is no longer used by any
+    * injectee is released. A shared binding can additionally be {@linkplain #cached() cached} to avoid the registry
+    * lookup for repeated injections into the same class.
+    * <pre>
+    *     loginjectDeclared(LogManager::getLogger, currentClass()).shared()
+    * </pre>
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> shared()
+    {
+        sharedFactory = LoggerRegistry.getIdentity(loggerCreator.getFactory());
+        return this;
+    }
+
+    /**
+    * Declares the names of {@link javax.inject.Named Named} qualifiers that are used at logger injection points. Some
+    * DI frameworks (notably Guice) only inject qualified dependencies if there is an explicit binding for the
+    * qualified type; for these frameworks, loginject binds the logger type with each declared qualifier. Other
+    * frameworks inject qualified loggers without any declaration. The qualifier can be used for selecting a logger
+    * via {@link LogParameter#named(LogParameter)}:
+    * <pre>
+    *     loginject(LogManager::getLogger, named(currentClassName())).named("audit", "security").as(Module.class)
+    * </pre>
+    * @param names the qualifier names
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> named(String... names)
+    {
+        qualifierNames.addAll(Arrays.asList(names));
+        return this;
+    }
+
+    /**
+    * Declares custom qualifier annotations (without attributes) that are used at logger injection points.
+    *
+    * @param qualifiers the qualifier annotation types
+    * @return this {@link LogInject} object
+    * @see #named(String...)
+    **/
+    @SafeVarargs
+    public final LogInject<_Logger_> qualified(Class<? extends Annotation>... qualifiers)
+    {
+        // Adding the elements one by one does not expose the generic array to another varargs method:
+        for (Class<? extends Annotation> qualifier: qualifiers)
+        {
+            qualifierTypes.add(qualifier);
+        }
+        return this;
+    }
+
+    /**
+    * Injects a shared no-op logger into classes whose logger is completely disabled. At injection time, the predicate
+    * asks the logging backend for the effective level of the actual logger; if the predicate returns {@code true}, the
+    * injectee receives a single, shared no-op logger instead, so that logging calls of disabled classes never reach
+    * the logging backend. For {@link java.util.logging.Logger}, the no-op logger is a final subclass with empty
+    * logging methods, whose calls the JIT compiler can inline at call sites that only see the no-op logger. For all
+    * other logger types, it is a {@link java.lang.reflect.Proxy}, so each call still goes through the proxy's
+    * invocation handler (which boxes primitive arguments and allocates an argument array).
+    * <p>
+    * loginject provides the no-op loggers for {@link java.util.logging.Logger} and for all interface logger types
+    * (see {@link #disabledIf(Predicate, Object)} for supplying a specific no-op logger). The predicate depends on the
+    * logging backend:
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName()).disabledIf(logger -&gt; !logger.isLoggable(Level.SEVERE))
+    *     loginject(LogManager::getLogger, currentClass()).disabledIf(logger -&gt; !logger.isFatalEnabled())
+    *     loginject(LoggerFactory::getLogger, currentClass()).disabledIf(logger -&gt; !logger.isErrorEnabled())
+    * </pre>
+    * The level is only checked when a logger is injected. After a configuration change, existing injectees can be
+    * updated via {@link #reinject(Object)}; classes that were disabled will receive their actual logger again (and
+    * vice versa).
+    *
+    * @param disabled the predicate that determines whether a logger is completely disabled
+    * @return this {@link LogInject} object
+    * @throws LogInjectException if loginject cannot provide a no-op logger for the logger type
+    **/
+    public LogInject<_Logger_> disabledIf(Predicate<? super _Logger_> disabled)
+    {
+        return disabledIf(disabled, NoOpLogger.get(loggerClass));
+    }
+
+    /**
+    * Injects a specific no-op logger into classes whose logger is completely disabled (for example, SLF4J's
+    * {@code NOPLogger.NOP_LOGGER}).
+    *
+    * @param disabled the predicate that determines whether a logger is completely disabled
+    * @param noOpLogger the no-op logger that is injected instead of disabled loggers
+    * @return this {@link LogInject} object
+    * @see #disabledIf(Predicate)
+    **/
+    public LogInject<_Logger_> disabledIf(Predicate<? super _Logger_> disabled, _Logger_ noOpLogger)
+    {
+        this.disabled = disabled;
+        this.noOpLogger = noOpLogger;
+        return this;
+    }
+
+    /**
+    * Wraps each injected logger in a level guard that caches the logger's effective level. Backends like
+    * {@link java.util.logging.Logger} walk the logger hierarchy and read volatile state for every level check; with a
+    * level guard, a level check (including the implicit check of each logging method) is a plain field read. The
+    * cached level is refreshed when the backend signals a configuration change, or when {@link LevelGuards#refresh()}
+    * is invoked.
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName()).guarded()
+    * </pre>
+    * Level guards are currently available for {@link java.util.logging.Logger} only.
+    *
+    * @return this {@link LogInject} object
+    * @throws LogInjectException if level guards are not available for the logger type
+    * @see LevelGuards
+    **/
+    public LogInject<_Logger_> guarded()
+    {
+        if (!LevelGuards.supports(loggerClass))
+        {
+            throw new LogInjectException("level guards are not available for " + loggerClass.getName());
+        }
+        this.guarded = true;
+        return this;
+    }
+
+    /**
+    * Wraps each injected logger in an asynchronous facade. Logging calls are handed off to the background thread of
+    * an {@link AsyncLogDispatcher}, so that request threads do not wait for slow handlers or appenders. Level checks
+    * and configuration methods are still executed on the calling thread, and logging calls whose level is disabled
+    * are discarded before they are handed off. Except for {@link java.util.logging.Logger}, the facade is a
+    * {@link java.lang.reflect.Proxy} (so each call is forwarded reflectively, and its level is checked reflectively
+    * before the hand-off), and the backend creates its log events on the background thread, so their thread and
+    * context information is that of the background thread. Arguments are handed off as they are, i.e., they must not
+    * be modified after the logging call.
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName()).async(AsyncLogDispatcher.blocking(8192))
+    * </pre>
+    * Asynchronous facades are available for {@link java.util.logging.Logger}, for interface logger types, and for
+    * inferred implementation classes that implement the logger interface. For implementation classes, the facade
+    * only implements the logger interfaces, so injection points of the implementation class itself are not satisfied
+    * by the binding. The dispatcher is closed (and all pending logging calls are flushed) when the container shuts
+    * down, or when the JVM shuts down.
+    *
+    * @param dispatcher the {@link AsyncLogDispatcher}
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> async(AsyncLogDispatcher dispatcher)
+    {
+        this.dispatcher = dispatcher;
+        return this;
+    }
+
+    /**
+    * Limits the number of messages that all injectees can log. Each injectee class has its own limiter.
+    *
+    * @param limit the {@link LogRateLimit}
+    * @return this {@link LogInject} object
+    * @see #rateLimited(String, LogRateLimit)
+    **/
+    public LogInject<_Logger_> rateLimited(LogRateLimit limit)
+    {
+        return rateLimited("*", limit);
+    }
+
+    /**
+    * Limits the number of messages that the matching injectee classes can log. The pattern is either a fully
+    * qualified class name, or a prefix that ends with an asterisk (e.g., {@code com.acme.client.*} for all classes in
+    * the package {@code com.acme.client} and its sub-packages, or {@code *} for all classes). Each injectee class has
+    * its own limiter, and each class is limited according to the first matching pattern:
+    * <pre>
+    *     loginject(LogManager::getLogger, currentClass())
+    *         .rateLimited("com.acme.client.RetryingClient", sampling(100))
+    *         .rateLimited("com.acme.client.*", perSecond(10, 100))
+    * </pre>
+    * Level checks and other methods that are not logging calls are never limited, and logging calls whose level is
+    * disabled do not count against the limit. Except for {@link java.util.logging.Logger}, rate-limited loggers are
+    * {@link java.lang.reflect.Proxy} objects, whose calls (including discarded ones) pay for a reflective level check
+    * and invocation.
+    *
+    * @param pattern the class name pattern
+    * @param limit the {@link LogRateLimit}
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> rateLimited(String pattern, LogRateLimit limit)
+    {
+        if (rateLimits == null)
+        {
+            rateLimits = new RateLimitedLogger.Rules();
+        }
+        rateLimits.add(pattern, limit);
+        return this;
+    }
+
+    /**
+    * Wraps each injected logger in a chain of {@link LogDecorator}s (e.g., for timing, enrichment, or additional
+    * guards). Rather than using a {@link java.lang.reflect.Proxy}, loginject generates a concrete delegating class
+    * once per logger type and chain of decorator classes, so that decorated logging calls do not box their arguments,
+    * and both the decorator calls and the calls of the actual logger remain monomorphic and inlinable:
+    * <pre>
+    *     loginject(LogManager::getLogger, currentClass()).decorated(new TimingDecorator(), new MdcDecorator())
+    * </pre>
+    * For interface logger types, the generated class implements the logger interface; for inferred implementation
+    * classes, it implements all of the logger class's interfaces (so, injection points of the implementation class
+    * itself are not satisfied by the binding). {@link java.util.logging.Logger} is decorated by a hand-written
+    * subclass. Calling this method again adds further decorators to the end of the chain.
+    *
+    * @param decorators the decorators (which are invoked in the given order before each logging call, and in reverse
+    * order after each logging call)
+    * @return this {@link LogInject} object
+    * @throws LogInjectException if decorators are not available for the logger type (i.e., for logger classes other
+    * than {@link java.util.logging.Logger} that are not inferred implementation classes with public interfaces)
+    * @see LogDecorator
+    **/
+    public LogInject<_Logger_> decorated(LogDecorator... decorators)
+    {
+        if (!LogDecorators.supports(loggerClass, type))
+        {
+            throw new LogInjectException("decorators are not available for " + loggerClass.getName());
+        }
+        this.decorators = Stream.concat(Stream.of(this.decorators), Stream.of(decorators))
+            .toArray(LogDecorator[]::new);
+        return this;
+    }
+
+    /**
+    * Stamps the request context that is bound to {@link LogScope}s on the calling thread onto the messages of all
+    * logging calls (e.g., {@code [traceId=4bf92f35 tenant=acme] payment declined}). Unlike a mapped diagnostic
+    * context, log scopes are backed by scoped values where available, which are neither copied into new threads nor
+    * need to be cleaned up, so that request context remains cheap with millions of virtual threads:
+    * <pre>
+    *     loginject(Logger::getLogger, currentClassName()).scoped(TRACE_ID, TENANT)
+    * </pre>
+    * Scoped loggers are available for {@link java.util.logging.Logger}, for interface logger types, and for inferred
+    * implementation classes that implement the logger interface. Calling this method again adds further scopes. The
+    * scopes only keep the request context cheap; the loggers themselves are not free. Except for
+    * {@link java.util.logging.Logger} (which stamps log records that are actually logged), the scoped logger is a
+    * {@link java.lang.reflect.Proxy} that reflectively forwards each call, and it builds the prefix before the backend
+    * checks the level of a logging call.
+    *
+    * @param scopes the {@link LogScope}s (whose values are stamped in the given order)
+    * @return this {@link LogInject} object
+    * @see LogScope
+    **/
+    public LogInject<_Logger_> scoped(LogScope<?>... scopes)
+    {
+        this.scopes = Stream.concat(Stream.of(this.scopes), Stream.of(scopes)).toArray(LogScope<?>[]::new);
+        return this;
+    }
+
+    /**
+    * Injects swappable holders instead of the actual loggers. Each holder forwards all calls to its current logger,
+    * which can be {@linkplain #swap(String, Function) swapped} at runtime for all injectees of a class or package
+    * (for example, to switch a class to a debug-capable logger factory or to a different backend) without restarting
+    * the application or re-injecting the injectees. A swap becomes visible to all threads without any locking. For
+    * {@link java.util.logging.Logger}, the holder is a subclass that reads its current logger from a volatile field
+    * for each call; for all other logger types, it is a {@link java.lang.reflect.Proxy}, so each call additionally
+    * goes through reflective dispatch (including the boxing of primitive arguments).
+    * <p>
+    * Swappable holders are available for {@link java.util.logging.Logger}, for interface logger types, and for
+    * inferred implementation classes that implement the logger interface. Holders are the outermost wrappers, so
+    * that swapped loggers are {@linkplain #guarded() guarded}, {@linkplain #async(AsyncLogDispatcher) asynchronous},
+    * {@linkplain #rateLimited(String, LogRateLimit) rate-limited}, and {@linkplain #disabledIf(Predicate) disabled}
+    * in the same way as the binding's own loggers (though the no-op logger of a disabled class is reached through
+    * its holder).
+    * <pre>
+    *     LogInject&lt;Logger&gt; loginject = loginject(LogManager::getLogger, currentClass()).swappable();
+    *     // ...
+    *     loginject.swap("com.acme.client.*", type -&gt; debugContext.getLogger(type));
+    * </pre>
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> swappable()
+    {
+        if (swappableLoggers == null)
+        {
+            swappableLoggers = new SwappableLoggers<>(loggerClass, this::decorate);
+        }
+        return this;
+    }
+
+    /**
+    * Swaps the loggers of all injectees whose class matches a pattern. The pattern is either a fully qualified class
+    * name, or a prefix that ends with an asterisk (e.g., {@code com.acme.client.*}, or {@code *} for all classes).
+    * The swap applies to all existing holders as well as to all future injections into matching classes; if several
+    * swaps match a class, the most recent one wins.
+    *
+    * @param pattern the class name pattern
+    * @param factory the factory that creates the new logger for an injectee class
+    * @return the number of existing holders whose logger was swapped
+    * @throws LogInjectException if the binding is not {@linkplain #swappable() swappable}
+    * @see #restore(String)
+    **/
+    public int swap(String pattern, Function<? super Class<?>, ? extends _Logger_> factory)
+    {
+        if (swappableLoggers == null)
+        {
+            throw new LogInjectException("binding is not swappable");
+        }
+        return swappableLoggers.swap(pattern, Objects.requireNonNull(factory));
+    }
+
+    /**
+    * Restores the binding's own loggers for all injectees whose class matches a pattern (i.e., reverts previous
+    * {@linkplain #swap(String, Function) swaps}).
+    *
+    * @param pattern the class name pattern
+    * @return the number of existing holders whose logger was restored
+    * @throws LogInjectException if the binding is not {@linkplain #swappable() swappable}
+    **/
+    public int restore(String pattern)
+    {
+        if (swappableLoggers == null)
+        {
+            throw new LogInjectException("binding is not swappable");
+        }
+        return swappableLoggers.swap(pattern, null);
+    }
+
+    /**
+    * Injects the loggers of an existing injectee again. All non-static, non-final logger fields that are annotated
+    * with an injection annotation ({@code @Inject} or {@code @Autowired}) receive the logger that an injection would
+    * currently yield. This is mainly useful for bindings with a {@link #disabledIf(Predicate) disabled} predicate:
+    * after the logging configuration has changed, classes that were disabled receive their actual logger again, and
+    * newly disabled classes receive the no-op logger. Constructor-injected loggers cannot be replaced.
+    *
+    * @param <_Injectee_> the injectee type
+    * @param injectee the injectee object
+    * @return the injectee object
+    * @throws LogInjectException if a logger field cannot be assigned
+    **/
+    public <_Injectee_> _Injectee_ reinject(_Injectee_ injectee)
+    {
+        Set<Class<?>> bindingTypes = LogInjectIndex.getBindingTypes(this);
+        Predicate<Field> loggerField = field -> bindingTypes.contains(field.getType());
+        for (Field field: LoggerProviders.getInjectedFields(injectee.getClass(), loggerField))
+        {
+            try
+            {
+                field.set(injectee, resolveLogger(LogInjectionPoint.of(injectee.getClass(), field)));
+            }
+            catch (IllegalAccessException exception)
+            {
+                throw new LogInjectException("cannot inject " + field, exception);
+            }
+        }
+        return injectee;
+    }
+
+    /**
+    * Injects static logger fields in addition to instance fields. A logger usually only depends on the injectee
+    * class, but instance fields receive a logger (from the cache, or from the logger factory) for every single object
+    * that is created. With static-field injection, static fields that are annotated with {@link InjectStatic} (or,
+    * for Guice and Spring, with {@code @Inject} or {@code @Autowired}) are injected once per class, before (or,
+    * depending on the DI framework, while) the first instance of the class is created; the creation of further
+    * instances does not involve any logger resolution:
+    * <pre>
+    *     class RequestHandler
+    *     {
+    *         {@literal @}InjectStatic
+    *         static Logger logger;
+    *
+    *         // ...
+    *     }
+    *
+    *     loginject(Logger::getLogger, currentClassName()).staticFields().as(Binder.class)
+    * </pre>
+    * Static-field injection is supported for HK2 (before the first instance is constructed), Spring (before the first
+    * bean instance is constructed), and Guice (during the member injection of the first instance). Static loggers are
+    * injected with the declaring class of the field as the injectee class. Each container injects the static fields
+    * of a class once, but a static field is shared by all containers of the JVM, so with several containers (e.g., one
+    * per tenant), the field holds the logger of the container that injected it last. Static loggers therefore have no
+    * {@linkplain LogInjectionPoint#getContainer() container}, and {@link LogParameter#container()} is {@code null}.
+    *
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> staticFields()
+    {
+        this.staticInjection = true;
+        return this;
+    }
+
+    /**
+    * Defers the creation of loggers until they are first used. Instead of the actual logger, each injection point
+    * receives a lightweight stand-in that creates the actual logger (by invoking the logger factory, or by consulting
+    * the cache or shared loggers) on its first method call. This reduces container startup time for applications
+    * with many classes that rarely log.
+    * <p>
+    * Stand-ins are available for interface logger types (as dynamic proxies) and for
+    * {@link java.util.logging.Logger}. Loggers of all other implementation types are still created eagerly.
+    * <pre>
+    *     loginject(LogManager::getLogger, currentClass()).lazy()
+    * </pre>
+    * @return this {@link LogInject} object
+    **/
+    public LogInject<_Logger_> lazy()
+    {
+        this.lazy = true;
+        return this;
+    }
+
+    /**
+    * Creates the loggers for a number of known injectee classes in advance, in parallel on the common
+    * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Subsequent injections into these classes receive the
+    * pre-built loggers, regardless of the DI framework. Pre-built loggers are retained either by the
+    * {@linkplain #granularity(LogGranularity) shared loggers} or by the {@linkplain #cached() cache}, so one of them
+    * needs to be configured before loggers can be pre-warmed. Loggers that exceed the maximum cache size are evicted
+    * again.
+    * <pre>
+    *     loginject(LogManager::getLogger, currentClass()).cached().prewarm(serviceClasses).as(Module.class)
+    * </pre>
+    * @param injectees the classes into which loggers will be injected
+    * @return this {@link LogInject} object (once all loggers were created)
+    * @throws LogInjectException if the binding is neither cached nor has a granularity
+    **/
+    public LogInject<_Logger_> prewarm(Collection<? extends Class<?>> injectees)
+    {
+        return prewarm(injectees.stream());
+    }
+
+    /**
+    * Creates the loggers for a stream of known injectee classes in advance, in parallel on the common
+    * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+    *
+    * @param injectees the classes into which loggers will be injected
+    * @return this {@link LogInject} object (once all loggers were created)
+    * @throws LogInjectException if the binding is neither cached nor has a granularity
+    * @see #prewarm(Collection)
+    **/
+    public LogInject<_Logger_> prewarm(Stream<? extends Class<?>> injectees)
+    {
+        checkRetained();
+        injectees.parallel().forEach(this::resolveLogger);
+        return this;
+    }
+
+    /**
+    * Creates the loggers for a number of known injectee classes in the background, using a caller-supplied
+    * {@link Executor}. The container can be started while the loggers are still being created; injections that
+    * happen before a logger was pre-built simply create the logger themselves.
+    *
+    * @param injectees the classes into which loggers will be injected
+    * @param executor the {@link Executor} that creates the loggers
+    * @return a {@link CompletableFuture} that completes with this {@link LogInject} object once all loggers were
+    * created
+    * @throws LogInjectException if the binding is neither cached nor has a granularity
+    * @see #prewarm(Collection)
+    **/
+    public CompletableFuture<LogInject<_Logger_>> prewarm(Collection<? extends Class<?>> injectees, Executor executor)
+    {
+        checkRetained();
+        CompletableFuture<?>[] loggers = injectees.stream()
+            .map(injectee -> CompletableFuture.runAsync(() -> resolveLogger(injectee), executor))
+            .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(loggers).thenApply(done -> this);
+    }
+
+    private void checkRetained()
+    {
+        if (cache == null && granularity == null)
+        {
+            throw new LogInjectException("pre-warmed loggers would not be retained; please enable caching or specify a"
+                + " granularity");
+        }
+    }
+
+    /**
+    * Returns a snapshot of the cache statistics of a {@link #cached()} binding. For bindings without caching all
+    * values of the returned statistics object are zero.
+    *
+    * @return the cache statistics
+    **/
+    public LogCacheStatistics getCacheStatistics()
+    {
+        return cache != null? cache.getStatistics():new LogCacheStatistics(0, 0, 0, 0, 0);
     }
 
     /**
@@ -125,13 +913,11 @@ public class LogInject<_Logger_>
     * @param binding the binding class
     * @return the bindings
     * @throws LogInjectException if no implementation for the requested binding class is available
+    * @see LogInjectionServices
     **/
     public <_Binding_> _Binding_ as(Class<_Binding_> binding)
     {
-        ServiceLoader<LogInjectionService<?, _Logger_>> serviceLoader = ServiceLoader.load(classLogInjectionService);
-        Stream<LogInjectionService<?, _Logger_>> allImplementations = stream(serviceLoader.spliterator(), false);
-        Predicate<LogInjectionService<?, _Logger_>> matchBinding = service -> service.supports(this, binding);
-        Optional<LogInjectionService<?, _Logger_>> implementation = allImplementations.filter(matchBinding).findFirst();
+        Optional<LogInjectionService<?, _Logger_>> implementation = Optional.ofNullable(find(this, binding));
         @SuppressWarnings("unchecked")
         _Binding_ bindings = (_Binding_)implementation.orElseThrow(noBindingFor(binding)).getBindings(this);
         return bindings;
@@ -154,7 +940,8 @@ public class LogInject<_Logger_>
         // NOTE: for some reason, Eclipse's compiler is O.K. with using the diamond operator (i.e., new LogInject<>) here,
         //       but javac says it's ambiguous and fails on the command line...
         @SuppressWarnings("unused")
-        LogInject<_Logger_> loginject = new LogInject<_Logger_>(loggerClass, noParameters -> factory.get());
+        LogInject<_Logger_> loginject =
+            new LogInject<_Logger_>(loggerClass, new LoggerCreator.NoParameters<_Logger_>(factory));
         return loginject;
     }
 
@@ -188,9 +975,8 @@ public class LogInject<_Logger_>
     public static <_Logger_, _Parameter_> LogInject<_Logger_> loginject(Class<_Logger_> loggerClass,
         Function<_Parameter_, _Logger_> loggerFactory, LogParameter<_Parameter_> parameter)
     {
-        @SuppressWarnings("unchecked")
-        Function<Object[], _Logger_> loggerFunction = oneParameter -> loggerFactory.apply((_Parameter_)oneParameter[0]);
-        return new LogInject<>(loggerClass, loggerFunction, parameter);
+        LoggerCreator<_Logger_> creator = new LoggerCreator.OneParameter<>(loggerFactory, parameter);
+        return new LogInject<>(loggerClass, creator, parameter);
     }
 
     /**
@@ -229,10 +1015,8 @@ public class LogInject<_Logger_>
         BiFunction<_Parameter0_, _Parameter1_, _Logger_> loggerFactory,
         LogParameter<_Parameter0_> parameter0, LogParameter<_Parameter1_> parameter1)
     {
-        @SuppressWarnings("unchecked")
-        Function<Object[], _Logger_> function =
-            parameters -> loggerFactory.apply((_Parameter0_)parameters[0], (_Parameter1_)parameters[1]);
-        return new LogInject<>(loggerClass, function, parameter0, parameter1);
+        LoggerCreator<_Logger_> creator = new LoggerCreator.TwoParameters<>(loggerFactory, parameter0, parameter1);
+        return new LogInject<>(loggerClass, creator, parameter0, parameter1);
     }
 
     /**
@@ -254,9 +1038,60 @@ public class LogInject<_Logger_>
         return loginject(loggerClass, loggerFactory, parameter0, parameter1);
     }
 
+    /**
+    * Provides a {@link LogInject} binding that binds the specified logger class to a static factory method or
+    * constructor with an arbitrary number of parameters. The factory is looked up and adapted only once, when the
+    * binding is created; each injection then invokes it via a {@link java.lang.invoke.MethodHandle}.
+    * <p>
+    * Example use:
+    * <pre>
+    *     Method getLogger = Loggers.class.getMethod("getLogger", String.class, String.class, Tenant.class);
+    *     loginject(Logger.class, getLogger, currentClassName(), constantString(BUNDLE), parameter(tenant))
+    * </pre>
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class
+    * @param loggerFactory the static factory method or constructor
+    * @param parameters the {@link LogParameter}s to be passed to the factory (in order of the factory's parameters)
+    * @return the {@link LogInject} object presenting the abstract (framework-independent) bindings
+    * @throws LogInjectException if the factory is not accessible or does not match the logger class or parameters
+    **/
+    public static <_Logger_> LogInject<_Logger_> loginject(Class<_Logger_> loggerClass, Executable loggerFactory,
+        LogParameter<?>... parameters)
+    {
+        LoggerCreator<_Logger_> creator = new LoggerCreator.Invocation<>(loggerClass, loggerFactory, parameters);
+        return new LogInject<>(loggerClass, creator, parameters.clone());
+    }
+
+    /**
+    * Provides a {@link LogInject} binding that binds a static factory method or constructor with an arbitrary number
+    * of parameters. The logger type is the declared return type of the factory method (or the class declaring the
+    * constructor).
+    *
+    * @param loggerFactory the static factory method or constructor
+    * @param parameters the {@link LogParameter}s to be passed to the factory (in order of the factory's parameters)
+    * @return the {@link LogInject} object presenting the abstract (framework-independent) bindings
+    * @throws LogInjectException if the factory is not accessible or does not match the parameters
+    * @see #loginject(Class, Executable, LogParameter...)
+    **/
+    public static LogInject<?> loginject(Executable loggerFactory, LogParameter<?>... parameters)
+    {
+        Class<?> loggerClass = loggerFactory instanceof Method? ((Method)loggerFactory).getReturnType()
+            :loggerFactory.getDeclaringClass();
+        return declared(loggerClass, loggerFactory, parameters);
+    }
+
+    private static <_Logger_> LogInject<_Logger_> declared(Class<_Logger_> loggerClass, Executable loggerFactory,
+        LogParameter<?>... parameters)
+    {
+        LoggerCreator<_Logger_> creator = new LoggerCreator.Invocation<>(loggerClass, loggerFactory, parameters);
+        return declared(loggerClass, creator, parameters.clone());
+    }
+
     /**
     * Provides a {@link LogInject} binding that binds a zero-argument logger factory method. The logger type is
-    * inferred from the factory method.
+    * inferred from the factory method: the factory is invoked once, and the binding's logger type is the class of the
+    * returned logger (see {@link #loginjectDeclared(SerializableSupplier)} for inferring the logger type without
+    * invoking the factory).
     * <p>
     * Example use:
     * <pre>
@@ -269,12 +1104,15 @@ public class LogInject<_Logger_>
     **/
     public static <_Logger_, _Parameter_> LogInject<_Logger_> loginject(Supplier<_Logger_> loggerFactory)
     {
-        return new LogInject<>(loggerFactory.get(), noParameters -> loggerFactory.get());
+        return new LogInject<>(loggerFactory.get(), new LoggerCreator.NoParameters<>(loggerFactory));
     }
 
     /**
     * Provides a {@link LogInject} binding that binds a one-argument logger factory method. The logger type is
-    * inferred from the factory method.
+    * inferred from the factory method: the factory is invoked once (with the parameter value for the
+    * {@link LogInject} class), and the binding's logger type is the class of the returned logger (see
+    * {@link #loginjectDeclared(SerializableFunction, LogParameter)} for inferring the logger type without invoking the
+    * factory).
     * <p>
     * Example use:
     * <pre>
@@ -290,14 +1128,16 @@ public class LogInject<_Logger_>
         LogParameter<_Parameter_> parameter)
     {
         _Logger_ prototypeLogger = loggerFactory.apply(parameter.getValue(LogInject.class));
-        @SuppressWarnings("unchecked")
-        Function<Object[], _Logger_> function = parameters -> loggerFactory.apply((_Parameter_)parameters[0]);
-        return new LogInject<>(prototypeLogger, function, parameter);
+        LoggerCreator<_Logger_> creator = new LoggerCreator.OneParameter<>(loggerFactory, parameter);
+        return new LogInject<>(prototypeLogger, creator, parameter);
     }
     
     /**
     * Provides a {@link LogInject} binding that binds a two-argument logger factory method. The logger type is
-    * inferred from the factory method.
+    * inferred from the factory method: the factory is invoked once (with the parameter values for the
+    * {@link LogInject} class), and the binding's logger type is the class of the returned logger (see
+    * {@link #loginjectDeclared(SerializableBiFunction, LogParameter, LogParameter)} for inferring the logger type
+    * without invoking the factory).
     * <p>
     * Example use:
     * <pre>
@@ -317,10 +1157,101 @@ public class LogInject<_Logger_>
     {
         _Logger_ prototypeLogger =
             loggerFactory.apply(parameter0.getValue(LogInject.class), parameter1.getValue(LogInject.class));
-        @SuppressWarnings("unchecked")
-        Function<Object[], _Logger_> function =
-            parameters -> loggerFactory.apply((_Parameter0_)parameters[0], (_Parameter1_)parameters[1]);
-        return new LogInject<>(prototypeLogger, function, parameter0, parameter1);
+        LoggerCreator<_Logger_> creator = new LoggerCreator.TwoParameters<>(loggerFactory, parameter0, parameter1);
+        return new LogInject<>(prototypeLogger, creator, parameter0, parameter1);
+    }
+
+    /**
+    * Provides a {@link LogInject} binding that binds a zero-argument logger factory method. The logger type is the
+    * factory method's declared return type; the factory is not invoked before the first injection. Unlike
+    * {@link #loginject(Supplier)}, which binds the class of an actual logger, this method binds an interface return
+    * type (e.g., Log4J's {@code Logger}) as an interface, so that fields declared with the logger's implementation
+    * class (or with a sub-interface) are not injected.
+    * <p>
+    * Example use:
+    * <pre>
+    *     loginjectDeclared(LogManager::getLogger)
+    * </pre>
+    * @param <_Logger_> the logger type
+    * @param loggerFactory the logger supplier (a lambda or method reference)
+    * @return the {@link LogInject} object presenting the abstract (framework-independent) bindings
+    * @throws LogInjectException if the declared return type cannot be determined
+    **/
+    public static <_Logger_> LogInject<_Logger_> loginjectDeclared(SerializableSupplier<_Logger_> loggerFactory)
+    {
+        return declared(getReturnType(loggerFactory), new LoggerCreator.NoParameters<>(loggerFactory));
+    }
+
+    /**
+    * Provides a {@link LogInject} binding that binds a one-argument logger factory method. The logger type is the
+    * factory method's declared return type; the factory is not invoked before the first injection.
+    * <p>
+    * Example use:
+    * <pre>
+    *     loginjectDeclared(LogManager::getLogger, currentClass())
+    * </pre>
+    * @param <_Logger_> the logger type
+    * @param <_Parameter_> the log parameter type
+    * @param loggerFactory the logger factory (a lambda or method reference)
+    * @param parameter the {@link LogParameter} to be passed to the factory method
+    * @return the {@link LogInject} object presenting the abstract (framework-independent) bindings
+    * @throws LogInjectException if the declared return type cannot be determined
+    * @see #loginjectDeclared(SerializableSupplier)
+    **/
+    public static <_Logger_, _Parameter_> LogInject<_Logger_> loginjectDeclared(
+        SerializableFunction<_Parameter_, _Logger_> loggerFactory, LogParameter<_Parameter_> parameter)
+    {
+        LoggerCreator<_Logger_> creator = new LoggerCreator.OneParameter<>(loggerFactory, parameter);
+        return declared(getReturnType(loggerFactory), creator, parameter);
+    }
+
+    /**
+    * Provides a {@link LogInject} binding that binds a two-argument logger factory method. The logger type is the
+    * factory method's declared return type; the factory is not invoked before the first injection.
+    * <p>
+    * Example use:
+    * <pre>
+    *     loginjectDeclared(LogManager::getLogger, currentClass(), parameter(myMessageFactory))
+    * </pre>
+    * @param <_Logger_> the logger type
+    * @param <_Parameter0_> the first log parameter type
+    * @param <_Parameter1_> the first log parameter type
+    * @param loggerFactory the logger factory (a lambda or method reference)
+    * @param parameter0 the first {@link LogParameter} to be passed to the factory method
+    * @param parameter1 the second {@link LogParameter} to be passed to the factory method
+    * @return the {@link LogInject} object presenting the abstract (framework-independent) bindings
+    * @throws LogInjectException if the declared return type cannot be determined
+    * @see #loginjectDeclared(SerializableSupplier)
+    **/
+    public static <_Logger_, _Parameter0_, _Parameter1_> LogInject<_Logger_> loginjectDeclared(
+        SerializableBiFunction<_Parameter0_, _Parameter1_, _Logger_> loggerFactory,
+        LogParameter<_Parameter0_> parameter0, LogParameter<_Parameter1_> parameter1)
+    {
+        LoggerCreator<_Logger_> creator = new LoggerCreator.TwoParameters<>(loggerFactory, parameter0, parameter1);
+        return declared(getReturnType(loggerFactory), creator, parameter0, parameter1);
+    }
+
+    /**
+    * Creates a {@link LogInject} object for a logger type that was determined from the declaration of the factory
+    * (rather than from an actual logger instance).
+    **/
+    private static <_Logger_> LogInject<_Logger_> declared(Class<_Logger_> loggerClass,
+        LoggerCreator<_Logger_> loggerCreator, LogParameter<?>... parameters)
+    {
+        ClassType type = loggerClass.isInterface()? ClassType.INTERFACE:ClassType.IMPLEMENTATION;
+        return new LogInject<>(type, loggerClass, loggerCreator, parameters);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <_Logger_> Class<_Logger_> getReturnType(Object loggerFactory)
+    {
+        Class<_Logger_> returnType = (Class<_Logger_>)LambdaIntrospector.getReturnType(loggerFactory);
+        if (returnType == null)
+        {
+            throw new LogInjectException("cannot determine declared logger type of " + loggerFactory
+                + "; please specify the logger class");
+        }
+        return returnType;
     }
 
     private Supplier<LogInjectException> noBindingFor(Class<?> bindingClass)
@@ -24,4 +24,9 @@ public class LogInjectException extends RuntimeException
     {
         super(message);
     }
+
+    public LogInjectException(String message, Throwable cause)
+    {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,158 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.loginject.LogInject.ClassType;
+
+/**
+* A {@link LogInjectIndex} dispatches logger requests to any number of {@link LogInject} bindings. Each logger type
+* is mapped to the binding that creates loggers of that type, so that finding the binding for an injection point is a
+* single hash lookup (rather than a check against each individual binding). For bindings of
+* {@linkplain ClassType#IMPLEMENTATION implementation} types, the superclasses and interfaces of the logger class
+* are indexed as well (except for JDK types other than {@code java.util.logging} types). Exact logger types take
+* precedence over supertypes; otherwise, the binding that was added first takes precedence.
+* <p>
+* Adapters for DI frameworks that use a single resolver for all injection points (such as HK2 and Spring) use the
+* {@link LogInjectIndex} to support several logger types in one container.
+*
+* @author Mirko Raner
+**/
+final class LogInjectIndex
+{
+    private final List<LogInject<?>> bindings = new CopyOnWriteArrayList<>();
+    private volatile Map<Class<?>, LogInject<?>> index = Collections.emptyMap();
+
+    /**
+    * Creates a new {@link LogInjectIndex}.
+    *
+    * @param bindings the initial {@link LogInject} bindings
+    **/
+    LogInjectIndex(Iterable<? extends LogInject<?>> bindings)
+    {
+        bindings.forEach(this.bindings::add);
+        reindex();
+    }
+
+    /**
+    * Adds another {@link LogInject} binding. Bindings are typically added while the container is configured; adding
+    * a binding rebuilds the index.
+    *
+    * @param binding the {@link LogInject} binding
+    **/
+    synchronized void add(LogInject<?> binding)
+    {
+        bindings.add(binding);
+        reindex();
+    }
+
+    /**
+    * Finds the {@link LogInject} binding for the type of an injection point.
+    *
+    * @param type the requested type
+    * @return the {@link LogInject} binding, or {@code null} if no binding creates loggers of the requested type
+    **/
+    LogInject<?> get(Type type)
+    {
+        return type instanceof Class? index.get(type):null;
+    }
+
+    private synchronized void reindex()
+    {
+        Map<Class<?>, LogInject<?>> index = new HashMap<>();
+        for (LogInject<?> binding: bindings)
+        {
+            Class<?> loggerClass = binding.getLoggerClass();
+            if (getBindingTypes(binding).contains(loggerClass))
+            {
+                index.putIfAbsent(loggerClass, binding);
+            }
+        }
+        for (LogInject<?> binding: bindings)
+        {
+            for (Class<?> type: getBindingTypes(binding))
+            {
+                index.putIfAbsent(type, binding);
+            }
+        }
+        this.index = index;
+    }
+
+    /**
+    * Determines the types that a {@link LogInject} binding can provide. For
+    * {@linkplain ClassType#INTERFACE interface} bindings, this is just the logger class; for
+    * {@linkplain ClassType#IMPLEMENTATION implementation} bindings, it also includes all superclasses and interfaces
+    * (except for JDK types other than {@code java.util.logging} types). If the loggers of an implementation binding
+    * are {@linkplain LogInject#isProxied() wrapped in interface proxies} (e.g., asynchronous or rate-limited loggers),
+    * only the interfaces are included, so that implementation-typed injection points are reported as unsatisfied by
+    * the container (rather than failing with a {@link ClassCastException} upon injection).
+    *
+    * @param binding the {@link LogInject} binding
+    * @return the binding types
+    **/
+    static Set<Class<?>> getBindingTypes(LogInject<?> binding)
+    {
+        Class<?> loggerClass = binding.getLoggerClass();
+        switch (binding.getLoggerClassType())
+        {
+            case INTERFACE: return Collections.singleton(loggerClass);
+            case IMPLEMENTATION:
+                Set<Class<?>> types = getSupertypes(loggerClass);
+                types.removeIf(type -> !isBindable(type) || binding.isProxied() && !type.isInterface());
+                return types;
+            default: throw new IllegalArgumentException(String.valueOf(binding.getLoggerClassType()));
+        }
+    }
+
+    /**
+    * Collects a class and all its superclasses and interfaces.
+    *
+    * @param type the class
+    * @return the class and its supertypes
+    **/
+    static Set<Class<?>> getSupertypes(Class<?> type)
+    {
+        Set<Class<?>> supertypes = new LinkedHashSet<>();
+        collectSupertypes(type, supertypes);
+        return supertypes;
+    }
+
+    private static void collectSupertypes(Class<?> type, Set<Class<?>> collected)
+    {
+        if (type != null && collected.add(type))
+        {
+            collectSupertypes(type.getSuperclass(), collected);
+            for (Class<?> implementedInterface: type.getInterfaces())
+            {
+                collectSupertypes(implementedInterface, collected);
+            }
+        }
+    }
+
+    static boolean isBindable(Class<?> type)
+    {
+        String name = type.getName();
+        return !name.startsWith("java.") || name.startsWith("java.util.logging.");
+    }
+}
@@ -0,0 +1,254 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Stream;
+import javax.inject.Named;
+import javax.inject.Qualifier;
+
+/**
+* A {@link LogInjectionPoint} describes the injection point of a logger: the class into which the logger is injected,
+* the injected field or parameter (if known), and the qualifier annotations of the injection point. DI framework
+* adapters create a {@link LogInjectionPoint} for each injection, and {@link LogParameter}s that are created with
+* {@link LogParameter#fromInjectionPoint(Class, java.util.function.Function)} (or {@link LogParameter#named()}) can
+* use it to select a logger. For example, a logger for an {@code @Inject @Named("audit") Logger} field can be
+* routed to the audit log once, at injection time, rather than by filtering every single log statement.
+* <p>
+* Qualifiers are annotations that are meta-annotated with {@link Qualifier} (or Guice's {@code BindingAnnotation}),
+* as well as Spring's {@code @Qualifier} annotation. Parameter names are only available if the class was compiled
+* with the {@code -parameters} option.
+* <p>
+* DI framework adapters also record the identifier of the container that performs the injection (see
+* {@link #getContainer()}), so that applications that run one container per tenant in the same JVM can route the
+* loggers of each tenant at injection time (via {@link LogParameter#container()}).
+*
+* @author Mirko Raner
+**/
+public final class LogInjectionPoint
+{
+    private final static Annotation[] NO_QUALIFIERS = {};
+    private final static String BINDING_ANNOTATION = "com.google.inject.BindingAnnotation";
+    private final static String SPRING_QUALIFIER = "org.springframework.beans.factory.annotation.Qualifier";
+
+    private final Class<?> injecteeClass;
+    private final Member member;
+    private final String name;
+    private final Annotation[] qualifiers;
+    private final String container;
+
+    LogInjectionPoint(Class<?> injecteeClass, Member member, String name, Annotation[] qualifiers)
+    {
+        this(injecteeClass, member, name, qualifiers, null);
+    }
+
+    private LogInjectionPoint(Class<?> injecteeClass, Member member, String name, Annotation[] qualifiers,
+        String container)
+    {
+        this.injecteeClass = Objects.requireNonNull(injecteeClass);
+        this.member = member;
+        this.name = name;
+        this.qualifiers = qualifiers;
+        this.container = container;
+    }
+
+    /**
+    * Creates a {@link LogInjectionPoint} for which only the injectee class is known.
+    *
+    * @param injecteeClass the class into which the logger is injected
+    * @return the {@link LogInjectionPoint}
+    **/
+    public static LogInjectionPoint of(Class<?> injecteeClass)
+    {
+        return new LogInjectionPoint(injecteeClass, null, null, NO_QUALIFIERS);
+    }
+
+    /**
+    * Creates a {@link LogInjectionPoint} for an injected field.
+    *
+    * @param injecteeClass the class into which the logger is injected (which may be a subclass of the class that
+    * declares the field)
+    * @param field the injected field
+    * @return the {@link LogInjectionPoint}
+    * @throws IllegalArgumentException if the field is not a field of the injectee class
+    **/
+    public static LogInjectionPoint of(Class<?> injecteeClass, Field field)
+    {
+        checkDeclaringClass(injecteeClass, field);
+        return new LogInjectionPoint(injecteeClass, field, field.getName(), getQualifiers(field.getAnnotations()));
+    }
+
+    /**
+    * Creates a {@link LogInjectionPoint} for an injected constructor or method parameter.
+    *
+    * @param injecteeClass the class into which the logger is injected (which may be a subclass of the class that
+    * declares the method)
+    * @param parameter the injected parameter
+    * @return the {@link LogInjectionPoint}
+    * @throws IllegalArgumentException if the parameter does not belong to a constructor or method of the injectee
+    * class
+    **/
+    public static LogInjectionPoint of(Class<?> injecteeClass, Parameter parameter)
+    {
+        Member member = parameter.getDeclaringExecutable();
+        checkDeclaringClass(injecteeClass, member);
+        String name = parameter.isNamePresent()? parameter.getName():null;
+        return new LogInjectionPoint(injecteeClass, member, name, getQualifiers(parameter.getAnnotations()));
+    }
+
+    /**
+    * Creates a {@link LogInjectionPoint} for which only the injectee class and the qualifiers are known.
+    *
+    * @param injecteeClass the class into which the logger is injected
+    * @param annotations the annotations of the injection point (or of a declaration that has the same qualifiers);
+    * annotations that are not qualifiers are ignored
+    * @return the {@link LogInjectionPoint}
+    **/
+    static LogInjectionPoint of(Class<?> injecteeClass, Annotation[] annotations)
+    {
+        return new LogInjectionPoint(injecteeClass, null, null, getQualifiers(annotations));
+    }
+
+    private static void checkDeclaringClass(Class<?> injecteeClass, Member member)
+    {
+        // A point-sensitive LogParameter would otherwise see a member that does not match the current class
+        // (for example, a constructor parameter of a nested bean with the class of the enclosing bean):
+        if (!member.getDeclaringClass().isAssignableFrom(injecteeClass))
+        {
+            throw new IllegalArgumentException(member + " is not a member of " + injecteeClass.getName());
+        }
+    }
+
+    /**
+    * Returns a copy of this {@link LogInjectionPoint} that belongs to a particular container.
+    *
+    * @param container the container identifier (or {@code null} if the container has no identifier)
+    * @return the {@link LogInjectionPoint}
+    **/
+    public LogInjectionPoint inContainer(String container)
+    {
+        return new LogInjectionPoint(injecteeClass, member, name, qualifiers, container);
+    }
+
+    /**
+    * @return the class into which the logger is injected
+    **/
+    public Class<?> getInjecteeClass()
+    {
+        return injecteeClass;
+    }
+
+    /**
+    * @return the injected field, or the method or constructor that declares the injected parameter (or {@code null}
+    * if the member is not known)
+    **/
+    public Member getMember()
+    {
+        return member;
+    }
+
+    /**
+    * @return the name of the injected field or parameter (or {@code null} if the name is not known)
+    **/
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+    * @return the qualifier annotations of the injection point (an empty array if there are none)
+    **/
+    public Annotation[] getQualifiers()
+    {
+        return qualifiers.clone();
+    }
+
+    /**
+    * Returns a particular qualifier annotation of the injection point.
+    *
+    * @param <_Annotation_> the annotation type
+    * @param qualifierType the annotation class
+    * @return the qualifier annotation, or {@code null} if the injection point has no such qualifier
+    **/
+    public <_Annotation_ extends Annotation> _Annotation_ getQualifier(Class<_Annotation_> qualifierType)
+    {
+        return Stream.of(qualifiers).filter(qualifierType::isInstance).map(qualifierType::cast).findFirst()
+            .orElse(null);
+    }
+
+    /**
+    * Returns the identifier of the container that performs the injection:
+    * <ul>
+    *  <li>for Spring, the ID of the application context</li>
+    *  <li>for HK2, the name of the {@code ServiceLocator}</li>
+    *  <li>for Guice, the string constant that is bound with the {@code @LogContainer} annotation in the injector
+    *      (e.g., {@code bindConstant().annotatedWith(LogContainer.class).to("tenant-a")})</li>
+    * </ul>
+    *
+    * @return the container identifier (or {@code null} if it is not known)
+    **/
+    public String getContainer()
+    {
+        return container;
+    }
+
+    /**
+    * @return the value of the injection point's {@link Named} qualifier (or {@code null} if there is none)
+    **/
+    public String getNamed()
+    {
+        Named named = getQualifier(Named.class);
+        return named != null? named.value():null;
+    }
+
+    private static Annotation[] getQualifiers(Annotation[] annotations)
+    {
+        Annotation[] qualifiers = Stream.of(annotations).filter(LogInjectionPoint::isQualifier)
+            .toArray(Annotation[]::new);
+        return qualifiers.length > 0? qualifiers:NO_QUALIFIERS;
+    }
+
+    private static boolean isQualifier(Annotation annotation)
+    {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        if (annotationType.getName().equals(SPRING_QUALIFIER))
+        {
+            return true;
+        }
+        for (Annotation metaAnnotation: annotationType.getAnnotations())
+        {
+            String name = metaAnnotation.annotationType().getName();
+            if (metaAnnotation instanceof Qualifier || name.equals(BINDING_ANNOTATION) || name.equals(SPRING_QUALIFIER))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString()
+    {
+        return injecteeClass.getName() + (name != null? "." + name:"") + Arrays.toString(qualifiers)
+            + (container != null? "@" + container:"");
+    }
+}
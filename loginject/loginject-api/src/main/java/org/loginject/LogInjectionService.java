@@ -53,19 +53,47 @@ public interface LogInjectionService<_Bindings_, _Logger_>
     * {@code HK2LogInjectionService} will support creating a {@code Binder}, independent of whether the binding is for
     * a Log4J logger or a {@link java.util.logging.Logger}). However, certain implementations (notably the one for
     * Dagger) may rely on information from the {@link LogInject} object to determine whether they support a binding
-    * type.
+    * type. Such implementations should also return {@code null} from {@link #getBindingType()}.
     *
     * @param loginject the {@link LogInject} object that describes the generic logger binding
     * @param bindingType the target binding type for a specific DI framework (e.g., a {@code Binder} for HK2)
     * @return {@code true} if the binding type is support by this service implementation, {@code false} otherwise
     **/
     default boolean supports(LogInject<_Logger_> loginject, Class<?> bindingType)
+    {
+        return bindingType.equals(getBindingType());
+    }
+
+    /**
+    * Returns the binding type that is supported by this service, independent of any particular {@link LogInject}
+    * object. The default implementation returns the first type argument of the {@link LogInjectionService} interface,
+    * if that argument is a concrete class. {@link LogInject} determines the binding type only once per service and
+    * uses it to look up the appropriate service for a binding class without calling {@link #supports}. Services that
+    * need to inspect the {@link LogInject} object to decide whether they support a binding type must return
+    * {@code null}.
+    *
+    * @return the supported binding type, or {@code null} if the supported binding type depends on the
+    * {@link LogInject} object
+    **/
+    default Class<?> getBindingType()
     {
         Type[] genericInterfaces = getClass().getGenericInterfaces();
         Class<ParameterizedType> parameter = ParameterizedType.class;
         Stream<ParameterizedType> interfaces = of(genericInterfaces).filter(parameter::isInstance).map(parameter::cast);
         Predicate<ParameterizedType> logInjectionService = type -> type.getRawType().equals(LogInjectionService.class);
         ParameterizedType parameterizedInterface = interfaces.filter(logInjectionService).findFirst().get();
-        return parameterizedInterface.getActualTypeArguments()[0].equals(bindingType);
+        Type bindingType = parameterizedInterface.getActualTypeArguments()[0];
+        return bindingType instanceof Class? (Class<?>)bindingType:null;
+    }
+
+    /**
+    * Returns the priority of this service. If several services support the same binding type, {@link LogInject} will
+    * use the one with the highest priority. Services with equal priority are ordered by class name.
+    *
+    * @return the service priority (the default priority is zero)
+    **/
+    default int getPriority()
+    {
+        return 0;
     }
 }
@@ -0,0 +1,179 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.ref.WeakReference;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import static java.util.Collections.synchronizedMap;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.StreamSupport.stream;
+
+/**
+* {@link LogInjectionServices} is the registry of available {@link LogInjectionService} implementations. Services
+* are discovered via the {@link ServiceLoader} only once per class loader, and the binding type of each service is
+* determined when the service is discovered. Subsequent lookups of a service for a particular binding class are
+* simple hash lookups.
+* <p>
+* If several services support the same binding class, the service with the highest
+* {@linkplain LogInjectionService#getPriority() priority} is used; services with equal priority are ordered by class
+* name. Applications that add services at runtime (e.g., by installing additional plug-ins) can force a new
+* discovery via {@link #refresh()}.
+* <p>
+* The registry does not prevent class loaders from being garbage-collected. Discovered services are kept per class
+* loader in a weak map; if any of the services were loaded by the class loader itself, the services are anchored at
+* the service class (so that the map value does not strongly refer to its own key).
+*
+* @author Mirko Raner
+**/
+public final class LogInjectionServices
+{
+    private final static Map<ClassLoader, Supplier<Registry>> REGISTRIES = synchronizedMap(new WeakHashMap<>());
+
+    private final static ClassValue<AtomicReference<Registry>> ANCHORS = new ClassValue<AtomicReference<Registry>>()
+    {
+        @Override
+        protected AtomicReference<Registry> computeValue(Class<?> serviceClass)
+        {
+            return new AtomicReference<>();
+        }
+    };
+
+    private final static Comparator<LogInjectionService<?, ?>> PRIORITY = Comparator
+        .comparing((LogInjectionService<?, ?> service) -> -service.getPriority())
+        .thenComparing(service -> service.getClass().getName());
+
+    private LogInjectionServices()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Discards all previously discovered services. The next binding request will discover services again.
+    **/
+    public static void refresh()
+    {
+        REGISTRIES.clear();
+    }
+
+    /**
+    * Discards the services that were previously discovered for a particular class loader.
+    *
+    * @param classLoader the class loader
+    **/
+    public static void refresh(ClassLoader classLoader)
+    {
+        REGISTRIES.remove(classLoader);
+    }
+
+    static <_Logger_> LogInjectionService<?, _Logger_> find(LogInject<_Logger_> loginject, Class<?> bindingType)
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null)
+        {
+            classLoader = LogInjectionServices.class.getClassLoader();
+        }
+        Supplier<Registry> reference = REGISTRIES.get(classLoader);
+        Registry registry = reference != null? reference.get():null;
+        if (registry == null)
+        {
+            registry = new Registry(ServiceLoader.load(LogInjectionService.class, classLoader));
+            REGISTRIES.put(classLoader, retain(registry, classLoader));
+        }
+        return registry.find(loginject, bindingType);
+    }
+
+    private static Supplier<Registry> retain(Registry registry, ClassLoader classLoader)
+    {
+        Predicate<Class<?>> loadedByClassLoader = type -> type.getClassLoader() == classLoader;
+        Stream<Class<?>> serviceClasses = registry.services.stream().map(candidate -> candidate.service.getClass());
+        Optional<Class<?>> anchor = serviceClasses.filter(loadedByClassLoader).findFirst();
+        if (anchor.isPresent())
+        {
+            ANCHORS.get(anchor.get()).set(registry);
+            return new WeakReference<>(registry)::get;
+        }
+        return () -> registry;
+    }
+
+    static class Registry
+    {
+        private final List<Candidate> services;
+        private final Map<Class<?>, List<Candidate>> candidates = synchronizedMap(new WeakHashMap<>());
+
+        @SuppressWarnings("rawtypes")
+        Registry(ServiceLoader<LogInjectionService> serviceLoader)
+        {
+            services = stream(serviceLoader.spliterator(), false).map(service -> (LogInjectionService<?, ?>)service)
+                .sorted(PRIORITY).map(Candidate::new).collect(toList());
+        }
+
+        @SuppressWarnings("unchecked")
+        <_Logger_> LogInjectionService<?, _Logger_> find(LogInject<_Logger_> loginject, Class<?> bindingType)
+        {
+            for (Candidate candidate: candidates.computeIfAbsent(bindingType, this::getCandidates))
+            {
+                LogInjectionService<?, _Logger_> service = (LogInjectionService<?, _Logger_>)candidate.service;
+                if (!candidate.dynamic || service.supports(loginject, bindingType))
+                {
+                    return service;
+                }
+            }
+            return null;
+        }
+
+        private List<Candidate> getCandidates(Class<?> bindingType)
+        {
+            Predicate<Candidate> supports = candidate -> candidate.dynamic || bindingType.equals(candidate.bindingType);
+            return services.stream().filter(supports).collect(toList());
+        }
+    }
+
+    static class Candidate
+    {
+        final LogInjectionService<?, ?> service;
+        final Class<?> bindingType;
+        final boolean dynamic;
+
+        Candidate(LogInjectionService<?, ?> service)
+        {
+            this.service = service;
+            this.bindingType = service.getBindingType();
+            this.dynamic = bindingType == null || overridesSupports(service);
+        }
+
+        private static boolean overridesSupports(LogInjectionService<?, ?> service)
+        {
+            try
+            {
+                return !service.getClass().getMethod("supports", LogInject.class, Class.class).isDefault();
+            }
+            catch (NoSuchMethodException noSuchMethod)
+            {
+                throw new NoSuchMethodError(noSuchMethod.getMessage());
+            }
+        }
+    }
+}
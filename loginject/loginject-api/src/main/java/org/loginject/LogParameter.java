@@ -16,6 +16,9 @@
 
 package org.loginject;
 
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -23,6 +26,18 @@ import java.util.function.Function;
 * It does not necessarily represent a constant value but may vary according to the injection point. For example,
 * {@link #currentClass()} and {@link #currentClassName()} refer to the {@link Class} object and class name at the
 * injection point, not to class that creates the {@link LogParameter}.
+* <p>
+* Parameters can be derived from other parameters via {@link #map(Class, Function)} and
+* {@link #combine(LogParameter, LogParameter, Class, BiFunction)}. The values of derived parameters (as well as those
+* of {@link #currentPackageName()}, {@link #currentSimpleName()}, {@link #annotation(Class)} and
+* {@link #fromCurrentClass(Class, Function)}) are computed only once per injectee class, no matter how often a logger
+* is injected into instances of that class. Derivation functions should therefore only depend on their input.
+* <p>
+* Parameters created by {@link #fromInjectionPoint(Class, Function)} and {@link #named(LogParameter)} (and parameters
+* derived from them) depend on the individual {@link LogInjectionPoint}, including the injected field or parameter
+* and its qualifiers. Their values are computed for each injection. When such a parameter is evaluated for a class
+* only (e.g., when {@linkplain LogInject#prewarm(java.util.Collection) pre-warming} loggers), the injection point
+* has no member and no qualifiers.
 *
 * @param <_Type_> the parameter type (must match the parameter type in the factory method)
 *
@@ -31,16 +46,36 @@ import java.util.function.Function;
 public class LogParameter<_Type_>
 {
     private final static Class<Class<?>> CLASS = new LogLiteral<Class<?>>(Class.class).getLiteral();
-    private final static LogParameter<Class<?>> CURRENT_CLASS = new LogParameter<>(CLASS, Function.identity());
-    private final static LogParameter<String> CURRENT_CLASS_NAME = new LogParameter<>(String.class, Class::getName);
+    private final static Class<Map<String, String>> FIELDS =
+        new LogLiteral<Map<String, String>>(Map.class).getLiteral();
+    private final static LogParameter<Class<?>> CURRENT_CLASS =
+        new LogParameter<>(CLASS, Function.identity()).basedOn(LogGranularity.perClass());
+    private final static LogParameter<String> CURRENT_CLASS_NAME =
+        new LogParameter<>(String.class, Class::getName).basedOn(LogGranularity.perClass());
+    private final static LogParameter<String> CURRENT_PACKAGE_NAME =
+        currentClassName(LogGranularity.perPackage());
+    private final static LogParameter<String> CURRENT_SIMPLE_NAME =
+        fromCurrentClass(String.class, Class::getSimpleName);
+    private final static LogParameter<String> NAMED = fromInjectionPoint(String.class, LogInjectionPoint::getNamed);
+    private final static LogParameter<String> CONTAINER =
+        fromInjectionPoint(String.class, LogInjectionPoint::getContainer);
 
     private Class<_Type_> type;
     private Function<Class<?>, _Type_> function;
+    private Function<LogInjectionPoint, _Type_> injectionPointFunction;
+    private LogGranularity granularity;
 
     private LogParameter(Class<_Type_> type, Function<Class<?>, _Type_> function)
     {
         this.type = type;
         this.function = function;
+        this.injectionPointFunction = injectionPoint -> function.apply(injectionPoint.getInjecteeClass());
+    }
+
+    private LogParameter(Function<LogInjectionPoint, _Type_> function, Class<_Type_> type)
+    {
+        this.type = type;
+        this.injectionPointFunction = function;
     }
 
     /**
@@ -59,6 +94,186 @@ public class LogParameter<_Type_>
         return CURRENT_CLASS_NAME;
     }
 
+    /**
+    * Returns a {@link LogParameter} representing the logger name for the {@link Class} into which the logger is
+    * injected, according to a particular {@link LogGranularity}.
+    *
+    * @param granularity the {@link LogGranularity} that maps classes to logger names
+    * @return the {@link LogParameter}
+    **/
+    public static LogParameter<String> currentClassName(LogGranularity granularity)
+    {
+        return new LogParameter<>(String.class, granularity::getName).basedOn(granularity);
+    }
+
+    /**
+    * @return a {@link LogParameter} representing the package name of the {@link Class} into which the logger is
+    * injected (or an empty string for classes in the default package).
+    **/
+    public static LogParameter<String> currentPackageName()
+    {
+        return CURRENT_PACKAGE_NAME;
+    }
+
+    /**
+    * @return a {@link LogParameter} representing the simple name of the {@link Class} into which the logger is
+    * injected.
+    **/
+    public static LogParameter<String> currentSimpleName()
+    {
+        return CURRENT_SIMPLE_NAME;
+    }
+
+    /**
+    * Returns a {@link LogParameter} representing an annotation of the {@link Class} into which the logger is injected.
+    * The parameter value is {@code null} if the class has no such annotation. The annotation type must be retained at
+    * runtime.
+    * <p>
+    * Example use:
+    * <pre>
+    *     annotation(Component.class).map(String.class, Component::value)
+    * </pre>
+    *
+    * @param <_Annotation_> the annotation type
+    * @param annotationType the annotation class
+    * @return the {@link LogParameter}
+    **/
+    public static <_Annotation_ extends Annotation> LogParameter<_Annotation_> annotation(
+        Class<_Annotation_> annotationType)
+    {
+        return fromCurrentClass(annotationType, type -> type.getAnnotation(annotationType));
+    }
+
+    /**
+    * Returns a {@link LogParameter} representing the structured context fields of the {@link Class} into which the
+    * logger is injected. The fields are computed only once per injectee class and are passed to the logger factory as
+    * an immutable {@link Map}:
+    * <pre>
+    *     loginject(ContextLoggers::getLogger, currentClassName(), context(fields().constant("team", "payments")))
+    * </pre>
+    *
+    * @param context the {@link LogContext} that defines the fields
+    * @return the {@link LogParameter}
+    **/
+    public static LogParameter<Map<String, String>> context(LogContext context)
+    {
+        return new LogParameter<>(FIELDS, context::getFields);
+    }
+
+    /**
+    * Returns a {@link LogParameter} that is derived from the {@link Class} into which the logger is injected. The
+    * derivation function is invoked only once per injectee class.
+    *
+    * @param <_Parameter_> the log parameter type
+    * @param type the log parameter class
+    * @param function the function that derives the parameter value from the injectee class
+    * @return the {@link LogParameter}
+    **/
+    public static <_Parameter_> LogParameter<_Parameter_> fromCurrentClass(Class<_Parameter_> type,
+        Function<Class<?>, _Parameter_> function)
+    {
+        return new LogParameter<>(type, memoize(function));
+    }
+
+    /**
+    * Returns a {@link LogParameter} that is derived from the {@link LogInjectionPoint}, i.e., from the injected field
+    * or parameter and its qualifiers. The derivation function is invoked for each injection.
+    * <p>
+    * Example use:
+    * <pre>
+    *     fromInjectionPoint(Marker.class, point -&gt; MarkerManager.getMarker(point.getNamed()))
+    * </pre>
+    *
+    * @param <_Parameter_> the log parameter type
+    * @param type the log parameter class
+    * @param function the function that derives the parameter value from the injection point
+    * @return the {@link LogParameter}
+    **/
+    public static <_Parameter_> LogParameter<_Parameter_> fromInjectionPoint(Class<_Parameter_> type,
+        Function<LogInjectionPoint, _Parameter_> function)
+    {
+        return new LogParameter<>(function, type);
+    }
+
+    /**
+    * @return a {@link LogParameter} representing the value of the {@link javax.inject.Named Named} qualifier at the
+    * injection point (or {@code null} if the injection point has no such qualifier)
+    **/
+    public static LogParameter<String> named()
+    {
+        return NAMED;
+    }
+
+    /**
+    * Returns a {@link LogParameter} representing the value of the {@link javax.inject.Named Named} qualifier at the
+    * injection point, or the value of another parameter if the injection point has no such qualifier. This allows
+    * routing loggers to different channels at injection time:
+    * <pre>
+    *     loginject(LogManager::getLogger, named(currentClassName()))
+    * </pre>
+    * With this binding, {@code @Inject @Named("audit") Logger log} receives the logger named "audit", and
+    * {@code @Inject Logger log} receives the logger for the injectee class.
+    *
+    * @param fallback the {@link LogParameter} for injection points without {@link javax.inject.Named Named} qualifier
+    * @return the {@link LogParameter}
+    **/
+    public static LogParameter<String> named(LogParameter<String> fallback)
+    {
+        return fromInjectionPoint(String.class, injectionPoint ->
+        {
+            String name = injectionPoint.getNamed();
+            return name != null? name:fallback.getValue(injectionPoint);
+        });
+    }
+
+    /**
+    * Returns a {@link LogParameter} representing the identifier of the container that performs the injection (the
+    * Spring application context ID, the HK2 service locator name, or the Guice injector's {@code @LogContainer}
+    * constant), or {@code null} if the container is not known. This allows routing the loggers of each tenant at
+    * injection time, when an application runs one container per tenant in the same JVM:
+    * <pre>
+    *     loginject(TenantLoggers::getLogger, currentClassName(), container())
+    * </pre>
+    * The parameter is evaluated once per injection. Since its value is part of the cache key of
+    * {@linkplain LogInject#cached() cached} and {@linkplain LogInject#shared() shared} loggers, the loggers of
+    * different containers never collide.
+    *
+    * @return the {@link LogParameter}
+    * @see LogInjectionPoint#getContainer()
+    **/
+    public static LogParameter<String> container()
+    {
+        return CONTAINER;
+    }
+
+    /**
+    * Returns a {@link LogParameter} that combines the values of two other parameters. The combining function is
+    * invoked only once per injectee class (or for each injection, if either parameter depends on the
+    * {@link LogInjectionPoint}).
+    *
+    * @param <_Parameter0_> the first log parameter type
+    * @param <_Parameter1_> the second log parameter type
+    * @param <_Result_> the combined parameter type
+    * @param parameter0 the first {@link LogParameter}
+    * @param parameter1 the second {@link LogParameter}
+    * @param type the class of the combined parameter
+    * @param combiner the function that combines the two parameter values
+    * @return the {@link LogParameter}
+    **/
+    public static <_Parameter0_, _Parameter1_, _Result_> LogParameter<_Result_> combine(
+        LogParameter<_Parameter0_> parameter0, LogParameter<_Parameter1_> parameter1, Class<_Result_> type,
+        BiFunction<? super _Parameter0_, ? super _Parameter1_, ? extends _Result_> combiner)
+    {
+        if (parameter0.isInjectionPointSensitive() || parameter1.isInjectionPointSensitive())
+        {
+            return fromInjectionPoint(type, injectionPoint ->
+                combiner.apply(parameter0.getValue(injectionPoint), parameter1.getValue(injectionPoint)));
+        }
+        Function<Class<?>, _Result_> function =
+            currentClass -> combiner.apply(parameter0.getValue(currentClass), parameter1.getValue(currentClass));
+        return new LogParameter<>(type, memoize(function));
+    }
+
     /**
     * Returns a {@link LogParameter} representing a constant string (always the same string, independent of injection
     * point).
@@ -86,6 +301,41 @@ public class LogParameter<_Type_>
         return new LogParameter<>(parameterType, always -> parameter);
     }
 
+    /**
+    * Returns a {@link LogParameter} whose value is derived from the value of this parameter. The mapping function is
+    * invoked only once per injectee class (or for each injection, if this parameter depends on the
+    * {@link LogInjectionPoint}), and it is not invoked at all if this parameter's value is {@code null} (the derived
+    * value will also be {@code null} in that case).
+    * <p>
+    * Example use:
+    * <pre>
+    *     currentPackageName().map(String.class, ResourceBundles::forPackage)
+    * </pre>
+    *
+    * @param <_Result_> the derived parameter type
+    * @param type the class of the derived parameter
+    * @param mapper the function that derives the new value from this parameter's value
+    * @return the {@link LogParameter}
+    **/
+    public <_Result_> LogParameter<_Result_> map(Class<_Result_> type,
+        Function<? super _Type_, ? extends _Result_> mapper)
+    {
+        if (isInjectionPointSensitive())
+        {
+            return fromInjectionPoint(type, injectionPoint ->
+            {
+                _Type_ value = getValue(injectionPoint);
+                return value != null? mapper.apply(value):null;
+            });
+        }
+        Function<Class<?>, _Result_> mapping = currentClass ->
+        {
+            _Type_ value = getValue(currentClass);
+            return value != null? mapper.apply(value):null;
+        };
+        return new LogParameter<>(type, memoize(mapping));
+    }
+
     /**
     * @return the parameter's type
     **/
@@ -102,6 +352,53 @@ public class LogParameter<_Type_>
     **/
     public _Type_ getValue(Class<?> currentClass)
     {
-        return function.apply(currentClass);
+        return function != null? function.apply(currentClass):getValue(LogInjectionPoint.of(currentClass));
+    }
+
+    /**
+    * Determines the parameter's value for a particular injection point.
+    *
+    * @param injectionPoint the {@link LogInjectionPoint}
+    * @return the parameter value
+    **/
+    public _Type_ getValue(LogInjectionPoint injectionPoint)
+    {
+        return injectionPointFunction.apply(injectionPoint);
+    }
+
+    /**
+    * @return {@code true} if the parameter value depends on more than just the injectee class
+    **/
+    boolean isInjectionPointSensitive()
+    {
+        return function == null;
+    }
+
+    /**
+    * @return the {@link LogGranularity} that determines the parameter value (if the value is a logger name or class
+    * that is directly derived from the injectee class), or {@code null}
+    **/
+    LogGranularity getGranularity()
+    {
+        return granularity;
+    }
+
+    private LogParameter<_Type_> basedOn(LogGranularity granularity)
+    {
+        this.granularity = granularity;
+        return this;
+    }
+
+    private static <_Parameter_> Function<Class<?>, _Parameter_> memoize(Function<Class<?>, _Parameter_> function)
+    {
+        ClassValue<_Parameter_> values = new ClassValue<_Parameter_>()
+        {
+            @Override
+            protected _Parameter_ computeValue(Class<?> currentClass)
+            {
+                return function.apply(currentClass);
+            }
+        };
+        return values::get;
     }
 }
@@ -0,0 +1,241 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+* A {@link LogRateLimit} caps the number of messages that {@linkplain LogInject#rateLimited(String, LogRateLimit)
+* rate-limited} loggers pass on to the actual logger. Each injectee class has its own limiter, so that a single noisy
+* class (e.g., a client of a failing downstream service) cannot flood the logs, while other classes continue to log
+* normally. Two kinds of limits are available:
+* <ul>
+*  <li>{@link #perSecond(double, int)} is a token bucket that allows bursts of a particular size and then a steady
+*      number of messages per second</li>
+*  <li>{@link #sampling(int)} passes on one in every N messages</li>
+* </ul>
+* Suppressed messages are counted, and a summary ("suppressed N messages") is logged as a warning at most once per
+* {@linkplain #summarizeEvery(Duration) summary interval}. There is no timer: the summary is logged along with the
+* first logging call of the class (whether suppressed or not) after the interval has elapsed, so messages that were
+* suppressed after a class's last logging call are never summarized. Logging calls whose level is disabled neither
+* use up the limit nor count as suppressed. All limiters are lock-free.
+* <pre>
+*     loginject(Logger::getLogger, currentClassName()).rateLimited("com.acme.client.*", perSecond(10, 100))
+* </pre>
+*
+* @author Mirko Raner
+**/
+public final class LogRateLimit
+{
+    /**
+    * The default interval between two summaries of suppressed messages.
+    **/
+    public final static Duration DEFAULT_SUMMARY_INTERVAL = Duration.ofMinutes(1);
+
+    private final LongFunction<Limiter> limiters;
+    private final long summaryInterval;
+    private final String description;
+
+    private LogRateLimit(LongFunction<Limiter> limiters, long summaryInterval, String description)
+    {
+        this.limiters = limiters;
+        this.summaryInterval = summaryInterval;
+        this.description = description;
+    }
+
+    /**
+    * Returns a token-bucket {@link LogRateLimit}. Each injectee class may log a burst of messages at once; afterwards,
+    * messages are passed on at a steady rate.
+    *
+    * @param permitsPerSecond the number of messages per second
+    * @param burst the maximum number of messages that can be logged at once
+    * @return the {@link LogRateLimit}
+    * @throws IllegalArgumentException if the rate or the burst size is not positive
+    **/
+    public static LogRateLimit perSecond(double permitsPerSecond, int burst)
+    {
+        if (!(permitsPerSecond > 0) || burst < 1)
+        {
+            throw new IllegalArgumentException("invalid rate limit: " + permitsPerSecond + "/s, burst " + burst);
+        }
+        long emissionInterval = (long)(TimeUnit.SECONDS.toNanos(1)/permitsPerSecond);
+        String description = "rate limit: " + permitsPerSecond + " per second";
+        LongFunction<Limiter> limiters = summaryInterval -> new TokenBucket(summaryInterval, emissionInterval, burst);
+        return new LogRateLimit(limiters, DEFAULT_SUMMARY_INTERVAL.toNanos(), description);
+    }
+
+    /**
+    * Returns a sampling {@link LogRateLimit} that passes on one in every N messages of each injectee class (starting
+    * with the first message).
+    *
+    * @param n the sampling interval
+    * @return the {@link LogRateLimit}
+    * @throws IllegalArgumentException if the sampling interval is not positive
+    **/
+    public static LogRateLimit sampling(int n)
+    {
+        if (n < 1)
+        {
+            throw new IllegalArgumentException("sampling interval must be positive: " + n);
+        }
+        LongFunction<Limiter> limiters = summaryInterval -> new Sampler(summaryInterval, n);
+        return new LogRateLimit(limiters, DEFAULT_SUMMARY_INTERVAL.toNanos(), "sampling: 1 in " + n);
+    }
+
+    /**
+    * Returns a copy of this {@link LogRateLimit} with a different summary interval.
+    *
+    * @param interval the minimum interval between two summaries of suppressed messages
+    * @return the new {@link LogRateLimit}
+    **/
+    public LogRateLimit summarizeEvery(Duration interval)
+    {
+        return new LogRateLimit(limiters, interval.toNanos(), description);
+    }
+
+    @Override
+    public String toString()
+    {
+        return description;
+    }
+
+    /**
+    * Creates a new limiter (for a single injectee class).
+    *
+    * @return the {@link Limiter}
+    **/
+    Limiter newLimiter()
+    {
+        return limiters.apply(summaryInterval);
+    }
+
+    /**
+    * A {@link Limiter} decides whether a message of a particular injectee class is passed on, and keeps track of
+    * the suppressed messages.
+    **/
+    abstract static class Limiter
+    {
+        private final AtomicLong suppressed = new AtomicLong();
+        private final AtomicLong nextSummary;
+        private final long summaryInterval;
+
+        Limiter(long summaryInterval)
+        {
+            this.summaryInterval = summaryInterval;
+            this.nextSummary = new AtomicLong(System.nanoTime() + summaryInterval);
+        }
+
+        abstract boolean tryAcquire();
+
+        /**
+        * Decides whether a message is passed on (and counts it as suppressed if it is not).
+        *
+        * @return {@code true} if the message should be passed on
+        **/
+        final boolean permit()
+        {
+            if (tryAcquire())
+            {
+                return true;
+            }
+            suppressed.incrementAndGet();
+            return false;
+        }
+
+        /**
+        * Determines whether a summary is due. Only one thread will receive the suppressed count for each summary.
+        *
+        * @return the number of messages suppressed since the last summary, or zero if no summary is due
+        **/
+        final long getSuppressedForSummary()
+        {
+            if (suppressed.get() == 0)
+            {
+                return 0;
+            }
+            long now = System.nanoTime();
+            long next = nextSummary.get();
+            if (now - next < 0 || !nextSummary.compareAndSet(next, now + summaryInterval))
+            {
+                return 0;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+
+    /**
+    * A lock-free token bucket, implemented as a generic cell rate algorithm: a single atomic value holds the
+    * theoretical arrival time of the next message, which advances by the emission interval for every message that is
+    * passed on.
+    **/
+    static class TokenBucket extends Limiter
+    {
+        private final long emissionInterval;
+        private final long tolerance;
+        private final AtomicLong theoreticalArrival = new AtomicLong(System.nanoTime());
+
+        TokenBucket(long summaryInterval, long emissionInterval, int burst)
+        {
+            super(summaryInterval);
+            this.emissionInterval = emissionInterval;
+            this.tolerance = emissionInterval*(burst - 1);
+        }
+
+        @Override
+        boolean tryAcquire()
+        {
+            long now = System.nanoTime();
+            while (true)
+            {
+                long arrival = theoreticalArrival.get();
+                long start = arrival - now < 0? now:arrival;
+                if (start - now > tolerance)
+                {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, start + emissionInterval))
+                {
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+    * A lock-free 1-in-N sampler.
+    **/
+    static class Sampler extends Limiter
+    {
+        private final int n;
+        private final AtomicLong count = new AtomicLong();
+
+        Sampler(long summaryInterval, int n)
+        {
+            super(summaryInterval);
+            this.n = n;
+        }
+
+        @Override
+        boolean tryAcquire()
+        {
+            return count.getAndIncrement() % n == 0;
+        }
+    }
+}
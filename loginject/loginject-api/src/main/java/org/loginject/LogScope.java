@@ -0,0 +1,285 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+
+/**
+* A {@link LogScope} holds a piece of request context (such as a trace ID or a tenant) that
+* {@linkplain LogInject#scoped(LogScope...) scoped} loggers stamp onto their events. A value is bound for the duration
+* of an operation:
+* <pre>
+*     final static LogScope&lt;String&gt; TRACE_ID = LogScope.newInstance("traceId");
+*     // ...
+*     TRACE_ID.run(request.getTraceId(), () -&gt; handle(request));
+* </pre>
+* On Java versions that provide {@code java.lang.ScopedValue}, log scopes are backed by scoped values, which (unlike
+* the {@link ThreadLocal}s of a mapped diagnostic context) are never copied into new threads and need no cleanup, so
+* that they remain cheap with millions of virtual threads. On older Java versions (or where scoped values are a
+* preview feature that is not enabled), log scopes are backed by a {@link ThreadLocal}; the previous value is
+* restored when the operation completes. Bindings are visible to the binding thread only (and, for scoped values, to
+* the subtasks of a structured task scope).
+*
+* @param <_Value_> the value type
+*
+* @author Mirko Raner
+**/
+public final class LogScope<_Value_>
+{
+    private final String key;
+    private final Object scopedValue;
+    private final ThreadLocal<_Value_> threadLocal;
+
+    private LogScope(String key, boolean scoped)
+    {
+        this.key = key;
+        this.scopedValue = scoped? ScopedValues.newInstance():null;
+        this.threadLocal = scoped? null:new ThreadLocal<>();
+    }
+
+    /**
+    * Creates a {@link LogScope} that is backed by a scoped value (if available) or otherwise by a {@link ThreadLocal}.
+    *
+    * @param <_Value_> the value type
+    * @param key the key under which the value is stamped onto log events
+    * @return the {@link LogScope}
+    **/
+    public static <_Value_> LogScope<_Value_> newInstance(String key)
+    {
+        return new LogScope<>(key, ScopedValues.AVAILABLE);
+    }
+
+    /**
+    * Creates a {@link LogScope} that is always backed by a {@link ThreadLocal} (even if scoped values are available).
+    *
+    * @param <_Value_> the value type
+    * @param key the key under which the value is stamped onto log events
+    * @return the {@link LogScope}
+    **/
+    public static <_Value_> LogScope<_Value_> newThreadLocalInstance(String key)
+    {
+        return new LogScope<>(key, false);
+    }
+
+    /**
+    * @return {@code true} if log scopes created by {@link #newInstance(String)} are backed by scoped values
+    **/
+    public static boolean isScopedValueAvailable()
+    {
+        return ScopedValues.AVAILABLE;
+    }
+
+    /**
+    * @return the key under which the value is stamped onto log events
+    **/
+    public String getKey()
+    {
+        return key;
+    }
+
+    /**
+    * @return the value that is bound for the current thread, or {@code null} if no value is bound
+    **/
+    public _Value_ get()
+    {
+        return scopedValue != null? ScopedValues.get(scopedValue):threadLocal.get();
+    }
+
+    /**
+    * Runs an operation with a value bound to this scope.
+    *
+    * @param value the value
+    * @param operation the operation
+    **/
+    public void run(_Value_ value, Runnable operation)
+    {
+        if (scopedValue != null)
+        {
+            ScopedValues.run(scopedValue, value, operation);
+            return;
+        }
+        _Value_ previous = threadLocal.get();
+        threadLocal.set(value);
+        try
+        {
+            operation.run();
+        }
+        finally
+        {
+            if (previous != null)
+            {
+                threadLocal.set(previous);
+            }
+            else
+            {
+                threadLocal.remove();
+            }
+        }
+    }
+
+    /**
+    * Calls an operation with a value bound to this scope.
+    *
+    * @param <_Result_> the result type
+    * @param value the value
+    * @param operation the operation
+    * @return the result of the operation
+    * @throws Exception if the operation throws an exception
+    **/
+    public <_Result_> _Result_ call(_Value_ value, Callable<_Result_> operation) throws Exception
+    {
+        Object[] result = new Object[1];
+        Exception[] exception = new Exception[1];
+        run(value, () ->
+        {
+            try
+            {
+                result[0] = operation.call();
+            }
+            catch (Exception failure)
+            {
+                exception[0] = failure;
+            }
+        });
+        if (exception[0] != null)
+        {
+            throw exception[0];
+        }
+        @SuppressWarnings("unchecked")
+        _Result_ typedResult = (_Result_)result[0];
+        return typedResult;
+    }
+
+    @Override
+    public String toString()
+    {
+        return LogScope.class.getSimpleName() + "[" + key + "]";
+    }
+
+    /**
+    * {@link ScopedValues} accesses {@code java.lang.ScopedValue} through method handles, because loginject is
+    * compiled for Java 8. The method handles are constants, so that the JIT compiler can inline them.
+    **/
+    private final static class ScopedValues
+    {
+        final static boolean AVAILABLE;
+
+        private final static MethodHandle NEW_INSTANCE;
+        private final static MethodHandle WHERE;
+        private final static MethodHandle RUN;
+        private final static MethodHandle IS_BOUND;
+        private final static MethodHandle GET;
+
+        static
+        {
+            MethodHandle[] handles = new MethodHandle[5];
+            boolean available;
+            try
+            {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+                Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+                MethodType object = MethodType.methodType(Object.class);
+                handles[0] = lookup.findStatic(scopedValue, "newInstance", MethodType.methodType(scopedValue))
+                    .asType(object);
+                handles[1] = lookup.findStatic(scopedValue, "where",
+                    MethodType.methodType(carrier, scopedValue, Object.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+                handles[2] = lookup.findVirtual(carrier, "run", MethodType.methodType(void.class, Runnable.class))
+                    .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+                handles[3] = lookup.findVirtual(scopedValue, "isBound", MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+                handles[4] = lookup.findVirtual(scopedValue, "get", object)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+                // Scoped values are a preview feature in some Java versions, which fails if previews are not enabled:
+                Object probe = handles[0].invokeExact();
+                Object probeCarrier = handles[1].invokeExact(probe, (Object)Boolean.TRUE);
+                handles[2].invokeExact(probeCarrier, (Runnable)() -> {/* Probe only */});
+                available = true;
+            }
+            catch (Throwable unavailable)
+            {
+                available = false;
+            }
+            AVAILABLE = available;
+            NEW_INSTANCE = handles[0];
+            WHERE = handles[1];
+            RUN = handles[2];
+            IS_BOUND = handles[3];
+            GET = handles[4];
+        }
+
+        static Object newInstance()
+        {
+            try
+            {
+                return NEW_INSTANCE.invokeExact();
+            }
+            catch (Throwable throwable)
+            {
+                throw rethrow(throwable);
+            }
+        }
+
+        static <_Value_> _Value_ get(Object scopedValue)
+        {
+            try
+            {
+                if (!(boolean)IS_BOUND.invokeExact(scopedValue))
+                {
+                    return null;
+                }
+                @SuppressWarnings("unchecked")
+                _Value_ value = (_Value_)GET.invokeExact(scopedValue);
+                return value;
+            }
+            catch (Throwable throwable)
+            {
+                throw rethrow(throwable);
+            }
+        }
+
+        static void run(Object scopedValue, Object value, Runnable operation)
+        {
+            try
+            {
+                Object carrier = WHERE.invokeExact(scopedValue, value);
+                RUN.invokeExact(carrier, operation);
+            }
+            catch (Throwable throwable)
+            {
+                throw rethrow(throwable);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable throwable)
+        {
+            if (throwable instanceof RuntimeException)
+            {
+                throw (RuntimeException)throwable;
+            }
+            if (throwable instanceof Error)
+            {
+                throw (Error)throwable;
+            }
+            return new LogInjectException("scoped value access failed", throwable);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+* The {@link LoggerCache} holds the loggers that were created by a {@link LogInject} binding in
+* {@link LogInject#cached() cached} mode. Loggers are keyed by injectee class and evaluated {@link LogParameter}
+* values. Lookups of existing loggers are lock-free, and each missing logger is created exactly once, even if several
+* threads request it at the same time (the logger factory must therefore not request loggers of the same injectee
+* class from the same cache). When the cache grows beyond its maximum size the oldest entries are evicted in insertion
+* order.
+* <p>
+* The cache holds no strong references to injectee classes: the loggers for each injectee class are stored in a
+* {@link ClassValue} of that class, and the insertion order only refers to weak references. When the class loader of an
+* injectee class is discarded (e.g., when a web application is redeployed), the cached loggers for its classes are
+* discarded as well.
+*
+* @param <_Logger_> the logger type
+*
+* @author Mirko Raner
+**/
+class LoggerCache<_Logger_>
+{
+    private final int maximumSize;
+    private final ClassValue<ConcurrentMap<Key, _Logger_>> loggers = new ClassValue<ConcurrentMap<Key, _Logger_>>()
+    {
+        @Override
+        protected ConcurrentMap<Key, _Logger_> computeValue(Class<?> injectee)
+        {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final Queue<Reference<Key>> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    LoggerCache(int maximumSize)
+    {
+        if (maximumSize < 1)
+        {
+            throw new IllegalArgumentException("maximum cache size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    _Logger_ get(Class<?> currentClass, Object[] parameters, Supplier<_Logger_> factory)
+    {
+        ConcurrentMap<Key, _Logger_> classLoggers = loggers.get(currentClass);
+        Key key = new Key(classLoggers, parameters);
+        _Logger_ logger = classLoggers.get(key);
+        if (logger != null)
+        {
+            hits.increment();
+            return logger;
+        }
+        // Threads that request the same missing logger wait for the one thread that creates it:
+        logger = classLoggers.computeIfAbsent(key, newKey ->
+        {
+            misses.increment();
+            _Logger_ newLogger = factory.get();
+            if (newLogger != null)
+            {
+                insertionOrder.add(new WeakReference<>(newKey));
+                size.incrementAndGet();
+            }
+            return newLogger;
+        });
+        evict();
+        return logger;
+    }
+
+    LogCacheStatistics getStatistics()
+    {
+        return new LogCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), size.get(), maximumSize);
+    }
+
+    private void evict()
+    {
+        while (size.get() > maximumSize)
+        {
+            Reference<Key> eldest = insertionOrder.poll();
+            if (eldest == null)
+            {
+                return;
+            }
+            Key key = eldest.get();
+            if (key == null)
+            {
+                // The injectee class was unloaded, and its loggers are already gone:
+                size.decrementAndGet();
+            }
+            else if (key.loggers.remove(key) != null)
+            {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    static class Key
+    {
+        private final Map<Key, ?> loggers;
+        private final Object[] parameters;
+        private final int hashCode;
+
+        Key(Map<Key, ?> loggers, Object[] parameters)
+        {
+            this.loggers = loggers;
+            this.parameters = parameters;
+            this.hashCode = Arrays.hashCode(parameters);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            return object instanceof Key && Arrays.equals(parameters, ((Key)object).parameters);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+* A {@link LoggerCreator} invokes the user-supplied logger factory for a particular injection point. There is one
+* implementation per factory arity, so that {@link LogParameter} values are passed directly to the factory, without
+* collecting them in an intermediate array. Factory methods and constructors with an arbitrary number of parameters
+* are invoked via a {@link MethodHandle} that is created once per binding.
+*
+* @param <_Logger_> the logger type
+*
+* @author Mirko Raner
+**/
+interface LoggerCreator<_Logger_>
+{
+    _Logger_ create(Class<?> currentClass);
+
+    _Logger_ create(LogInjectionPoint injectionPoint);
+
+    /**
+    * Returns the user-supplied logger factory.
+    *
+    * @return the factory object (a lambda, method reference, or reflected {@link Executable})
+    **/
+    Object getFactory();
+
+    final static class NoParameters<_Logger_> implements LoggerCreator<_Logger_>
+    {
+        private final Supplier<_Logger_> factory;
+
+        NoParameters(Supplier<_Logger_> factory)
+        {
+            this.factory = factory;
+        }
+
+        @Override
+        public _Logger_ create(Class<?> currentClass)
+        {
+            return factory.get();
+        }
+
+        @Override
+        public _Logger_ create(LogInjectionPoint injectionPoint)
+        {
+            return factory.get();
+        }
+
+        @Override
+        public Object getFactory()
+        {
+            return factory;
+        }
+    }
+
+    final static class OneParameter<_Logger_, _Parameter_> implements LoggerCreator<_Logger_>
+    {
+        private final Function<_Parameter_, _Logger_> factory;
+        private final LogParameter<_Parameter_> parameter;
+
+        OneParameter(Function<_Parameter_, _Logger_> factory, LogParameter<_Parameter_> parameter)
+        {
+            this.factory = factory;
+            this.parameter = parameter;
+        }
+
+        @Override
+        public _Logger_ create(Class<?> currentClass)
+        {
+            return factory.apply(parameter.getValue(currentClass));
+        }
+
+        @Override
+        public _Logger_ create(LogInjectionPoint injectionPoint)
+        {
+            return factory.apply(parameter.getValue(injectionPoint));
+        }
+
+        @Override
+        public Object getFactory()
+        {
+            return factory;
+        }
+    }
+
+    final static class TwoParameters<_Logger_, _Parameter0_, _Parameter1_> implements LoggerCreator<_Logger_>
+    {
+        private final BiFunction<_Parameter0_, _Parameter1_, _Logger_> factory;
+        private final LogParameter<_Parameter0_> parameter0;
+        private final LogParameter<_Parameter1_> parameter1;
+
+        TwoParameters(BiFunction<_Parameter0_, _Parameter1_, _Logger_> factory, LogParameter<_Parameter0_> parameter0,
+            LogParameter<_Parameter1_> parameter1)
+        {
+            this.factory = factory;
+            this.parameter0 = parameter0;
+            this.parameter1 = parameter1;
+        }
+
+        @Override
+        public _Logger_ create(Class<?> currentClass)
+        {
+            return factory.apply(parameter0.getValue(currentClass), parameter1.getValue(currentClass));
+        }
+
+        @Override
+        public _Logger_ create(LogInjectionPoint injectionPoint)
+        {
+            return factory.apply(parameter0.getValue(injectionPoint), parameter1.getValue(injectionPoint));
+        }
+
+        @Override
+        public Object getFactory()
+        {
+            return factory;
+        }
+    }
+
+    final static class Invocation<_Logger_> implements LoggerCreator<_Logger_>
+    {
+        private final static int MAXIMUM_EXACT_ARITY = 4;
+
+        private final Class<_Logger_> loggerClass;
+        private final Executable executable;
+        private final MethodHandle factory;
+        private final LogParameter<?>[] parameters;
+
+        Invocation(Class<_Logger_> loggerClass, Executable factory, LogParameter<?>[] parameters)
+        {
+            Class<?>[] parameterTypes = factory.getParameterTypes();
+            if (parameterTypes.length != parameters.length)
+            {
+                throw new LogInjectException(factory + " requires " + parameterTypes.length + " parameters but "
+                    + parameters.length + " were provided");
+            }
+            for (int index = 0; index < parameters.length; index++)
+            {
+                Class<?> expected = MethodType.methodType(parameterTypes[index]).wrap().returnType();
+                if (!expected.isAssignableFrom(parameters[index].getParameterType()))
+                {
+                    throw new LogInjectException("parameter " + index + " of " + factory + " is not compatible with "
+                        + parameters[index].getParameterType().getName());
+                }
+            }
+            this.loggerClass = loggerClass;
+            this.executable = factory;
+            this.parameters = parameters.clone();
+            MethodHandle handle = unreflect(factory);
+            if (!loggerClass.isAssignableFrom(handle.type().returnType()))
+            {
+                throw new LogInjectException(factory + " does not return a " + loggerClass.getName());
+            }
+            handle = handle.asType(MethodType.genericMethodType(parameters.length));
+            if (parameters.length > MAXIMUM_EXACT_ARITY)
+            {
+                handle = handle.asSpreader(Object[].class, parameters.length);
+            }
+            this.factory = handle;
+        }
+
+        @Override
+        public _Logger_ create(Class<?> currentClass)
+        {
+            return create(currentClass, null);
+        }
+
+        @Override
+        public _Logger_ create(LogInjectionPoint injectionPoint)
+        {
+            return create(injectionPoint.getInjecteeClass(), injectionPoint);
+        }
+
+        private _Logger_ create(Class<?> currentClass, LogInjectionPoint injectionPoint)
+        {
+            try
+            {
+                return loggerClass.cast(invoke(currentClass, injectionPoint));
+            }
+            catch (RuntimeException|Error exception)
+            {
+                throw exception;
+            }
+            catch (Throwable throwable)
+            {
+                throw new LogInjectException("logger factory failed for " + currentClass.getName(), throwable);
+            }
+        }
+
+        @Override
+        public Object getFactory()
+        {
+            return executable;
+        }
+
+        private Object invoke(Class<?> currentClass, LogInjectionPoint point) throws Throwable
+        {
+            LogParameter<?>[] parameters = this.parameters;
+            switch (parameters.length)
+            {
+                case 0:
+                    return (Object)factory.invokeExact();
+                case 1:
+                    return (Object)factory.invokeExact(value(0, currentClass, point));
+                case 2:
+                    return (Object)factory.invokeExact(value(0, currentClass, point), value(1, currentClass, point));
+                case 3:
+                    return (Object)factory.invokeExact(value(0, currentClass, point), value(1, currentClass, point),
+                        value(2, currentClass, point));
+                case 4:
+                    return (Object)factory.invokeExact(value(0, currentClass, point), value(1, currentClass, point),
+                        value(2, currentClass, point), value(3, currentClass, point));
+                default:
+                    Object[] values = new Object[parameters.length];
+                    for (int index = 0; index < values.length; index++)
+                    {
+                        values[index] = value(index, currentClass, point);
+                    }
+                    return (Object)factory.invokeExact(values);
+            }
+        }
+
+        private Object value(int index, Class<?> currentClass, LogInjectionPoint injectionPoint)
+        {
+            LogParameter<?> parameter = parameters[index];
+            return injectionPoint != null? parameter.getValue(injectionPoint):parameter.getValue(currentClass);
+        }
+
+        private static MethodHandle unreflect(Executable factory)
+        {
+            if (factory instanceof Method && !Modifier.isStatic(factory.getModifiers()))
+            {
+                throw new LogInjectException(factory + " is neither static nor a constructor");
+            }
+            try
+            {
+                factory.setAccessible(true);
+                if (factory instanceof Constructor)
+                {
+                    return MethodHandles.lookup().unreflectConstructor((Constructor<?>)factory);
+                }
+                return MethodHandles.lookup().unreflect((Method)factory);
+            }
+            catch (IllegalAccessException|RuntimeException accessDenied)
+            {
+                throw new LogInjectException("cannot access " + factory, accessDenied);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import javax.inject.Provider;
+
+/**
+* The {@link LoggerProviders} class contains helper methods for adapters that support {@code Provider<Logger>}
+* injection points. Some DI frameworks create the injected {@link Provider} on their own, and by the time that provider
+* is invoked the injection context is no longer known. Adapters for such frameworks find the provider fields of an
+* injectee class and replace the framework's provider with a {@linkplain LogInject#createProvider(Class) loginject
+* provider} after the injectee was injected.
+*
+* @author Mirko Raner
+**/
+class LoggerProviders
+{
+    private final static Predicate<Class<?>> INJECT = annotation -> annotation.getSimpleName().equals("Inject")
+        || annotation.getName().equals("org.springframework.beans.factory.annotation.Autowired");
+
+    private LoggerProviders()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Determines the class that is provided by a {@link Provider} type.
+    *
+    * @param type the type of an injection point
+    * @return the type argument of a {@code Provider<...>} type, or {@code null} if the type is not a provider type or
+    * its type argument is not a class
+    **/
+    static Class<?> getProvidedClass(Type type)
+    {
+        if (type instanceof ParameterizedType && ((ParameterizedType)type).getRawType() == Provider.class)
+        {
+            Type provided = ((ParameterizedType)type).getActualTypeArguments()[0];
+            return provided instanceof Class? (Class<?>)provided:null;
+        }
+        return null;
+    }
+
+    /**
+    * Finds all injected {@link Provider} fields of a class (including inherited fields) that provide a particular
+    * logger type.
+    *
+    * @param type the injectee class
+    * @param providedClass a predicate for the provided class
+    * @param injected a predicate that determines whether a field is an injection point
+    * @return the provider fields (made accessible)
+    **/
+    static List<Field> getProviderFields(Class<?> type, Predicate<Class<?>> providedClass, Predicate<Field> injected)
+    {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+        {
+            for (Field field: current.getDeclaredFields())
+            {
+                Class<?> provided = getProvidedClass(field.getGenericType());
+                if (provided != null && !Modifier.isStatic(field.getModifiers()) && providedClass.test(provided)
+                && injected.test(field))
+                {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+    * Finds all injected fields of a class (including inherited fields). A field is considered injected if it is
+    * neither static nor final and is annotated with an {@code @Inject} annotation (of any DI framework) or with
+    * Spring's {@code @Autowired}.
+    *
+    * @param type the injectee class
+    * @param selected a predicate that selects the fields of interest
+    * @return the injected fields (made accessible)
+    **/
+    static List<Field> getInjectedFields(Class<?> type, Predicate<Field> selected)
+    {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+        {
+            for (Field field: current.getDeclaredFields())
+            {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers) && selected.test(field)
+                && Stream.of(field.getAnnotations()).map(Annotation::annotationType).anyMatch(INJECT))
+                {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+    * Assigns a new loginject {@link Provider} to each of the given provider fields. The {@link LogInject} binding for
+    * each field is determined from the field's provided class.
+    *
+    * @param instance the injectee object
+    * @param fields the provider fields
+    * @param bindings maps a provided class to its {@link LogInject} binding (or to {@code null} if the field should
+    * not be replaced)
+    **/
+    static void setProviders(Object instance, List<Field> fields, Function<Class<?>, LogInject<?>> bindings)
+    {
+        for (Field field: fields)
+        {
+            LogInject<?> loginject = bindings.apply(getProvidedClass(field.getGenericType()));
+            if (loginject == null)
+            {
+                continue;
+            }
+            try
+            {
+                field.set(instance, loginject.createProvider(LogInjectionPoint.of(instance.getClass(), field)));
+            }
+            catch (IllegalAccessException exception)
+            {
+                throw new LogInjectException("cannot inject " + field, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.invoke.SerializedLambda;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import static org.loginject.LambdaIntrospector.getSerializedLambda;
+
+/**
+* The {@link LoggerRegistry} is the process-wide registry of loggers created by {@linkplain LogInject#shared() shared}
+* bindings. All requests for the same logger type, from the same logger factory, and with the same {@link LogParameter}
+* values receive the same logger instance, even if they originate from different {@link LogInject} bindings or
+* different containers (of the same or of different DI frameworks).
+* <p>
+* Logger factories are identified by their implementation method: serializable lambdas and method references (as
+* accepted by the {@code loginjectDeclared} methods) are identical if they refer to the same implementation method and
+* captured the same values, even if they were created at different call sites. Other factory objects are only
+* identical to themselves.
+* <p>
+* Registered loggers are only weakly referenced. A logger stays in the registry as long as some injectee (or the
+* logging framework itself) still refers to it; once it was garbage-collected, its entry is removed, together with
+* the {@link LogParameter} values of that entry. Classes in the key of an entry (i.e., the logger type and parameter
+* values such as injectee classes) are only weakly referenced as well, and the entry is also removed once any of
+* them was garbage-collected, so that redeployed injectee classes and their class loaders can be unloaded even if the
+* logging framework retains its loggers.
+*
+* @author Mirko Raner
+**/
+class LoggerRegistry
+{
+    private final static ConcurrentMap<Key, Entry> LOGGERS = new ConcurrentHashMap<>();
+    private final static ReferenceQueue<Object> COLLECTED = new ReferenceQueue<>();
+
+    private LoggerRegistry()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Determines the identity of a logger factory.
+    *
+    * @param factory the factory (a lambda, method reference, or other object)
+    * @return a {@link List} that describes the implementation method and captured values of a serializable lambda or
+    * method reference, or the factory object itself (which is then identified by its object identity)
+    **/
+    static Object getIdentity(Object factory)
+    {
+        SerializedLambda lambda = getSerializedLambda(factory);
+        if (lambda == null)
+        {
+            return factory;
+        }
+        Object[] capturedArguments = new Object[lambda.getCapturedArgCount()];
+        for (int index = 0; index < capturedArguments.length; index++)
+        {
+            capturedArguments[index] = lambda.getCapturedArg(index);
+        }
+        return Arrays.asList(lambda.getImplClass(), lambda.getImplMethodName(), lambda.getImplMethodSignature(),
+            lambda.getImplMethodKind(), Arrays.asList(capturedArguments));
+    }
+
+    /**
+    * Returns the shared logger for a logger type, factory, and parameter values. If no such logger is registered (or
+    * the registered logger was garbage-collected), a new logger is created and registered.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger type
+    * @param factory the {@linkplain #getIdentity(Object) identity} of the logger factory
+    * @param parameters the evaluated {@link LogParameter} values
+    * @param creator creates a new logger
+    * @return the shared logger (or {@code null} if the factory returned {@code null})
+    **/
+    static <_Logger_> _Logger_ get(Class<_Logger_> loggerClass, Object factory, Object[] parameters,
+        Supplier<_Logger_> creator)
+    {
+        expunge();
+        Key key = new Key(loggerClass, factory, parameters);
+        Entry entry = LOGGERS.get(key);
+        Object logger = entry != null? entry.get():null;
+        if (logger != null)
+        {
+            return loggerClass.cast(logger);
+        }
+        _Logger_ newLogger = creator.get();
+        if (newLogger == null)
+        {
+            return null;
+        }
+        Entry newEntry = new Entry(key, newLogger);
+        while ((entry = LOGGERS.putIfAbsent(key, newEntry)) != null)
+        {
+            // Another thread registered a logger in the meantime, or an entry of a collected logger is still present:
+            if ((logger = entry.get()) != null)
+            {
+                return loggerClass.cast(logger);
+            }
+            if (LOGGERS.replace(key, entry, newEntry))
+            {
+                break;
+            }
+        }
+        return newLogger;
+    }
+
+    private static void expunge()
+    {
+        for (Object collected; (collected = COLLECTED.poll()) != null;)
+        {
+            if (collected instanceof Entry)
+            {
+                LOGGERS.remove(((Entry)collected).key, collected);
+            }
+            else
+            {
+                LOGGERS.remove(((Component)collected).key);
+            }
+        }
+    }
+
+    static class Entry extends WeakReference<Object>
+    {
+        final Key key;
+
+        Entry(Key key, Object logger)
+        {
+            super(logger, COLLECTED);
+            this.key = key;
+        }
+    }
+
+    /**
+    * A weakly referenced component of a {@link Key}. Once the referent is garbage-collected, the key no longer
+    * matches any other key, and its entry is removed from the registry.
+    **/
+    static class Component extends WeakReference<Object>
+    {
+        final Key key;
+
+        Component(Key key, Object referent)
+        {
+            super(referent, COLLECTED);
+            this.key = key;
+        }
+    }
+
+    /**
+    * The key of a registered logger. Classes (i.e., the logger type and any {@link LogParameter} values that are
+    * classes, such as injectee classes) and factories that are identified by their own identity are only weakly
+    * referenced by the key, so that the registry does not prevent the unloading of their class loaders, even if the
+    * logging framework itself retains the logger (which would keep the entry in the registry).
+    **/
+    static class Key
+    {
+        private final Object[] components;
+        private final int hashCode;
+
+        Key(Class<?> loggerClass, Object factory, Object[] parameters)
+        {
+            components = new Object[parameters.length + 2];
+            components[0] = new Component(this, loggerClass);
+            components[1] = factory instanceof List? factory:new Component(this, factory);
+            int hash = System.identityHashCode(loggerClass)*31
+                + (factory instanceof List? factory.hashCode():System.identityHashCode(factory));
+            for (int index = 0; index < parameters.length; index++)
+            {
+                Object parameter = parameters[index];
+                components[index + 2] = parameter instanceof Class? new Component(this, parameter):parameter;
+                hash = hash*31 + (parameter instanceof Class? System.identityHashCode(parameter)
+                    :Objects.hashCode(parameter));
+            }
+            hashCode = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (object == this)
+            {
+                return true;
+            }
+            if (!(object instanceof Key) || ((Key)object).components.length != components.length)
+            {
+                return false;
+            }
+            Object[] otherComponents = ((Key)object).components;
+            for (int index = 0; index < components.length; index++)
+            {
+                if (!equals(components[index], otherComponents[index]))
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean equals(Object component, Object otherComponent)
+        {
+            if (component instanceof Component || otherComponent instanceof Component)
+            {
+                Object referent = component instanceof Component? ((Component)component).get():null;
+                return referent != null && otherComponent instanceof Component
+                    && referent == ((Component)otherComponent).get();
+            }
+            return Objects.equals(component, otherComponent);
+        }
+    }
+}
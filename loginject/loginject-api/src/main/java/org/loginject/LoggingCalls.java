@@ -0,0 +1,240 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+/**
+* The {@link LoggingCalls} class contains helper methods for loggers that loginject wraps around the actual logger
+* (such as {@linkplain LogInject#async(AsyncLogDispatcher) asynchronous} or
+* {@linkplain LogInject#rateLimited(LogRateLimit) rate-limited} loggers). Since loginject does not depend on any
+* logging framework, wrappers for interface logger types are {@link Proxy} objects, and logging calls are recognized
+* by method names and level arguments.
+*
+* @author Mirko Raner
+**/
+class LoggingCalls
+{
+    /**
+    * The level value of method calls that are not logging calls.
+    **/
+    final static int NOT_LOGGING = -1;
+
+    private final static Map<String, Integer> LEVELS = new HashMap<>();
+
+    private final static LevelCheck NO_LEVEL_CHECK = new LevelCheck(null, NOT_LOGGING);
+
+    private final static ConcurrentMap<Method, LevelCheck> LEVEL_CHECKS = new ConcurrentHashMap<>();
+
+    /**
+    * A {@link LevelCheck} is the level check method that corresponds to a logging method (e.g.,
+    * {@code isDebugEnabled()} for {@code debug(...)}, or {@code isEnabled(Level)} for {@code log(Level, ...)}).
+    **/
+    private final static class LevelCheck
+    {
+        final Method method;
+        final int levelArgument;
+
+        LevelCheck(Method method, int levelArgument)
+        {
+            this.method = method;
+            this.levelArgument = levelArgument;
+        }
+    }
+
+    static
+    {
+        Stream.of(Level.ALL, Level.FINEST, Level.FINER, Level.FINE, Level.CONFIG, Level.INFO, Level.WARNING,
+            Level.SEVERE).forEach(level -> LEVELS.put(level.getName(), level.intValue()));
+        LEVELS.put("TRACE", Level.FINEST.intValue());
+        LEVELS.put("DEBUG", Level.FINE.intValue());
+        LEVELS.put("WARN", Level.WARNING.intValue());
+        LEVELS.put("ERROR", Level.SEVERE.intValue());
+        LEVELS.put("FATAL", Level.SEVERE.intValue() + 100);
+    }
+
+    private LoggingCalls()
+    {
+        // Static methods only...
+    }
+
+    /**
+    * Determines the level of a logging call. Methods named after a level (e.g., {@code debug(...)} or
+    * {@code warn(...)}) and methods without return value that receive a level argument (e.g.,
+    * {@code log(Level.WARN, ...)}, but not {@code setLevel(...)}) are logging calls. Levels of other logging
+    * frameworks are mapped to the closest {@link java.util.logging.Level}.
+    *
+    * @param method the invoked method
+    * @param arguments the method arguments (or {@code null})
+    * @return the {@link java.util.logging.Level} value of the logging call, or {@link #NOT_LOGGING}
+    **/
+    static int getLevel(Method method, Object[] arguments)
+    {
+        if (method.getReturnType() != void.class)
+        {
+            return NOT_LOGGING;
+        }
+        String name = method.getName().toUpperCase(Locale.ROOT);
+        if (LEVELS.containsKey(name))
+        {
+            return LEVELS.get(name);
+        }
+        if (arguments != null && !name.startsWith("SET") && !name.startsWith("ADD") && !name.startsWith("REMOVE"))
+        {
+            for (Object argument: arguments)
+            {
+                if (argument instanceof Level)
+                {
+                    return ((Level)argument).intValue();
+                }
+                if (argument != null && argument.getClass().getSimpleName().equals("Level"))
+                {
+                    return LEVELS.getOrDefault(argument.toString(), Level.OFF.intValue());
+                }
+            }
+        }
+        return NOT_LOGGING;
+    }
+
+    /**
+    * Determines the level of a logging method from its declaration alone. Methods named after a level are logging
+    * calls of that level; for methods without return value that have a level parameter (but that are not setters or
+    * similar methods), the level is only known at runtime.
+    *
+    * @param method the method
+    * @return the {@link java.util.logging.Level} value of the logging method, {@link Level#ALL} if the level is
+    * determined by an argument, or {@link #NOT_LOGGING}
+    **/
+    static int getLevel(Method method)
+    {
+        if (method.getReturnType() != void.class)
+        {
+            return NOT_LOGGING;
+        }
+        String name = method.getName().toUpperCase(Locale.ROOT);
+        if (LEVELS.containsKey(name))
+        {
+            return LEVELS.get(name);
+        }
+        if (!name.startsWith("SET") && !name.startsWith("ADD") && !name.startsWith("REMOVE")
+            && Stream.of(method.getParameterTypes()).anyMatch(type -> type.getSimpleName().equals("Level")))
+        {
+            return Level.ALL.intValue();
+        }
+        return NOT_LOGGING;
+    }
+
+    /**
+    * Determines whether a logging call would be logged, by invoking the corresponding level check of the logger (e.g.,
+    * {@code isDebugEnabled()} for {@code debug(...)}, or {@code isEnabled(Level)} or {@code isLoggable(Level)} for
+    * logging methods with a level parameter). Wrappers use this check to skip work (such as rate limiting or
+    * asynchronous hand-off) for calls that the logger would discard anyway.
+    *
+    * @param logger the actual logger
+    * @param method the invoked logging method
+    * @param arguments the method arguments (or {@code null})
+    * @return {@code false} if the logger's level check rejects the call, {@code true} if it accepts the call or if
+    * the logger type has no corresponding level check
+    * @throws Throwable if the level check fails
+    **/
+    static boolean isEnabled(Object logger, Method method, Object[] arguments) throws Throwable
+    {
+        LevelCheck check = LEVEL_CHECKS.computeIfAbsent(method, LoggingCalls::getLevelCheck);
+        if (check.method == null)
+        {
+            return true;
+        }
+        try
+        {
+            if (check.levelArgument == NOT_LOGGING)
+            {
+                return !Boolean.FALSE.equals(check.method.invoke(logger));
+            }
+            return !Boolean.FALSE.equals(check.method.invoke(logger, arguments[check.levelArgument]));
+        }
+        catch (InvocationTargetException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    private static LevelCheck getLevelCheck(Method method)
+    {
+        Class<?> loggerType = method.getDeclaringClass();
+        String name = method.getName();
+        if (LEVELS.containsKey(name.toUpperCase(Locale.ROOT)))
+        {
+            String check = "is" + Character.toUpperCase(name.charAt(0)) + name.substring(1) + "Enabled";
+            return Stream.of(loggerType.getMethods()).filter(candidate -> candidate.getName().equals(check))
+                .filter(candidate -> candidate.getParameterCount() == 0 && candidate.getReturnType() == boolean.class)
+                .findFirst().map(candidate -> new LevelCheck(candidate, NOT_LOGGING)).orElse(NO_LEVEL_CHECK);
+        }
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        for (int index = 0; index < parameterTypes.length; index++)
+        {
+            if (parameterTypes[index].getSimpleName().equals("Level"))
+            {
+                for (String check: new String[] {"isEnabled", "isLoggable"})
+                {
+                    try
+                    {
+                        Method candidate = loggerType.getMethod(check, parameterTypes[index]);
+                        if (candidate.getReturnType() == boolean.class)
+                        {
+                            return new LevelCheck(candidate, index);
+                        }
+                    }
+                    catch (NoSuchMethodException noSuchMethod)
+                    {
+                        continue;
+                    }
+                }
+                break;
+            }
+        }
+        return NO_LEVEL_CHECK;
+    }
+
+    /**
+    * Creates a {@link Proxy} for a logger type. For implementation classes (of inferred bindings), the proxy
+    * implements all of the class's interfaces.
+    *
+    * @param loggerClass the logger class
+    * @param handler the {@link InvocationHandler}
+    * @return the proxy, or {@code null} if the logger class implements no interfaces
+    **/
+    static Object newProxy(Class<?> loggerClass, InvocationHandler handler)
+    {
+        Stream<Class<?>> types = LogInjectIndex.getSupertypes(loggerClass).stream();
+        Class<?>[] interfaces = types.filter(Class::isInterface).toArray(Class<?>[]::new);
+        if (interfaces.length == 0)
+        {
+            return null;
+        }
+        return Proxy.newProxyInstance(loggerClass.getClassLoader(), interfaces, handler);
+    }
+}
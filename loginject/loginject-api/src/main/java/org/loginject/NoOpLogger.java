@@ -0,0 +1,180 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.logging.Filter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+* The {@link NoOpLogger} class provides the shared no-op loggers that are injected into
+* {@linkplain LogInject#disabledIf(java.util.function.Predicate) disabled} classes. There is exactly one no-op logger
+* per logger type: for {@link java.util.logging.Logger}, a final {@link JavaUtilLogger} subclass whose logging
+* methods do nothing, and for all other logger types, a {@link Proxy} (implementing the logger interface, or all
+* interfaces of an inferred logger implementation class) whose methods return default values ({@code false}, zero,
+* or {@code null}). Logger classes that implement no interfaces require an application-supplied no-op logger.
+*
+* @author Mirko Raner
+**/
+final class NoOpLogger implements InvocationHandler
+{
+    private final static NoOpLogger HANDLER = new NoOpLogger();
+
+    private final static ClassValue<Object> LOGGERS = new ClassValue<Object>()
+    {
+        @Override
+        protected Object computeValue(Class<?> loggerClass)
+        {
+            if (loggerClass == Logger.class)
+            {
+                return new JavaUtilLogger();
+            }
+            return LoggingCalls.newProxy(loggerClass, HANDLER);
+        }
+    };
+
+    private final static Map<Class<?>, Object> DEFAULTS = new HashMap<>();
+
+    static
+    {
+        DEFAULTS.put(boolean.class, false);
+        DEFAULTS.put(char.class, '\0');
+        DEFAULTS.put(byte.class, (byte)0);
+        DEFAULTS.put(short.class, (short)0);
+        DEFAULTS.put(int.class, 0);
+        DEFAULTS.put(long.class, 0L);
+        DEFAULTS.put(float.class, 0F);
+        DEFAULTS.put(double.class, 0D);
+    }
+
+    private NoOpLogger()
+    {
+        // Shared instance only...
+    }
+
+    /**
+    * Returns the shared no-op logger for a logger type.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class
+    * @return the no-op logger (which, for inferred implementation classes, is only an instance of the logger
+    * interfaces)
+    * @throws LogInjectException if loginject cannot provide a no-op logger for the logger type
+    **/
+    @SuppressWarnings("unchecked")
+    static <_Logger_> _Logger_ get(Class<_Logger_> loggerClass)
+    {
+        Object logger = LOGGERS.get(loggerClass);
+        if (logger == null)
+        {
+            throw new LogInjectException("no no-op logger available for " + loggerClass.getName()
+                + "; please specify a no-op logger instance");
+        }
+        return (_Logger_)logger;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments)
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            switch (method.getName())
+            {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return NoOpLogger.class.getSimpleName();
+                default:
+                    break;
+            }
+        }
+        // Reference types and void return null:
+        return DEFAULTS.get(method.getReturnType());
+    }
+
+    /**
+    * The no-op {@link java.util.logging.Logger}. Its level is {@link Level#OFF}, it has no handlers, and it ignores all
+    * configuration changes (the instance is shared by all disabled classes).
+    **/
+    final static class JavaUtilLogger extends Logger
+    {
+        JavaUtilLogger()
+        {
+            super(null, null);
+            super.setLevel(Level.OFF);
+            super.setUseParentHandlers(false);
+        }
+
+        @Override
+        public boolean isLoggable(Level level)
+        {
+            return false;
+        }
+
+        @Override
+        public void log(LogRecord record)
+        {
+            // Disabled...
+        }
+
+        @Override
+        public void setLevel(Level level)
+        {
+            // Shared logger cannot be configured...
+        }
+
+        @Override
+        public void setFilter(Filter filter)
+        {
+            // Shared logger cannot be configured...
+        }
+
+        @Override
+        public void addHandler(Handler handler)
+        {
+            // Shared logger cannot be configured...
+        }
+
+        @Override
+        public void setUseParentHandlers(boolean useParentHandlers)
+        {
+            // Shared logger cannot be configured...
+        }
+
+        @Override
+        public void setParent(Logger parent)
+        {
+            // Shared logger cannot be configured...
+        }
+
+        @Override
+        public void setResourceBundle(ResourceBundle bundle)
+        {
+            // Shared logger cannot be configured...
+        }
+    }
+}
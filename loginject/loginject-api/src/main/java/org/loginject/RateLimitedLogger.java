@@ -0,0 +1,240 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.loginject.LogRateLimit.Limiter;
+
+/**
+* A {@link RateLimitedLogger} passes logging calls on to the actual logger only if the {@link LogRateLimit} of the
+* injectee class permits it. The stand-in that is injected instead of the actual logger is either a
+* {@link java.lang.reflect.Proxy} (for interface logger types and inferred implementation classes) or a
+* {@link DelegatingJavaUtilLogger} (for {@link java.util.logging.Logger}). Calls that are not logging calls (such as
+* level checks) are always passed on, and logging calls whose level is disabled are discarded without using up the
+* limit (the level is checked via the logger's level check method, e.g., {@code isDebugEnabled()} for
+* {@code debug(...)}). Summaries of suppressed messages are logged via {@code warn(String)} or
+* {@code warning(String)} (if the logger type has neither method, suppressed messages are not summarized). Unlike
+* the hand-written {@link DelegatingJavaUtilLogger}, the proxy forwards each call reflectively.
+*
+* @author Mirko Raner
+**/
+final class RateLimitedLogger implements InvocationHandler
+{
+    private final static ClassValue<Method> SUMMARY_METHODS = new ClassValue<Method>()
+    {
+        @Override
+        protected Method computeValue(Class<?> loggerClass)
+        {
+            for (String name: new String[] {"warn", "warning"})
+            {
+                try
+                {
+                    return loggerClass.getMethod(name, String.class);
+                }
+                catch (NoSuchMethodException noSuchMethod)
+                {
+                    continue;
+                }
+            }
+            return null;
+        }
+    };
+
+    private final Object logger;
+    private final Class<?> injectee;
+    private final Limiter limiter;
+    private final Method summary;
+
+    private RateLimitedLogger(Class<?> loggerClass, Object logger, Class<?> injectee, Limiter limiter)
+    {
+        this.logger = logger;
+        this.injectee = injectee;
+        this.limiter = limiter;
+        this.summary = SUMMARY_METHODS.get(loggerClass);
+    }
+
+    /**
+    * Wraps a logger in a rate-limited stand-in.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class of the binding
+    * @param logger the actual logger
+    * @param injectee the injectee class
+    * @param limiter the limiter of the injectee class
+    * @return the rate-limited logger
+    * @throws LogInjectException if the logger implements no interfaces and is not a {@link java.util.logging.Logger}
+    **/
+    @SuppressWarnings("unchecked")
+    static <_Logger_> _Logger_ wrap(Class<_Logger_> loggerClass, _Logger_ logger, Class<?> injectee, Limiter limiter)
+    {
+        if (logger instanceof Logger && loggerClass.isAssignableFrom(Logger.class))
+        {
+            return (_Logger_)new JavaUtilLogger((Logger)logger, injectee, limiter);
+        }
+        RateLimitedLogger handler = new RateLimitedLogger(loggerClass, logger, injectee, limiter);
+        Object proxy = LoggingCalls.newProxy(loggerClass, handler);
+        if (proxy == null)
+        {
+            throw new LogInjectException("no rate-limited logger available for " + loggerClass.getName());
+        }
+        return (_Logger_)proxy;
+    }
+
+    static String getSummary(long suppressed, Class<?> injectee)
+    {
+        return "suppressed " + suppressed + " log messages from " + injectee.getName();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            switch (method.getName())
+            {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+        }
+        try
+        {
+            if (LoggingCalls.getLevel(method, arguments) == LoggingCalls.NOT_LOGGING)
+            {
+                return method.invoke(logger, arguments);
+            }
+            // Calls that the logger discards anyway must not use up the limit:
+            if (!LoggingCalls.isEnabled(logger, method, arguments))
+            {
+                return null;
+            }
+            if (limiter.permit())
+            {
+                method.invoke(logger, arguments);
+            }
+            long suppressed = limiter.getSuppressedForSummary();
+            if (suppressed > 0 && summary != null)
+            {
+                summary.invoke(logger, getSummary(suppressed, injectee));
+            }
+            return null;
+        }
+        catch (InvocationTargetException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    /**
+    * The rate-limited {@link java.util.logging.Logger}. Log records of suppressed messages are still created, but
+    * they are not passed on to the actual logger's handlers.
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final Logger logger;
+        private final Class<?> injectee;
+        private final Limiter limiter;
+
+        JavaUtilLogger(Logger logger, Class<?> injectee, Limiter limiter)
+        {
+            this.logger = logger;
+            this.injectee = injectee;
+            this.limiter = limiter;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger;
+        }
+
+        @Override
+        public void log(LogRecord record)
+        {
+            if (!isLoggable(record.getLevel()))
+            {
+                return;
+            }
+            if (limiter.permit())
+            {
+                super.log(record);
+            }
+            long suppressed = limiter.getSuppressedForSummary();
+            if (suppressed > 0)
+            {
+                LogRecord summary = new LogRecord(Level.WARNING, getSummary(suppressed, injectee));
+                summary.setSourceClassName(injectee.getName());
+                summary.setSourceMethodName(null);
+                super.log(summary);
+            }
+        }
+    }
+
+    /**
+    * The {@link Rules} of a binding map injectee classes to {@link LogRateLimit}s. Rules are matched in the order in
+    * which they were added, and the limiter for each injectee class is created only once.
+    **/
+    static class Rules
+    {
+        private final List<Rule> rules = new CopyOnWriteArrayList<>();
+        private final ClassValue<Limiter> limiters = new ClassValue<Limiter>()
+        {
+            @Override
+            protected Limiter computeValue(Class<?> injectee)
+            {
+                return rules.stream().filter(rule -> rule.pattern.matches(injectee)).findFirst()
+                    .map(rule -> rule.limit.newLimiter()).orElse(null);
+            }
+        };
+
+        void add(String pattern, LogRateLimit limit)
+        {
+            rules.add(new Rule(pattern, limit));
+        }
+
+        /**
+        * @param injectee the injectee class
+        * @return the {@link Limiter} for the injectee class, or {@code null} if the class is not rate-limited
+        **/
+        Limiter get(Class<?> injectee)
+        {
+            return limiters.get(injectee);
+        }
+    }
+
+    static class Rule
+    {
+        final ClassNamePattern pattern;
+        final LogRateLimit limit;
+
+        Rule(String pattern, LogRateLimit limit)
+        {
+            this.pattern = new ClassNamePattern(pattern);
+            this.limit = limit;
+        }
+    }
+}
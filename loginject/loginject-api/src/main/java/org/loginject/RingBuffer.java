@@ -0,0 +1,127 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+* A {@link RingBuffer} is a bounded, lock-free queue for multiple producers and a single consumer. Each slot of the
+* buffer has a sequence number that tells producers and the consumer whose turn it is: producers claim a slot by
+* advancing the shared tail position (via compare-and-set) and publish the element by advancing the slot's sequence
+* number; the consumer takes the element and releases the slot for the next round. Neither side ever blocks, so a full
+* or empty buffer has to be handled by the caller.
+*
+* @param <_Element_> the element type
+*
+* @author Mirko Raner
+**/
+final class RingBuffer<_Element_>
+{
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    /**
+    * Creates a new {@link RingBuffer}.
+    *
+    * @param capacity the minimum capacity (which is rounded up to the next power of two, and to at least two; with a
+    * single slot, a published element could not be distinguished from a released slot)
+    **/
+    RingBuffer(int capacity)
+    {
+        if (capacity < 1 || capacity > 1 << 30)
+        {
+            throw new IllegalArgumentException("invalid ring buffer capacity: " + capacity);
+        }
+        int size = Math.max(2, Integer.highestOneBit(capacity) << (Integer.bitCount(capacity) == 1? 0:1));
+        elements = new Object[size];
+        sequences = new AtomicLongArray(size);
+        for (int index = 0; index < size; index++)
+        {
+            sequences.set(index, index);
+        }
+        mask = size - 1;
+    }
+
+    /**
+    * Adds an element to the buffer (may be called by any thread).
+    *
+    * @param element the element
+    * @return {@code true} if the element was added, {@code false} if the buffer is full
+    **/
+    boolean offer(_Element_ element)
+    {
+        while (true)
+        {
+            long position = tail.get();
+            int index = (int)position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0)
+            {
+                if (tail.compareAndSet(position, position + 1))
+                {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+            else if (difference < 0)
+            {
+                return false;
+            }
+        }
+    }
+
+    /**
+    * Removes the oldest element from the buffer (must only be called by the consumer thread).
+    *
+    * @return the element, or {@code null} if the buffer is empty
+    **/
+    _Element_ poll()
+    {
+        int index = (int)head & mask;
+        if (sequences.get(index) != head + 1)
+        {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        _Element_ element = (_Element_)elements[index];
+        elements[index] = null;
+        sequences.set(index, head + elements.length);
+        head++;
+        return element;
+    }
+
+    /**
+    * @return the total number of elements that were added to the buffer so far
+    **/
+    long getAddedCount()
+    {
+        return tail.get();
+    }
+
+    /**
+    * @return the capacity of the buffer
+    **/
+    int getCapacity()
+    {
+        return elements.length;
+    }
+}
@@ -0,0 +1,203 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+* A {@link ScopedLogger} stamps the values of {@link LogScope}s that are bound on the calling thread onto the messages
+* of logging calls, as a prefix of the form {@code [traceId=4bf92f35 tenant=acme] }. The stand-in that is injected
+* instead of the actual logger is either a {@link java.lang.reflect.Proxy} (for interface logger types and inferred
+* implementation classes), which prefixes the first {@link String} argument of each logging call, or a
+* {@link DelegatingJavaUtilLogger} (for {@link java.util.logging.Logger}), which prefixes the message of each
+* {@link LogRecord} (unless the message is localized via a resource bundle). If no scope is bound, logging calls are
+* passed on unchanged. Scope values are inserted verbatim, i.e., they should not contain the placeholders of the
+* logging framework's message format.
+*
+* @author Mirko Raner
+**/
+final class ScopedLogger implements InvocationHandler
+{
+    private final static int NO_MESSAGE = -1;
+
+    private final static ConcurrentMap<Method, Integer> MESSAGE_INDICES = new ConcurrentHashMap<>();
+
+    private final Object logger;
+    private final LogScope<?>[] scopes;
+
+    private ScopedLogger(Object logger, LogScope<?>[] scopes)
+    {
+        this.logger = logger;
+        this.scopes = scopes;
+    }
+
+    /**
+    * Wraps a logger in a scoped stand-in.
+    *
+    * @param <_Logger_> the logger type
+    * @param loggerClass the logger class of the binding
+    * @param logger the actual logger
+    * @param scopes the {@link LogScope}s whose values are stamped onto the messages
+    * @return the scoped logger
+    * @throws LogInjectException if the logger implements no interfaces and is not a {@link java.util.logging.Logger}
+    **/
+    @SuppressWarnings("unchecked")
+    static <_Logger_> _Logger_ wrap(Class<_Logger_> loggerClass, _Logger_ logger, LogScope<?>[] scopes)
+    {
+        if (logger instanceof Logger && loggerClass.isAssignableFrom(Logger.class))
+        {
+            return (_Logger_)new JavaUtilLogger((Logger)logger, scopes);
+        }
+        Object proxy = LoggingCalls.newProxy(loggerClass, new ScopedLogger(logger, scopes));
+        if (proxy == null)
+        {
+            throw new LogInjectException("no scoped logger available for " + loggerClass.getName());
+        }
+        return (_Logger_)proxy;
+    }
+
+    /**
+    * Creates the message prefix for the scopes that are bound on the calling thread.
+    *
+    * @param scopes the {@link LogScope}s
+    * @return the prefix, or {@code null} if none of the scopes is bound
+    **/
+    static String getPrefix(LogScope<?>[] scopes)
+    {
+        StringBuilder prefix = null;
+        for (LogScope<?> scope: scopes)
+        {
+            Object value = scope.get();
+            if (value != null)
+            {
+                prefix = prefix == null? new StringBuilder("["):prefix.append(' ');
+                prefix.append(scope.getKey()).append('=').append(value);
+            }
+        }
+        return prefix != null? prefix.append("] ").toString():null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable
+    {
+        if (method.getDeclaringClass() == Object.class)
+        {
+            switch (method.getName())
+            {
+                case "equals":
+                    return proxy == arguments[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+        }
+        int index = MESSAGE_INDICES.computeIfAbsent(method, ScopedLogger::getMessageIndex);
+        if (index != NO_MESSAGE && arguments[index] != null)
+        {
+            String prefix = getPrefix(scopes);
+            if (prefix != null)
+            {
+                arguments[index] = prefix + arguments[index];
+            }
+        }
+        try
+        {
+            return method.invoke(logger, arguments);
+        }
+        catch (InvocationTargetException exception)
+        {
+            throw exception.getCause();
+        }
+    }
+
+    private static int getMessageIndex(Method method)
+    {
+        if (LoggingCalls.getLevel(method) != LoggingCalls.NOT_LOGGING)
+        {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int index = 0; index < parameterTypes.length; index++)
+            {
+                if (parameterTypes[index] == String.class)
+                {
+                    return index;
+                }
+            }
+        }
+        return NO_MESSAGE;
+    }
+
+    /**
+    * The scoped {@link java.util.logging.Logger}. The prefix is quoted if the record's message will be formatted
+    * with {@link java.text.MessageFormat}, so that scope values are never mistaken for format elements.
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger
+    {
+        private final Logger logger;
+        private final LogScope<?>[] scopes;
+
+        JavaUtilLogger(Logger logger, LogScope<?>[] scopes)
+        {
+            this.logger = logger;
+            this.scopes = scopes;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return logger;
+        }
+
+        @Override
+        public void log(LogRecord record)
+        {
+            String message = record.getMessage();
+            if (message != null && !isLocalized(record))
+            {
+                String prefix = getPrefix(scopes);
+                if (prefix != null)
+                {
+                    Object[] parameters = record.getParameters();
+                    boolean formatted = parameters != null && parameters.length > 0 && isFormat(prefix + message);
+                    record.setMessage(formatted? "'" + prefix.replace("'", "''") + "'" + message:prefix + message);
+                }
+            }
+            super.log(record);
+        }
+
+        private boolean isLocalized(LogRecord record)
+        {
+            return record.getResourceBundle() != null || record.getResourceBundleName() != null
+                || logger.getResourceBundle() != null || logger.getResourceBundleName() != null;
+        }
+
+        /**
+        * Mirrors the check of {@link java.util.logging.Formatter#formatMessage(LogRecord)}.
+        **/
+        private static boolean isFormat(String message)
+        {
+            return message.contains("{0") || message.contains("{1") || message.contains("{2")
+                || message.contains("{3");
+        }
+    }
+}
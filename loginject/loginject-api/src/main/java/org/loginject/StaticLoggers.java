@@ -0,0 +1,152 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+* {@link StaticLoggers} injects the static logger fields of injectee classes for bindings with
+* {@linkplain LogInject#staticFields() static-field injection}. Static fields are injected if they are annotated with
+* {@link InjectStatic} or (for DI frameworks that permit it) with an injection annotation. Adapters invoke
+* {@link #inject(Class)} whenever an instance of a class is (about to be) created; the static fields of the class and
+* its superclasses are injected only the first time, and all subsequent calls for the same class are a single
+* {@link ClassValue} lookup. Static fields are injected with the declaring class as the injectee class.
+* <p>
+* Each container (i.e., each HK2 service locator, Guice injector, or Spring bean factory) has its own
+* {@link StaticLoggers} object, and each injects a class's static fields once. A static field, however, is shared by
+* all containers of the JVM that use the same class, so it holds the logger of the container that injected it last.
+* Static loggers therefore do not belong to a container, and their {@link LogInjectionPoint#getContainer()} is
+* {@code null}.
+*
+* @author Mirko Raner
+**/
+class StaticLoggers
+{
+    private final Predicate<Field> injected;
+    private final Function<Class<?>, LogInject<?>> bindings;
+    private final Set<Class<?>> injectedClasses = Collections.newSetFromMap(new WeakHashMap<>());
+    private final ClassValue<Boolean> injectedClass = new ClassValue<Boolean>()
+    {
+        @Override
+        protected Boolean computeValue(Class<?> type)
+        {
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null && superclass != Object.class)
+            {
+                get(superclass);
+            }
+            injectStaticFields(type);
+            return Boolean.TRUE;
+        }
+    };
+
+    /**
+    * Creates a new {@link StaticLoggers} object.
+    *
+    * @param injected a predicate that determines whether a field is an injection point (in addition to fields that
+    * are annotated with {@link InjectStatic})
+    * @param bindings maps a field type to its {@link LogInject} binding (or to {@code null} if there is none)
+    **/
+    StaticLoggers(Predicate<Field> injected, Function<Class<?>, LogInject<?>> bindings)
+    {
+        this.injected = injected;
+        this.bindings = bindings;
+    }
+
+    /**
+    * Injects the static logger fields of a class and its superclasses, unless they were already injected.
+    *
+    * @param type the injectee class
+    **/
+    void inject(Class<?> type)
+    {
+        injectedClass.get(type);
+    }
+
+    /**
+    * Determines whether a class or any of its superclasses has static fields that might be injected.
+    *
+    * @param type the class
+    * @param injected a predicate that determines whether a field is an injection point
+    * @return {@code true} if the class has static injection points
+    **/
+    static boolean hasStaticInjectionPoints(Class<?> type, Predicate<Field> injected)
+    {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass())
+        {
+            if (Stream.of(current.getDeclaredFields()).anyMatch(field -> isStaticInjectionPoint(field, injected)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStaticInjectionPoint(Field field, Predicate<Field> injected)
+    {
+        int modifiers = field.getModifiers();
+        return Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)
+            && (field.isAnnotationPresent(InjectStatic.class) || injected.test(field));
+    }
+
+    private void injectStaticFields(Class<?> type)
+    {
+        // ClassValue may compute the value of a class more than once if several threads request it at the same time;
+        // the other threads wait until the fields are injected (classes whose fields could not be injected are not
+        // recorded, so that another attempt is possible):
+        synchronized (injectedClasses)
+        {
+            if (!injectedClasses.contains(type))
+            {
+                injectDeclaredFields(type);
+                injectedClasses.add(type);
+            }
+        }
+    }
+
+    private void injectDeclaredFields(Class<?> type)
+    {
+        for (Field field: type.getDeclaredFields())
+        {
+            if (!isStaticInjectionPoint(field, injected))
+            {
+                continue;
+            }
+            LogInject<?> logInject = bindings.apply(field.getType());
+            if (logInject == null || !logInject.isStaticInjection())
+            {
+                continue;
+            }
+            try
+            {
+                field.setAccessible(true);
+                field.set(null, logInject.createLogger(LogInjectionPoint.of(type, field)));
+            }
+            catch (IllegalAccessException exception)
+            {
+                throw new LogInjectException("cannot inject " + field, exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+* {@link SwappableLoggers} keeps track of the loggers of a {@linkplain LogInject#swappable() swappable} binding. Each
+* injection receives a thin holder instead of the actual logger; the holder forwards all calls to its current
+* delegate, which is held in a volatile field. {@linkplain LogInject#swap(String, Function) Swapping} replaces the
+* delegates of all holders whose injectee class matches a {@link ClassNamePattern}, and also applies to loggers that
+* are injected afterwards. Swaps are serialized, but injections do not take any lock: the binding's own logger is
+* resolved without locking, and a holder that races with a swap resolves its delegate again. Calls to a holder do
+* not take any lock or lookup either, but a holder is not free: the {@link java.util.logging.Logger} holder is a
+* hand-written subclass that reads its volatile delegate for each call, and all other holders are
+* {@link java.lang.reflect.Proxy} objects that forward each call reflectively. Holders are only weakly referenced
+* and do not prevent injectees from being garbage-collected.
+*
+* @param <_Logger_> the logger type
+*
+* @author Mirko Raner
+**/
+final class SwappableLoggers<_Logger_>
+{
+    /**
+    * A {@link Swap} assigns a logger factory to the injectee classes that match a pattern. Swaps without a factory
+    * restore the binding's own loggers.
+    **/
+    private final static class Swap<_Logger_>
+    {
+        final ClassNamePattern pattern;
+        final Function<? super Class<?>, ? extends _Logger_> factory;
+
+        Swap(String pattern, Function<? super Class<?>, ? extends _Logger_> factory)
+        {
+            this.pattern = new ClassNamePattern(pattern);
+            this.factory = factory;
+        }
+    }
+
+    /**
+    * A {@link Holder} is the stand-in that is injected instead of the actual logger.
+    **/
+    private static interface Holder
+    {
+        Class<?> getInjectee();
+
+        Supplier<?> getResolver();
+
+        void setDelegate(Object delegate);
+    }
+
+    private final Class<_Logger_> loggerClass;
+    private final BiFunction<Class<?>, _Logger_, _Logger_> decorator;
+    private final Set<WeakReference<Holder>> holders = ConcurrentHashMap.newKeySet();
+    private final ReferenceQueue<Holder> collected = new ReferenceQueue<>();
+    private final List<Swap<_Logger_>> swaps = new CopyOnWriteArrayList<>();
+
+    /**
+    * Creates a new {@link SwappableLoggers} object.
+    *
+    * @param loggerClass the logger class of the binding
+    * @param decorator the function that decorates the loggers of swap factories for an injectee class (in the same
+    * way as the binding's own loggers)
+    **/
+    SwappableLoggers(Class<_Logger_> loggerClass, BiFunction<Class<?>, _Logger_, _Logger_> decorator)
+    {
+        this.loggerClass = loggerClass;
+        this.decorator = decorator;
+    }
+
+    /**
+    * Creates the holder for a new injection.
+    *
+    * @param injectee the injectee class
+    * @param resolver the supplier of the binding's own (decorated) logger for the injection
+    * @return the holder (which, for implementation classes other than {@link java.util.logging.Logger}, is only an
+    * instance of the logger interfaces)
+    * @throws LogInjectException if the logger implements no interfaces and is not a {@link java.util.logging.Logger}
+    **/
+    @SuppressWarnings("unchecked")
+    _Logger_ hold(Class<?> injectee, Supplier<_Logger_> resolver)
+    {
+        expunge();
+        int generation = swaps.size();
+        Object delegate = resolve(injectee, resolver);
+        if (delegate == null)
+        {
+            return null;
+        }
+        Holder holder;
+        Object logger;
+        if (delegate instanceof Logger && loggerClass.isAssignableFrom(Logger.class))
+        {
+            JavaUtilLogger javaUtilLogger = new JavaUtilLogger(injectee, resolver);
+            holder = javaUtilLogger;
+            logger = javaUtilLogger;
+        }
+        else
+        {
+            Handler handler = new Handler(injectee, resolver);
+            holder = handler;
+            logger = LoggingCalls.newProxy(loggerClass, handler);
+            if (logger == null)
+            {
+                throw new LogInjectException("no swappable logger available for " + loggerClass.getName());
+            }
+        }
+        holder.setDelegate(delegate);
+        holders.add(new WeakReference<>(holder, collected));
+        // Swaps are only ever added; a swap that was added since the delegate was resolved may have missed the holder:
+        while (generation != swaps.size())
+        {
+            generation = swaps.size();
+            holder.setDelegate(resolve(injectee, resolver));
+        }
+        return (_Logger_)logger;
+    }
+
+    /**
+    * Swaps the loggers of all matching injectee classes, including classes that are injected in the future.
+    *
+    * @param pattern the class name pattern
+    * @param factory the factory that creates the new logger for an injectee class, or {@code null} to restore the
+    * binding's own loggers
+    * @return the number of existing holders whose logger was swapped
+    **/
+    synchronized int swap(String pattern, Function<? super Class<?>, ? extends _Logger_> factory)
+    {
+        expunge();
+        Swap<_Logger_> swap = new Swap<>(pattern, factory);
+        swaps.add(swap);
+        List<Holder> matching = new ArrayList<>();
+        holders.stream().map(WeakReference::get).filter(holder -> holder != null)
+            .filter(holder -> swap.pattern.matches(holder.getInjectee())).forEach(matching::add);
+        matching.forEach(holder -> holder.setDelegate(resolve(holder.getInjectee(), holder.getResolver())));
+        return matching.size();
+    }
+
+    private void expunge()
+    {
+        for (Object reference; (reference = collected.poll()) != null;)
+        {
+            holders.remove(reference);
+        }
+    }
+
+    /**
+    * Resolves the current delegate for an injectee class (the most recent matching swap wins).
+    **/
+    private Object resolve(Class<?> injectee, Supplier<?> resolver)
+    {
+        for (int index = swaps.size() - 1; index >= 0; index--)
+        {
+            Swap<_Logger_> swap = swaps.get(index);
+            if (swap.pattern.matches(injectee))
+            {
+                if (swap.factory == null)
+                {
+                    break;
+                }
+                _Logger_ logger = swap.factory.apply(injectee);
+                if (logger == null)
+                {
+                    throw new LogInjectException("no logger from swap factory for " + injectee.getName());
+                }
+                return decorator.apply(injectee, logger);
+            }
+        }
+        return resolver.get();
+    }
+
+    /**
+    * The holder for interface logger types and inferred implementation classes.
+    **/
+    final static class Handler implements InvocationHandler, Holder
+    {
+        private final Class<?> injectee;
+        private final Supplier<?> resolver;
+        private volatile Object delegate;
+
+        Handler(Class<?> injectee, Supplier<?> resolver)
+        {
+            this.injectee = injectee;
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Class<?> getInjectee()
+        {
+            return injectee;
+        }
+
+        @Override
+        public Supplier<?> getResolver()
+        {
+            return resolver;
+        }
+
+        @Override
+        public void setDelegate(Object delegate)
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] arguments) throws Throwable
+        {
+            if (method.getDeclaringClass() == Object.class)
+            {
+                switch (method.getName())
+                {
+                    case "equals":
+                        return proxy == arguments[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        break;
+                }
+            }
+            try
+            {
+                return method.invoke(delegate, arguments);
+            }
+            catch (InvocationTargetException exception)
+            {
+                throw exception.getCause();
+            }
+        }
+    }
+
+    /**
+    * The holder for {@link java.util.logging.Logger}.
+    **/
+    final static class JavaUtilLogger extends DelegatingJavaUtilLogger implements Holder
+    {
+        private final Class<?> injectee;
+        private final Supplier<?> resolver;
+        private volatile Logger delegate;
+
+        JavaUtilLogger(Class<?> injectee, Supplier<?> resolver)
+        {
+            this.injectee = injectee;
+            this.resolver = resolver;
+        }
+
+        @Override
+        protected Logger getDelegate()
+        {
+            return delegate;
+        }
+
+        @Override
+        public Class<?> getInjectee()
+        {
+            return injectee;
+        }
+
+        @Override
+        public Supplier<?> getResolver()
+        {
+            return resolver;
+        }
+
+        @Override
+        public void setDelegate(Object delegate)
+        {
+            this.delegate = (Logger)delegate;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.After;
+import org.junit.Test;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class AsyncLogDispatcherTest
+{
+    public static interface Log
+    {
+        String getName();
+
+        boolean isDebugEnabled();
+
+        void debug(String message);
+
+        void warn(String message);
+    }
+
+    static class RecordingLog implements Log
+    {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean debugEnabled = true;
+
+        @Override
+        public String getName()
+        {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean isDebugEnabled()
+        {
+            return debugEnabled;
+        }
+
+        @Override
+        public void debug(String message)
+        {
+            record(message);
+        }
+
+        @Override
+        public void warn(String message)
+        {
+            record(message);
+        }
+
+        void record(String message)
+        {
+            messages.add(message);
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    static class BlockingLog extends RecordingLog
+    {
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        void record(String message)
+        {
+            try
+            {
+                release.await();
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            super.record(message);
+        }
+    }
+
+    static class RecordingHandler extends Handler
+    {
+        final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            records.add(record);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void flush()
+        {
+            // Nothing to flush...
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close...
+        }
+    }
+
+    private AsyncLogDispatcher dispatcher;
+
+    @After
+    public void closeDispatcher()
+    {
+        dispatcher.close();
+    }
+
+    @Test
+    public void testJavaUtilLoggerPublishesRecordsOnBackgroundThread()
+    {
+        dispatcher = AsyncLogDispatcher.blocking(16);
+        RecordingHandler handler = new RecordingHandler();
+        Logger actual = Logger.getLogger(AsyncLogDispatcherTest.class.getName());
+        actual.addHandler(handler);
+        try
+        {
+            LogInject<Logger> loginject = loginject(Logger::getLogger, currentClassName()).async(dispatcher);
+            Logger logger = loginject.createLogger(AsyncLogDispatcherTest.class);
+            logger.info("message");
+            dispatcher.flush();
+            LogRecord record = handler.records.get(0);
+            String method = "testJavaUtilLoggerPublishesRecordsOnBackgroundThread";
+            assertEquals(asList("message", getClass().getName(), method),
+                asList(record.getMessage(), record.getSourceClassName(), record.getSourceMethodName()));
+            assertTrue(handler.threads.get(0).startsWith("loginject-async-"));
+        }
+        finally
+        {
+            actual.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testInterfaceLoggerDispatchesOnlyLoggingCalls()
+    {
+        dispatcher = AsyncLogDispatcher.blocking(16);
+        RecordingLog log = new RecordingLog();
+        Log facade = loginject(Log.class, () -> log).async(dispatcher).createLogger(AsyncLogDispatcherTest.class);
+        facade.warn("warning");
+        dispatcher.flush();
+        assertEquals(asList("warning"), log.messages);
+        assertNotEquals(Thread.currentThread().getName(), log.threads.get(0));
+        assertEquals(Thread.currentThread().getName(), facade.getName());
+    }
+
+    @Test
+    public void testDroppingDispatcherDropsCallsWhileBufferIsFull()
+    {
+        dispatcher = AsyncLogDispatcher.dropping(2);
+        BlockingLog log = new BlockingLog();
+        Log facade = loginject(Log.class, () -> log).async(dispatcher).createLogger(AsyncLogDispatcherTest.class);
+        int calls = 0;
+        while (dispatcher.getDroppedCount() == 0)
+        {
+            facade.warn(String.valueOf(calls++));
+        }
+        log.release.countDown();
+        dispatcher.flush();
+        assertEquals("0", log.messages.get(0));
+        assertEquals(calls - 1, log.messages.size());
+    }
+
+    @Test
+    public void testDispatcherDropsOnlyCallsBelowThreshold() throws InterruptedException
+    {
+        dispatcher = AsyncLogDispatcher.droppingBelow(2, Level.WARNING);
+        BlockingLog log = new BlockingLog();
+        Log facade = loginject(Log.class, () -> log).async(dispatcher).createLogger(AsyncLogDispatcherTest.class);
+        facade.warn("1");
+        while (dispatcher.getDroppedCount() == 0)
+        {
+            facade.debug("dropped");
+        }
+        long dropped = dispatcher.getDroppedCount();
+        Thread warning = new Thread(() -> facade.warn("2"));
+        warning.start();
+        log.release.countDown();
+        warning.join();
+        dispatcher.flush();
+        assertEquals(dropped, dispatcher.getDroppedCount());
+        assertEquals("2", log.messages.get(log.messages.size() - 1));
+    }
+
+    @Test
+    public void testDisabledCallsAreNotDispatched()
+    {
+        dispatcher = AsyncLogDispatcher.dropping(2);
+        BlockingLog log = new BlockingLog();
+        log.debugEnabled = false;
+        Log facade = loginject(Log.class, () -> log).async(dispatcher).createLogger(AsyncLogDispatcherTest.class);
+        for (int message = 0; message < 10; message++)
+        {
+            facade.debug("disabled");
+        }
+        log.release.countDown();
+        facade.warn("warning");
+        dispatcher.flush();
+        assertEquals(0, dispatcher.getDroppedCount());
+        assertEquals(asList("warning"), log.messages);
+    }
+
+    @Test
+    public void testCloseFlushesPendingCalls()
+    {
+        dispatcher = AsyncLogDispatcher.blocking(1024);
+        RecordingLog log = new RecordingLog();
+        Log facade = loginject(Log.class, () -> log).async(dispatcher).createLogger(AsyncLogDispatcherTest.class);
+        for (int message = 0; message < 1000; message++)
+        {
+            facade.debug(String.valueOf(message));
+        }
+        dispatcher.close();
+        assertEquals(1000, log.messages.size());
+        facade.debug("after close");
+        assertEquals(Thread.currentThread().getName(), log.threads.get(1000));
+    }
+
+    @Test
+    public void testClosedDispatcherIsNotClosedAgainOnShutdown()
+    {
+        dispatcher = AsyncLogDispatcher.blocking(16);
+        assertTrue(AsyncLogDispatcher.OPEN.contains(dispatcher));
+        dispatcher.close();
+        assertFalse(AsyncLogDispatcher.OPEN.contains(dispatcher));
+    }
+}
@@ -0,0 +1,197 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LazyLoggerTest
+{
+    public static interface Log
+    {
+        String getName();
+    }
+
+    static class NamedLog implements Log
+    {
+        private final String name;
+
+        NamedLog(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+    }
+
+    static class RecordingHandler extends Handler
+    {
+        final List<LogRecord> records = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            records.add(record);
+        }
+
+        @Override
+        public void flush()
+        {
+            // Nothing to flush...
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close...
+        }
+    }
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private Log newLog(String name)
+    {
+        invocations.incrementAndGet();
+        return new NamedLog(name);
+    }
+
+    @Test
+    public void testInterfaceLoggerIsCreatedOnFirstUse()
+    {
+        LogInject<Log> loginject = loginject(Log.class, this::newLog, currentClassName()).lazy();
+        Log log = loginject.createLogger(LazyLoggerTest.class);
+        assertEquals(0, invocations.get());
+        assertEquals(LazyLoggerTest.class.getName(), log.getName());
+        assertEquals(LazyLoggerTest.class.getName(), log.getName());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void testStandInUsesIdentityEquality()
+    {
+        LogInject<Log> loginject = loginject(Log.class, this::newLog, currentClassName()).lazy();
+        Log log1 = loginject.createLogger(LazyLoggerTest.class);
+        Log log2 = loginject.createLogger(LazyLoggerTest.class);
+        assertTrue(log1.equals(log1));
+        assertFalse(log1.equals(log2));
+        assertNotEquals(0, log1.hashCode());
+        assertEquals(0, invocations.get());
+    }
+
+    @Test
+    public void testConcurrentFirstUseCreatesOneLogger() throws Exception
+    {
+        final int THREADS = 8;
+        Log log = loginject(Log.class, this::newLog, currentClassName()).lazy().createLogger(LazyLoggerTest.class);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<String>> names = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++)
+            {
+                Callable<String> firstUse = () ->
+                {
+                    start.await();
+                    return log.getName();
+                };
+                names.add(executor.submit(firstUse));
+            }
+            start.countDown();
+            for (Future<String> name: names)
+            {
+                assertEquals(LazyLoggerTest.class.getName(), name.get());
+            }
+            assertEquals(1, invocations.get());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testJavaUtilLoggerIsCreatedOnFirstUse()
+    {
+        AtomicInteger julInvocations = new AtomicInteger();
+        LogInject<Logger> loginject = loginject(Logger.class, name ->
+        {
+            julInvocations.incrementAndGet();
+            return Logger.getLogger(name);
+        },
+        currentClassName()).lazy();
+        Logger logger = loginject.createLogger(LazyLoggerTest.class);
+        assertEquals(0, julInvocations.get());
+        assertEquals(LazyLoggerTest.class.getName(), logger.getName());
+        assertEquals(1, julInvocations.get());
+    }
+
+    @Test
+    public void testJavaUtilLoggerForwardsRecords()
+    {
+        Logger logger = loginject(Logger::getLogger, currentClassName()).lazy().createLogger(LazyLoggerTest.class);
+        Logger target = Logger.getLogger(LazyLoggerTest.class.getName());
+        RecordingHandler handler = new RecordingHandler();
+        target.addHandler(handler);
+        try
+        {
+            logger.info("lazy");
+            assertEquals(1, handler.records.size());
+            LogRecord record = handler.records.get(0);
+            String[] expected = {"lazy", LazyLoggerTest.class.getName(), LazyLoggerTest.class.getName(),
+                "testJavaUtilLoggerForwardsRecords"};
+            String[] actual = {record.getMessage(), record.getLoggerName(), record.getSourceClassName(),
+                record.getSourceMethodName()};
+            assertArrayEquals(expected, actual);
+        }
+        finally
+        {
+            target.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testOtherImplementationClassesAreCreatedEagerly()
+    {
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, StringBuilder::new, currentClassName());
+        StringBuilder logger = loginject.lazy().createLogger(LazyLoggerTest.class);
+        assertSame(StringBuilder.class, logger.getClass());
+        assertEquals(LazyLoggerTest.class.getName(), logger.toString());
+    }
+}
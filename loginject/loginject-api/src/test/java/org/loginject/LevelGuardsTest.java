@@ -0,0 +1,168 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LevelGuardsTest
+{
+    public static interface Log
+    {
+        String getName();
+    }
+
+    static class RecordingHandler extends Handler
+    {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush()
+        {
+            // Nothing to flush...
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close...
+        }
+    }
+
+    private final Logger parentLogger = Logger.getLogger(LevelGuardsTest.class.getPackage().getName());
+    private final Logger configuredLogger = Logger.getLogger(LevelGuardsTest.class.getName());
+
+    @After
+    public void resetLevels()
+    {
+        parentLogger.setLevel(null);
+        configuredLogger.setLevel(null);
+        LevelGuards.refresh();
+    }
+
+    private Logger guardedLogger()
+    {
+        return loginject(Logger::getLogger, currentClassName()).guarded().createLogger(LevelGuardsTest.class);
+    }
+
+    @Test
+    public void testGuardedLoggerUsesEffectiveLevel()
+    {
+        parentLogger.setLevel(Level.FINE);
+        Logger logger = guardedLogger();
+        assertSame(LevelGuards.JavaUtilLogger.class, logger.getClass());
+        boolean[] expected = {true, true, false};
+        boolean[] actual =
+        {
+            logger.isLoggable(Level.INFO), logger.isLoggable(Level.FINE), logger.isLoggable(Level.FINER)
+        };
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testCachedLevelIsOnlyRefreshedWhenSignaled()
+    {
+        Logger logger = guardedLogger();
+        configuredLogger.setLevel(Level.OFF);
+        assertTrue(logger.isLoggable(Level.INFO));
+        LevelGuards.refresh();
+        assertFalse(logger.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    public void testLevelChangeThroughGuardedLoggerRefreshesAllGuards()
+    {
+        Logger logger1 = guardedLogger();
+        Logger logger2 = guardedLogger();
+        logger1.setLevel(Level.WARNING);
+        assertEquals(Level.WARNING, configuredLogger.getLevel());
+        assertFalse(logger2.isLoggable(Level.INFO));
+        assertTrue(logger2.isLoggable(Level.WARNING));
+    }
+
+    @Test
+    public void testInjectionsOfSameLoggerShareGuard()
+    {
+        assertSame(guardedLogger(), guardedLogger());
+    }
+
+    @Test
+    public void testConfigurationChangeRefreshesGuards() throws Exception
+    {
+        Logger logger = guardedLogger();
+        String configuration = LevelGuardsTest.class.getName() + ".level=SEVERE\n";
+        LogManager logManager = LogManager.getLogManager();
+        try
+        {
+            logManager.readConfiguration(new ByteArrayInputStream(configuration.getBytes(StandardCharsets.UTF_8)));
+            assertFalse(logger.isLoggable(Level.WARNING));
+            assertTrue(logger.isLoggable(Level.SEVERE));
+        }
+        finally
+        {
+            logManager.readConfiguration();
+        }
+    }
+
+    @Test
+    public void testGuardedLoggerLogsEnabledRecords()
+    {
+        RecordingHandler handler = new RecordingHandler();
+        configuredLogger.addHandler(handler);
+        try
+        {
+            Logger logger = guardedLogger();
+            logger.setLevel(Level.INFO);
+            logger.fine("fine");
+            logger.info("info");
+            assertEquals(1, handler.messages.size());
+            assertEquals("info", handler.messages.get(0));
+        }
+        finally
+        {
+            configuredLogger.removeHandler(handler);
+        }
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testLevelGuardsAreNotAvailableForOtherLoggerTypes()
+    {
+        loginject(Log.class, () -> () -> "log").guarded();
+    }
+}
@@ -0,0 +1,120 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Retention;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import org.junit.Test;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogContext.fields;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.context;
+import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.currentPackageName;
+import static org.loginject.LogParameter.fromCurrentClass;
+import static org.loginject.LogParameter.named;
+
+public class LogContextTest
+{
+    @Retention(RUNTIME)
+    @interface Owner
+    {
+        String value();
+    }
+
+    @Owner("checkout")
+    static class OwnedClass {/* No methods */}
+
+    static class UnownedClass {/* No methods */}
+
+    public static class ContextLogger
+    {
+        final String name;
+        final Map<String, String> fields;
+
+        ContextLogger(String name, Map<String, String> fields)
+        {
+            this.name = name;
+            this.fields = fields;
+        }
+    }
+
+    private final LogContext context = fields()
+        .constant("team", "payments")
+        .field("component", currentPackageName().map(String.class, name -> name.substring(name.lastIndexOf('.') + 1)))
+        .annotation("owner", Owner.class, Owner::value);
+
+    @Test
+    public void testFields()
+    {
+        Map<String, String> fields = context.getFields(OwnedClass.class);
+        assertEquals(Arrays.asList("team", "component", "owner"), Arrays.asList(fields.keySet().toArray()));
+        assertEquals("payments", fields.get("team"));
+        assertEquals("loginject", fields.get("component"));
+        assertEquals("checkout", fields.get("owner"));
+    }
+
+    @Test
+    public void testMissingFieldIsOmitted()
+    {
+        Map<String, String> fields = context.getFields(UnownedClass.class);
+        assertEquals(2, fields.size());
+        assertFalse(fields.containsKey("owner"));
+    }
+
+    @Test
+    public void testFieldsAreComputedOncePerClass()
+    {
+        AtomicInteger computations = new AtomicInteger();
+        LogParameter<Integer> count = fromCurrentClass(Integer.class, type -> computations.incrementAndGet());
+        LogContext counting = fields().field("count", count);
+        Map<String, String> fields = counting.getFields(OwnedClass.class);
+        assertSame(fields, counting.getFields(OwnedClass.class));
+        assertEquals(1, computations.get());
+    }
+
+    @Test(expected=UnsupportedOperationException.class)
+    public void testFieldsAreImmutable()
+    {
+        context.getFields(OwnedClass.class).put("team", "other");
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testInjectionPointSensitiveField()
+    {
+        fields().field("name", named());
+    }
+
+    @Test
+    public void testContextParameter()
+    {
+        BiFunction<String, Map<String, String>, ContextLogger> factory = ContextLogger::new;
+        LogInject<ContextLogger> loginject =
+            loginject(ContextLogger.class, factory, currentClassName(), context(context));
+        ContextLogger logger1 = loginject.createLogger(OwnedClass.class);
+        ContextLogger logger2 = loginject.createLogger(OwnedClass.class);
+        assertEquals(OwnedClass.class.getName(), logger1.name);
+        assertEquals("checkout", logger1.fields.get("owner"));
+        assertSame(logger1.fields, logger2.fields);
+    }
+}
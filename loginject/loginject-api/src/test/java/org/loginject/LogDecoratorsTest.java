@@ -0,0 +1,264 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LogDecoratorsTest
+{
+    public static interface Log
+    {
+        boolean isDebugEnabled();
+
+        long add(long value, double increment, int[] values);
+
+        void debug(String message);
+
+        void error(String message, Throwable throwable);
+
+        void log(Level level, String message);
+    }
+
+    public static class RecordingLog implements Log
+    {
+        final List<String> messages = new ArrayList<>();
+
+        public RecordingLog()
+        {
+            super();
+        }
+
+        @Override
+        public boolean isDebugEnabled()
+        {
+            return true;
+        }
+
+        @Override
+        public long add(long value, double increment, int[] values)
+        {
+            return value + (long)increment + values.length;
+        }
+
+        @Override
+        public void debug(String message)
+        {
+            messages.add(message);
+        }
+
+        @Override
+        public void error(String message, Throwable throwable)
+        {
+            throw new IllegalStateException(message);
+        }
+
+        @Override
+        public void log(Level level, String message)
+        {
+            messages.add(level + ":" + message);
+        }
+
+        public String getName()
+        {
+            return "recording";
+        }
+    }
+
+    public static class TracingDecorator implements LogDecorator
+    {
+        final List<String> events;
+
+        public TracingDecorator(List<String> events)
+        {
+            this.events = events;
+        }
+
+        @Override
+        public long enter(Class<?> injectee, int level)
+        {
+            events.add("enter " + injectee.getSimpleName() + " " + level);
+            return level + 1;
+        }
+
+        @Override
+        public void exit(Class<?> injectee, int level, long token)
+        {
+            events.add("exit " + token);
+        }
+    }
+
+    static class SkippingDecorator implements LogDecorator
+    {
+        @Override
+        public boolean isEnabled(Class<?> injectee, int level)
+        {
+            return level != Level.FINE.intValue();
+        }
+    }
+
+    static class TestClass {/* No methods */}
+
+    @Test
+    public void testDecoratedInterfaceLogger()
+    {
+        List<String> events = new ArrayList<>();
+        RecordingLog log = new RecordingLog();
+        Log decorated = loginject(Log.class, () -> log).decorated(new TracingDecorator(events))
+            .createLogger(TestClass.class);
+        decorated.debug("message");
+        assertTrue(decorated.isDebugEnabled());
+        assertFalse(Proxy.isProxyClass(decorated.getClass()));
+        assertEquals(asList("message"), log.messages);
+        assertEquals(asList("enter TestClass 500", "exit 501"), events);
+    }
+
+    @Test
+    public void testGeneratedClassIsSharedByDecoratorChain()
+    {
+        LogInject<Log> loginject = loginject(Log.class, RecordingLog::new).decorated(new TracingDecorator(null));
+        Class<?> decoratedClass = loginject.createLogger(TestClass.class).getClass();
+        assertSame(decoratedClass, loginject.createLogger(getClass()).getClass());
+        LogInject<Log> other = loginject(Log.class, RecordingLog::new).decorated(new TracingDecorator(null));
+        assertSame(decoratedClass, other.createLogger(TestClass.class).getClass());
+    }
+
+    @Test
+    public void testPrimitiveArgumentsAndReturnValues()
+    {
+        Log decorated = loginject(Log.class, RecordingLog::new).decorated(new SkippingDecorator())
+            .createLogger(TestClass.class);
+        assertEquals(45L, decorated.add(40L, 2.5, new int[3]));
+    }
+
+    @Test
+    public void testDecoratorSkipsLoggingCalls()
+    {
+        List<String> events = new ArrayList<>();
+        RecordingLog log = new RecordingLog();
+        LogDecorator[] decorators = {new TracingDecorator(events), new SkippingDecorator()};
+        Log decorated = loginject(Log.class, () -> log).decorated(decorators).createLogger(TestClass.class);
+        decorated.debug("skipped");
+        decorated.log(Level.INFO, "unknown level");
+        assertEquals(asList("INFO:unknown level"), log.messages);
+        assertEquals(asList("enter TestClass " + Integer.MIN_VALUE, "exit " + (Integer.MIN_VALUE + 1)), events);
+    }
+
+    @Test
+    public void testExitIsInvokedIfLoggerFails()
+    {
+        List<String> events = new ArrayList<>();
+        LogDecorator[] decorators = {new TracingDecorator(events), new TracingDecorator(events)};
+        Log decorated = loginject(Log.class, RecordingLog::new).decorated(decorators).createLogger(TestClass.class);
+        try
+        {
+            decorated.error("failure", null);
+            fail();
+        }
+        catch (IllegalStateException exception)
+        {
+            assertEquals("failure", exception.getMessage());
+        }
+        assertEquals(asList("enter TestClass 1000", "enter TestClass 1000", "exit 1001", "exit 1001"), events);
+    }
+
+    @Test
+    public void testDecoratedImplementationClass()
+    {
+        List<String> events = new ArrayList<>();
+        RecordingLog log = new RecordingLog();
+        Supplier<RecordingLog> factory = () -> log;
+        LogInject<?> loginject = loginject(factory).decorated(new TracingDecorator(events));
+        assertSame(LogInject.ClassType.IMPLEMENTATION, loginject.getLoggerClassType());
+        Object decorated = loginject.createLogger(TestClass.class);
+        assertFalse(decorated instanceof RecordingLog);
+        ((Log)decorated).debug("message");
+        assertSame(Object.class, decorated.getClass().getSuperclass());
+        assertEquals(asList("enter TestClass 500", "exit 501"), events);
+        assertEquals(asList("message"), log.messages);
+    }
+
+    @Test
+    public void testConcreteLoggerClassIsNotDecorated()
+    {
+        try
+        {
+            loginject(RecordingLog.class, RecordingLog::new).decorated(new TracingDecorator(null));
+            fail();
+        }
+        catch (LogInjectException exception)
+        {
+            assertEquals("decorators are not available for " + RecordingLog.class.getName(), exception.getMessage());
+        }
+    }
+
+    @Test
+    public void testDecoratedJavaUtilLogger()
+    {
+        List<LogRecord> records = new ArrayList<>();
+        Handler handler = new Handler()
+        {
+            @Override
+            public void publish(LogRecord record)
+            {
+                records.add(record);
+            }
+
+            @Override
+            public void flush()
+            {
+                // Nothing to flush...
+            }
+
+            @Override
+            public void close()
+            {
+                // Nothing to close...
+            }
+        };
+        Logger actual = Logger.getLogger(TestClass.class.getName());
+        actual.addHandler(handler);
+        try
+        {
+            List<String> events = new ArrayList<>();
+            LogInject<Logger> loginject = loginject(Logger::getLogger, currentClassName());
+            Logger logger = loginject.decorated(new TracingDecorator(events)).createLogger(TestClass.class);
+            logger.warning("message");
+            assertEquals(asList("enter TestClass 900", "exit 901"), events);
+            assertEquals(getClass().getName(), records.get(0).getSourceClassName());
+        }
+        finally
+        {
+            actual.removeHandler(handler);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogGranularity.custom;
+import static org.loginject.LogGranularity.perClass;
+import static org.loginject.LogGranularity.perPackage;
+import static org.loginject.LogGranularity.segments;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LogGranularityTest
+{
+    @Test
+    public void testPerClass()
+    {
+        assertEquals("java.util.Map$Entry", perClass().getName(Map.Entry.class));
+    }
+
+    @Test
+    public void testPerPackage()
+    {
+        assertEquals("java.util", perPackage().getName(Map.Entry.class));
+    }
+
+    @Test
+    public void testSegments()
+    {
+        assertEquals("java.util", segments(2).getName(Map.Entry.class));
+    }
+
+    @Test
+    public void testMoreSegmentsThanName()
+    {
+        assertEquals("java.util.Map$Entry", segments(5).getName(Map.Entry.class));
+    }
+
+    @Test
+    public void testCustom()
+    {
+        assertEquals("Entry", custom(Class::getSimpleName).getName(Map.Entry.class));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvalidSegments()
+    {
+        segments(0);
+    }
+
+    @Test
+    public void testSharedLoggerPerPackage()
+    {
+        LogParameter<String> packageName = currentClassName(perPackage());
+        LogInject<StringBuilder> loginject =
+            loginject(StringBuilder.class, StringBuilder::new, packageName).granularity(perPackage());
+        StringBuilder map = loginject.createLogger(Map.class);
+        StringBuilder list = loginject.createLogger(java.util.List.class);
+        StringBuilder string = loginject.createLogger(String.class);
+        assertSame(map, list);
+        assertNotSame(map, string);
+        assertEquals("java.util", map.toString());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testGranularityMismatch()
+    {
+        loginject(StringBuilder.class, StringBuilder::new, currentClassName()).granularity(perPackage());
+    }
+
+    @Test
+    public void testEqualGranularities()
+    {
+        LogParameter<String> name = currentClassName(segments(2));
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, StringBuilder::new, name);
+        assertSame(loginject, loginject.granularity(segments(2)));
+        assertNotEquals(segments(2), segments(3));
+    }
+}
@@ -0,0 +1,111 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LogInjectIndexTest
+{
+    public static interface Log
+    {
+        // No methods...
+    }
+
+    public static interface NamedLog extends Log
+    {
+        // No methods...
+    }
+
+    static class SimpleLog implements NamedLog
+    {
+        SimpleLog(String name)
+        {
+            // Name is ignored...
+        }
+    }
+
+    static class OtherLog implements Log
+    {
+        // No methods...
+    }
+
+    private final Function<String, SimpleLog> simpleLog = SimpleLog::new;
+    private final LogInject<SimpleLog> implementation = loginject(simpleLog, currentClassName());
+    private final LogInject<OtherLog> other = loginject(OtherLog.class, OtherLog::new);
+    private final LogInject<Log> log = loginject(Log.class, OtherLog::new);
+
+    @Test
+    public void testImplementationBindingProvidesSupertypes()
+    {
+        LogInjectIndex index = new LogInjectIndex(Arrays.asList(implementation, other));
+        assertSame(implementation, index.get(SimpleLog.class));
+        assertSame(implementation, index.get(NamedLog.class));
+        assertSame(implementation, index.get(Log.class));
+        assertSame(other, index.get(OtherLog.class));
+        assertNull(index.get(Object.class));
+    }
+
+    @Test
+    public void testExactTypeTakesPrecedence()
+    {
+        LogInjectIndex index = new LogInjectIndex(Arrays.asList(implementation, log));
+        assertSame(log, index.get(Log.class));
+        assertSame(implementation, index.get(NamedLog.class));
+    }
+
+    @Test
+    public void testInterfaceBindingProvidesOnlyItsType()
+    {
+        LogInjectIndex index = new LogInjectIndex(Arrays.asList(loginject(NamedLog.class, () -> new SimpleLog(""))));
+        assertNull(index.get(Log.class));
+        index.add(log);
+        assertSame(log, index.get(Log.class));
+        assertEquals(1, LogInjectIndex.getBindingTypes(log).size());
+    }
+
+    @Test
+    public void testSupertypes()
+    {
+        Set<Class<?>> expected = new HashSet<>(Arrays.asList(Object.class, HashSet.class, AbstractSet.class, Set.class,
+            Cloneable.class, Serializable.class, AbstractCollection.class, Collection.class, Iterable.class));
+        assertEquals(expected, LogInjectIndex.getSupertypes(HashSet.class));
+    }
+
+    @Test
+    public void testOnlyJavaUtilLoggingTypesOfJdkAreBindable()
+    {
+        assertTrue(LogInjectIndex.isBindable(Logger.class));
+        assertTrue(LogInjectIndex.isBindable(Log.class));
+        assertFalse(LogInjectIndex.isBindable(Object.class));
+    }
+}
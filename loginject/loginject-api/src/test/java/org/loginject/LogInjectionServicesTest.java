@@ -0,0 +1,104 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.loginject.LogInject.loginject;
+
+public class LogInjectionServicesTest
+{
+    private final static AtomicInteger INSTANCES = new AtomicInteger();
+
+    public static class LowPriorityService implements LogInjectionService<StringBuilder, Object>
+    {
+        public LowPriorityService()
+        {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public StringBuilder getBindings(LogInject<Object> loginject)
+        {
+            return new StringBuilder("low");
+        }
+    }
+
+    public static class HighPriorityService implements LogInjectionService<StringBuilder, Object>
+    {
+        public HighPriorityService()
+        {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public StringBuilder getBindings(LogInject<Object> loginject)
+        {
+            return new StringBuilder("high");
+        }
+
+        @Override
+        public int getPriority()
+        {
+            return 1;
+        }
+    }
+
+    @Before
+    public void refresh()
+    {
+        LogInjectionServices.refresh();
+        INSTANCES.set(0);
+    }
+
+    @Test
+    public void testBindingTypeFromTypeArgument()
+    {
+        assertEquals(StringBuilder.class, new LowPriorityService().getBindingType());
+    }
+
+    @Test
+    public void testHighestPriorityServiceIsSelected()
+    {
+        assertEquals("high", loginject(Object.class, Object::new).as(StringBuilder.class).toString());
+    }
+
+    @Test
+    public void testServicesAreDiscoveredOnlyOnce()
+    {
+        loginject(Object.class, Object::new).as(StringBuilder.class);
+        loginject(Object.class, Object::new).as(StringBuilder.class);
+        assertEquals(2, INSTANCES.get());
+    }
+
+    @Test
+    public void testRefreshDiscoversServicesAgain()
+    {
+        loginject(Object.class, Object::new).as(StringBuilder.class);
+        LogInjectionServices.refresh();
+        loginject(Object.class, Object::new).as(StringBuilder.class);
+        assertEquals(4, INSTANCES.get());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testUnsupportedBindingType()
+    {
+        loginject(Object.class, Object::new).as(Runnable.class);
+    }
+}
@@ -0,0 +1,179 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Retention;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Named;
+import org.junit.Test;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.loginject.LogParameter.annotation;
+import static org.loginject.LogParameter.combine;
+import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.container;
+import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.currentPackageName;
+import static org.loginject.LogParameter.currentSimpleName;
+import static org.loginject.LogParameter.fromCurrentClass;
+import static org.loginject.LogParameter.named;
+
+public class LogParameterTest
+{
+    @Retention(RUNTIME)
+    @interface Component
+    {
+        String value();
+    }
+
+    @Component("test-component")
+    static class AnnotatedClass extends NamedInjectionPoints {/* No methods */}
+
+    static class UnannotatedClass extends NamedInjectionPoints {/* No methods */}
+
+    @Test
+    public void testCurrentPackageName()
+    {
+        assertEquals("org.loginject", currentPackageName().getValue(AnnotatedClass.class));
+    }
+
+    @Test
+    public void testCurrentSimpleName()
+    {
+        assertEquals("AnnotatedClass", currentSimpleName().getValue(AnnotatedClass.class));
+    }
+
+    @Test
+    public void testAnnotation()
+    {
+        LogParameter<String> component = annotation(Component.class).map(String.class, Component::value);
+        assertEquals("test-component", component.getValue(AnnotatedClass.class));
+    }
+
+    @Test
+    public void testMissingAnnotation()
+    {
+        LogParameter<String> component = annotation(Component.class).map(String.class, Component::value);
+        assertNull(component.getValue(UnannotatedClass.class));
+    }
+
+    @Test
+    public void testCombine()
+    {
+        LogParameter<String> name = combine(currentClassName(), constantString(".audit"), String.class, String::concat);
+        assertEquals(AnnotatedClass.class.getName() + ".audit", name.getValue(AnnotatedClass.class));
+    }
+
+    @Test
+    public void testDerivationsAreComputedOncePerClass()
+    {
+        AtomicInteger invocations = new AtomicInteger();
+        LogParameter<String> name = fromCurrentClass(String.class, type ->
+        {
+            invocations.incrementAndGet();
+            return type.getName();
+        });
+        LogParameter<Integer> length = name.map(Integer.class, value ->
+        {
+            invocations.incrementAndGet();
+            return value.length();
+        });
+        for (int count = 0; count < 10; count++)
+        {
+            length.getValue(AnnotatedClass.class);
+            length.getValue(UnannotatedClass.class);
+        }
+        assertEquals(4, invocations.get());
+    }
+
+    static class NamedInjectionPoints
+    {
+        @Named("audit")
+        Object audit;
+
+        @Named("audit")
+        @Deprecated
+        Object deprecatedAudit;
+
+        Object unnamed;
+    }
+
+    @Test
+    public void testNamed() throws NoSuchFieldException
+    {
+        LogInjectionPoint audit = LogInjectionPoint.of(AnnotatedClass.class, getField("audit"));
+        LogInjectionPoint unnamed = LogInjectionPoint.of(AnnotatedClass.class, getField("unnamed"));
+        String[] expected = {"audit", null, "audit", AnnotatedClass.class.getName()};
+        String[] actual = {named().getValue(audit), named().getValue(unnamed),
+            named(currentClassName()).getValue(audit), named(currentClassName()).getValue(unnamed)};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testInjectionPointQualifiersAndName() throws NoSuchFieldException
+    {
+        LogInjectionPoint injectionPoint = LogInjectionPoint.of(UnannotatedClass.class, getField("deprecatedAudit"));
+        assertEquals(1, injectionPoint.getQualifiers().length);
+        assertEquals("deprecatedAudit", injectionPoint.getName());
+        assertEquals(UnannotatedClass.class, injectionPoint.getInjecteeClass());
+        assertEquals(NamedInjectionPoints.class, injectionPoint.getMember().getDeclaringClass());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInjectionPointOfUnrelatedClass() throws NoSuchFieldException
+    {
+        LogInjectionPoint.of(LogParameterTest.class, getField("audit"));
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInjectionPointOfUnrelatedParameter() throws NoSuchMethodException
+    {
+        Parameter parameter = String.class.getMethod("concat", String.class).getParameters()[0];
+        LogInjectionPoint.of(AnnotatedClass.class, parameter);
+    }
+
+    @Test
+    public void testDerivedInjectionPointParameter() throws NoSuchFieldException
+    {
+        LogParameter<Integer> length = named(currentSimpleName()).map(Integer.class, String::length);
+        LogParameter<String> combined = combine(currentSimpleName(), named(), String.class, String::concat);
+        LogInjectionPoint audit = LogInjectionPoint.of(AnnotatedClass.class, getField("audit"));
+        assertEquals(Integer.valueOf(5), length.getValue(audit));
+        assertEquals(Integer.valueOf(14), length.getValue(AnnotatedClass.class));
+        assertEquals("AnnotatedClassaudit", combined.getValue(audit));
+    }
+
+    private Field getField(String name) throws NoSuchFieldException
+    {
+        return NamedInjectionPoints.class.getDeclaredField(name);
+    }
+
+    @Test
+    public void testContainer() throws NoSuchFieldException
+    {
+        LogInjectionPoint audit = LogInjectionPoint.of(AnnotatedClass.class, getField("audit"));
+        LogInjectionPoint tenantAudit = audit.inContainer("tenant");
+        String[] expected = {null, "tenant", "audit", "audit"};
+        String[] actual = {container().getValue(audit), container().getValue(tenantAudit), tenantAudit.getNamed(),
+            tenantAudit.getName()};
+        assertArrayEquals(expected, actual);
+    }
+}
@@ -0,0 +1,221 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogRateLimit.perSecond;
+import static org.loginject.LogRateLimit.sampling;
+
+public class LogRateLimitTest
+{
+    public static interface Log
+    {
+        boolean isDebugEnabled();
+
+        void debug(String message);
+
+        void warn(String message);
+    }
+
+    static class RecordingLog implements Log
+    {
+        final List<String> messages = new ArrayList<>();
+        boolean debugEnabled = true;
+
+        @Override
+        public boolean isDebugEnabled()
+        {
+            return debugEnabled;
+        }
+
+        @Override
+        public void debug(String message)
+        {
+            messages.add(message);
+        }
+
+        @Override
+        public void warn(String message)
+        {
+            messages.add(message);
+        }
+    }
+
+    static class RecordingHandler extends Handler
+    {
+        final List<LogRecord> records = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            records.add(record);
+        }
+
+        @Override
+        public void flush()
+        {
+            // Nothing to flush...
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close...
+        }
+    }
+
+    static class NoisyClass {/* No methods */}
+
+    static class QuietClass {/* No methods */}
+
+    @Test
+    public void testTokenBucketAllowsBurst()
+    {
+        LogRateLimit.Limiter limiter = perSecond(0.001, 3).newLimiter();
+        List<Boolean> permits = asList(limiter.permit(), limiter.permit(), limiter.permit(), limiter.permit());
+        assertEquals(asList(true, true, true, false), permits);
+    }
+
+    @Test
+    public void testSamplerPassesOnOneInN()
+    {
+        LogRateLimit.Limiter limiter = sampling(3).newLimiter();
+        List<Boolean> permits = new ArrayList<>();
+        for (int message = 0; message < 6; message++)
+        {
+            permits.add(limiter.permit());
+        }
+        assertEquals(asList(true, false, false, true, false, false), permits);
+    }
+
+    @Test
+    public void testSummaryIsReportedOncePerInterval()
+    {
+        LogRateLimit.Limiter limiter = sampling(2).summarizeEvery(Duration.ZERO).newLimiter();
+        limiter.permit();
+        limiter.permit();
+        limiter.permit();
+        limiter.permit();
+        assertEquals(2, limiter.getSuppressedForSummary());
+        assertEquals(0, limiter.getSuppressedForSummary());
+        assertEquals(0, sampling(2).newLimiter().getSuppressedForSummary());
+    }
+
+    @Test
+    public void testRateLimitsAreMatchedByPattern()
+    {
+        RecordingLog log = new RecordingLog();
+        LogInject<Log> loginject = loginject(Log.class, () -> log)
+            .rateLimited(NoisyClass.class.getName(), sampling(2).summarizeEvery(Duration.ofDays(1)))
+            .rateLimited(getClass().getPackage().getName() + ".*", sampling(1));
+        Log noisy = loginject.createLogger(NoisyClass.class);
+        Log quiet = loginject.createLogger(QuietClass.class);
+        for (int message = 0; message < 4; message++)
+        {
+            noisy.debug("noisy" + message);
+            quiet.debug("quiet" + message);
+        }
+        assertTrue(noisy.isDebugEnabled());
+        assertEquals(asList("noisy0", "quiet0", "quiet1", "noisy2", "quiet2", "quiet3"), log.messages);
+    }
+
+    @Test
+    public void testLimiterIsSharedByAllInjectionsIntoClass()
+    {
+        RecordingLog log = new RecordingLog();
+        LogInject<Log> loginject = loginject(Log.class, () -> log).rateLimited(sampling(2));
+        loginject.createLogger(NoisyClass.class).debug("1");
+        loginject.createLogger(NoisyClass.class).debug("2");
+        loginject.createLogger(NoisyClass.class).debug("3");
+        assertEquals(asList("1", "3"), log.messages);
+    }
+
+    @Test
+    public void testSummaryIsLoggedAsWarning()
+    {
+        RecordingLog log = new RecordingLog();
+        LogRateLimit limit = perSecond(0.001, 1).summarizeEvery(Duration.ZERO);
+        Log noisy = loginject(Log.class, () -> log).rateLimited(limit).createLogger(NoisyClass.class);
+        noisy.debug("1");
+        noisy.debug("2");
+        String summary = "suppressed 1 log messages from " + NoisyClass.class.getName();
+        assertEquals(asList("1", summary), log.messages);
+    }
+
+    @Test
+    public void testDisabledCallsDoNotUseUpLimit()
+    {
+        RecordingLog log = new RecordingLog();
+        Log noisy = loginject(Log.class, () -> log).rateLimited(perSecond(0.001, 1)).createLogger(NoisyClass.class);
+        log.debugEnabled = false;
+        noisy.debug("disabled");
+        log.debugEnabled = true;
+        noisy.debug("1");
+        noisy.debug("2");
+        assertEquals(asList("1"), log.messages);
+    }
+
+    @Test
+    public void testRateLimitedJavaUtilLogger()
+    {
+        RecordingHandler handler = new RecordingHandler();
+        Logger actual = Logger.getLogger(NoisyClass.class.getName());
+        actual.addHandler(handler);
+        actual.setUseParentHandlers(false);
+        try
+        {
+            LogRateLimit limit = sampling(3).summarizeEvery(Duration.ZERO);
+            LogInject<Logger> loginject = loginject(Logger::getLogger, currentClassName()).rateLimited(limit);
+            Logger logger = loginject.createLogger(NoisyClass.class);
+            for (int message = 0; message < 4; message++)
+            {
+                logger.info("message" + message);
+            }
+            // With a summary interval of zero, each suppressed message is reported right away:
+            assertEquals(4, handler.records.size());
+            LogRecord summary = handler.records.get(1);
+            List<Object> expected = asList(Level.WARNING, NoisyClass.class.getName(), NoisyClass.class.getName());
+            assertEquals(expected, asList(summary.getLevel(), summary.getSourceClassName(), summary.getLoggerName()));
+            assertEquals("message3", handler.records.get(3).getMessage());
+            assertSame(getClass().getName(), handler.records.get(0).getSourceClassName());
+        }
+        finally
+        {
+            actual.removeHandler(handler);
+            actual.setUseParentHandlers(true);
+        }
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvalidRate()
+    {
+        perSecond(0, 1);
+    }
+}
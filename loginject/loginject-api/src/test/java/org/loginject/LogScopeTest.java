@@ -0,0 +1,152 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import org.junit.After;
+import org.junit.Test;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LogScopeTest
+{
+    public static interface Log
+    {
+        void info(String message);
+
+        void warn(String format, Object... parameters);
+    }
+
+    static class RecordingLog implements Log
+    {
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void info(String message)
+        {
+            messages.add(message);
+        }
+
+        @Override
+        public void warn(String format, Object... parameters)
+        {
+            messages.add(String.format(format, parameters));
+        }
+    }
+
+    static class RecordingHandler extends Handler
+    {
+        final Formatter formatter = new SimpleFormatter();
+        final List<String> messages = new ArrayList<>();
+
+        @Override
+        public void publish(LogRecord record)
+        {
+            messages.add(formatter.formatMessage(record));
+        }
+
+        @Override
+        public void flush()
+        {
+            // Nothing to flush...
+        }
+
+        @Override
+        public void close()
+        {
+            // Nothing to close...
+        }
+    }
+
+    static class TestClass {/* No methods */}
+
+    private final static LogScope<String> TRACE_ID = LogScope.newInstance("traceId");
+    private final static LogScope<String> TENANT = LogScope.newThreadLocalInstance("tenant");
+
+    private final Logger configuredLogger = Logger.getLogger(TestClass.class.getName());
+    private final RecordingHandler handler = new RecordingHandler();
+
+    @After
+    public void removeHandler()
+    {
+        configuredLogger.removeHandler(handler);
+    }
+
+    @Test
+    public void testValueIsBoundDuringOperation() throws Exception
+    {
+        assertNull(TRACE_ID.get());
+        assertEquals("abc", TRACE_ID.call("abc", TRACE_ID::get));
+        assertNull(TRACE_ID.get());
+    }
+
+    @Test
+    public void testThreadLocalValueIsRestored()
+    {
+        List<String> values = new ArrayList<>();
+        TENANT.run("outer", () ->
+        {
+            TENANT.run("inner", () -> values.add(TENANT.get()));
+            values.add(TENANT.get());
+        });
+        values.add(TENANT.get());
+        assertEquals(asList("inner", "outer", null), values);
+    }
+
+    @Test(expected=InterruptedException.class)
+    public void testExceptionIsPropagated() throws Exception
+    {
+        TRACE_ID.call("abc", () ->
+        {
+            throw new InterruptedException();
+        });
+    }
+
+    @Test
+    public void testScopedInterfaceLogger()
+    {
+        RecordingLog recordingLog = new RecordingLog();
+        Log log = loginject(Log.class, () -> recordingLog).scoped(TRACE_ID, TENANT).createLogger(TestClass.class);
+        log.info("unscoped");
+        TRACE_ID.run("abc", () -> log.info("traced"));
+        TRACE_ID.run("abc", () -> TENANT.run("acme", () -> log.warn("%s declined", "payment")));
+        assertEquals(asList("unscoped", "[traceId=abc] traced", "[traceId=abc tenant=acme] payment declined"),
+            recordingLog.messages);
+    }
+
+    @Test
+    public void testScopedJavaUtilLogger()
+    {
+        configuredLogger.addHandler(handler);
+        Logger logger = loginject(Logger::getLogger, currentClassName()).scoped(TRACE_ID).createLogger(TestClass.class);
+        logger.info("unscoped");
+        TRACE_ID.run("{0}'s", () -> logger.info("traced"));
+        TRACE_ID.run("{1}'s", () -> logger.log(Level.INFO, "{0} declined", "payment"));
+        assertEquals(asList("unscoped", "[traceId={0}'s] traced", "[traceId={1}'s] payment declined"),
+            handler.messages);
+    }
+}
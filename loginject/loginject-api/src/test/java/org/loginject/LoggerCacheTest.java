@@ -0,0 +1,104 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class LoggerCacheTest
+{
+    @Test
+    public void testCacheHit()
+    {
+        LoggerCache<Object> cache = new LoggerCache<>(10);
+        Object logger = cache.get(String.class, new Object[] {"a"}, Object::new);
+        assertSame(logger, cache.get(String.class, new Object[] {"a"}, Object::new));
+    }
+
+    @Test
+    public void testDifferentParametersAreDifferentKeys()
+    {
+        LoggerCache<Object> cache = new LoggerCache<>(10);
+        Object logger = cache.get(String.class, new Object[] {"a"}, Object::new);
+        assertNotSame(logger, cache.get(String.class, new Object[] {"b"}, Object::new));
+    }
+
+    @Test
+    public void testEvictionOfOldestEntry()
+    {
+        LoggerCache<Object> cache = new LoggerCache<>(2);
+        Object first = cache.get(String.class, new Object[0], Object::new);
+        cache.get(Integer.class, new Object[0], Object::new);
+        cache.get(Long.class, new Object[0], Object::new);
+        assertNotSame(first, cache.get(String.class, new Object[0], Object::new));
+        LogCacheStatistics statistics = cache.getStatistics();
+        long[] expected = {0, 4, 2, 2};
+        long[] actual =
+        {
+            statistics.getHitCount(), statistics.getMissCount(), statistics.getEvictionCount(), statistics.getSize()
+        };
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test(timeout=10_000)
+    public void testConcurrentMissesCreateLoggerOnce() throws InterruptedException
+    {
+        LoggerCache<Object> cache = new LoggerCache<>(10);
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[8];
+        for (int index = 0; index < threads.length; index++)
+        {
+            threads[index] = new Thread(() ->
+            {
+                try
+                {
+                    start.await();
+                }
+                catch (InterruptedException interrupted)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                cache.get(String.class, new Object[] {"a"}, () ->
+                {
+                    invocations.incrementAndGet();
+                    Thread.yield();
+                    return new Object();
+                });
+            });
+            threads[index].start();
+        }
+        start.countDown();
+        for (Thread thread: threads)
+        {
+            thread.join();
+        }
+        assertEquals(1, invocations.get());
+        assertEquals(1, cache.getStatistics().getSize());
+    }
+
+    @Test(expected=IllegalArgumentException.class)
+    public void testInvalidMaximumSize()
+    {
+        new LoggerCache<>(0);
+    }
+}
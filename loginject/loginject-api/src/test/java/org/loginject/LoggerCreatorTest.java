@@ -0,0 +1,184 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import org.junit.Assume;
+import org.junit.Test;
+import com.sun.management.ThreadMXBean;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.currentClass;
+import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.parameter;
+
+public class LoggerCreatorTest
+{
+    private final static int ITERATIONS = 200_000;
+    private final static StringBuilder LOGGER = new StringBuilder();
+
+    @Test
+    public void testNoParameters()
+    {
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, () -> new StringBuilder("none"));
+        assertEquals("none", loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test
+    public void testOneParameter()
+    {
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, StringBuilder::new, currentClassName());
+        assertEquals(LoggerCreatorTest.class.getName(), loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test
+    public void testTwoParameters()
+    {
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class,
+            (String name, String suffix) -> new StringBuilder(name).append(suffix), currentClassName(),
+            constantString("!"));
+        assertEquals(LoggerCreatorTest.class.getName() + "!",
+            loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test
+    public void testStaticFactoryWithThreeParameters() throws Exception
+    {
+        Method factory = getClass().getDeclaredMethod("create", String.class, String.class, int.class);
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, factory, currentClassName(),
+            constantString("/"), parameter(42));
+        assertEquals(LoggerCreatorTest.class.getName() + "/42",
+            loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test
+    public void testStaticFactoryWithFiveParameters() throws Exception
+    {
+        Method factory = getClass().getDeclaredMethod("create", String.class, String.class, String.class,
+            String.class, String.class);
+        LogInject<?> loginject = loginject(factory, constantString("a"), constantString("b"), constantString("c"),
+            constantString("d"), constantString("e"));
+        assertEquals(StringBuilder.class, loginject.getLoggerClass());
+        assertEquals("abcde", loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test
+    public void testConstructor() throws Exception
+    {
+        LogInject<?> loginject = loginject(StringBuilder.class.getConstructor(String.class), currentClassName());
+        assertEquals(LogInject.ClassType.IMPLEMENTATION, loginject.getLoggerClassType());
+        assertEquals(LoggerCreatorTest.class.getName(), loginject.createLogger(LoggerCreatorTest.class).toString());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testWrongNumberOfParameters() throws Exception
+    {
+        loginject(StringBuilder.class, StringBuilder.class.getConstructor(String.class));
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testIncompatibleParameter() throws Exception
+    {
+        loginject(StringBuilder.class, StringBuilder.class.getConstructor(String.class), currentClass());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testIncompatibleLoggerClass() throws Exception
+    {
+        loginject(String.class, StringBuilder.class.getConstructor(String.class), currentClassName());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testInstanceMethod() throws Exception
+    {
+        loginject(String.class, String.class.getMethod("trim"));
+    }
+
+    @Test
+    public void testNoAllocationForNoParameters()
+    {
+        assertNoAllocation(loginject(StringBuilder.class, () -> LOGGER));
+    }
+
+    @Test
+    public void testNoAllocationForOneParameter()
+    {
+        assertNoAllocation(loginject(StringBuilder.class, (Class<?> type) -> LOGGER, currentClass()));
+    }
+
+    @Test
+    public void testNoAllocationForTwoParameters()
+    {
+        assertNoAllocation(loginject(StringBuilder.class, (String name, String suffix) -> LOGGER,
+            currentClassName(), constantString("!")));
+    }
+
+    @Test
+    public void testNoAllocationForStaticFactoryWithThreeParameters() throws Exception
+    {
+        Method factory = getClass().getDeclaredMethod("get", String.class, String.class, Class.class);
+        assertNoAllocation(loginject(StringBuilder.class, factory, currentClassName(), constantString("!"),
+            currentClass()));
+    }
+
+    static StringBuilder create(String name, String separator, int number)
+    {
+        return new StringBuilder(name).append(separator).append(number);
+    }
+
+    static StringBuilder create(String a, String b, String c, String d, String e)
+    {
+        return new StringBuilder(a).append(b).append(c).append(d).append(e);
+    }
+
+    static StringBuilder get(String name, String suffix, Class<?> type)
+    {
+        return LOGGER;
+    }
+
+    private void assertNoAllocation(LogInject<StringBuilder> loginject)
+    {
+        Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean);
+        ThreadMXBean threadBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        createLoggers(loginject);
+        createLoggers(loginject);
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        createLoggers(loginject);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // Allow for a small constant overhead of the measurement itself (but much less than one byte per call):
+        //
+        assertTrue(allocated + " bytes allocated", allocated < ITERATIONS/100);
+    }
+
+    private void createLoggers(LogInject<StringBuilder> loginject)
+    {
+        for (int count = 0; count < ITERATIONS; count++)
+        {
+            if (loginject.createLogger(LoggerCreatorTest.class) != LOGGER)
+            {
+                throw new AssertionError();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogGranularity.perPackage;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LoggerPrewarmingTest
+{
+    private final static List<Class<?>> INJECTEES = Arrays.asList(String.class, Integer.class, List.class, Map.class);
+
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    private StringBuilder newLogger(String name)
+    {
+        invocations.incrementAndGet();
+        return new StringBuilder(name);
+    }
+
+    @Test
+    public void testPrewarmedLoggersAreReused()
+    {
+        LogInject<StringBuilder> loginject =
+            loginject(StringBuilder.class, this::newLogger, currentClassName()).cached();
+        loginject.prewarm(INJECTEES);
+        assertEquals(INJECTEES.size(), invocations.get());
+        StringBuilder logger = loginject.createLogger(String.class);
+        assertSame(logger, loginject.createLogger(String.class));
+        assertEquals(String.class.getName(), logger.toString());
+        assertEquals(INJECTEES.size(), invocations.get());
+        LogCacheStatistics statistics = loginject.getCacheStatistics();
+        long[] expected = {2, INJECTEES.size(), INJECTEES.size()};
+        long[] actual = {statistics.getHitCount(), statistics.getMissCount(), statistics.getSize()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testPrewarmStream()
+    {
+        LogInject<StringBuilder> loginject =
+            loginject(StringBuilder.class, this::newLogger, currentClassName()).cached();
+        loginject.prewarm(Stream.of(String.class, String.class, Integer.class));
+        loginject.createLogger(Integer.class);
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testPrewarmSharedLoggers()
+    {
+        LogParameter<String> packageName = currentClassName(perPackage());
+        LogInject<StringBuilder> loginject = loginject(StringBuilder.class, this::newLogger, packageName);
+        loginject.granularity(perPackage()).prewarm(INJECTEES);
+        assertEquals(2, invocations.get());
+        assertSame(loginject.createLogger(List.class), loginject.createLogger(Map.class));
+        assertEquals(0, loginject.getCacheStatistics().getMaximumSize());
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testPrewarmWithExecutor() throws Exception
+    {
+        LogInject<StringBuilder> loginject =
+            loginject(StringBuilder.class, this::newLogger, currentClassName()).cached();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try
+        {
+            assertSame(loginject, loginject.prewarm(INJECTEES, executor).get());
+            loginject.createLogger(Map.class);
+            assertEquals(INJECTEES.size(), invocations.get());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testPrewarmWithoutCacheOrGranularity()
+    {
+        loginject(StringBuilder.class, this::newLogger, currentClassName()).prewarm(INJECTEES);
+    }
+}
@@ -0,0 +1,113 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogInject.loginjectDeclared;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LoggerRegistryTest
+{
+    static class NamedLog
+    {
+        final String name;
+
+        NamedLog(String name)
+        {
+            this.name = name;
+        }
+    }
+
+    static class OtherLog extends NamedLog
+    {
+        OtherLog(String name)
+        {
+            super(name);
+        }
+    }
+
+    @Test
+    public void testSharedBindingsShareLoggers()
+    {
+        LogInject<NamedLog> loginject1 = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        LogInject<NamedLog> loginject2 = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        NamedLog log = loginject1.createLogger(List.class);
+        assertSame(log, loginject2.createLogger(List.class));
+        assertNotSame(log, loginject2.createLogger(Map.class));
+        assertEquals(List.class.getName(), log.name);
+    }
+
+    @Test
+    public void testUnsharedBindingsCreateTheirOwnLoggers()
+    {
+        LogInject<NamedLog> loginject1 = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        LogInject<NamedLog> loginject2 = loginject(NamedLog::new, currentClassName());
+        assertNotSame(loginject1.createLogger(List.class), loginject2.createLogger(List.class));
+    }
+
+    @Test
+    public void testDifferentFactoriesDoNotShareLoggers()
+    {
+        LogInject<NamedLog> loginject1 = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        LogInject<NamedLog> loginject2 = loginjectDeclared((String name) -> new NamedLog(name), currentClassName())
+            .shared();
+        assertNotSame(loginject1.createLogger(List.class), loginject2.createLogger(List.class));
+    }
+
+    @Test
+    public void testDifferentLoggerTypesDoNotShareLoggers()
+    {
+        LogInject<NamedLog> loginject1 = loginject(NamedLog.class, NamedLog::new, currentClassName()).shared();
+        LogInject<OtherLog> loginject2 = loginject(OtherLog.class, OtherLog::new, currentClassName()).shared();
+        assertNotSame(loginject1.createLogger(List.class), loginject2.createLogger(List.class));
+    }
+
+    @Test
+    public void testSharedCachedBinding()
+    {
+        LogInject<NamedLog> loginject1 = loginjectDeclared(NamedLog::new, currentClassName()).shared().cached();
+        LogInject<NamedLog> loginject2 = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        NamedLog log = loginject1.createLogger(List.class);
+        assertSame(log, loginject1.createLogger(List.class));
+        assertSame(log, loginject2.createLogger(List.class));
+        assertEquals(1, loginject1.getCacheStatistics().getHitCount());
+    }
+
+    @Test
+    public void testUnusedLoggersAreReleased() throws InterruptedException
+    {
+        LogInject<NamedLog> loginject = loginjectDeclared(NamedLog::new, currentClassName()).shared();
+        Reference<NamedLog> log = new WeakReference<>(loginject.createLogger(LoggerRegistryTest.class));
+        for (int attempt = 0; attempt < 10 && log.get() != null; attempt++)
+        {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertNull(log.get());
+        NamedLog newLog = loginject.createLogger(LoggerRegistryTest.class);
+        assertSame(newLog, loginject.createLogger(LoggerRegistryTest.class));
+    }
+}
@@ -0,0 +1,145 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogInject.loginjectDeclared;
+import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.currentClassName;
+
+public class LoggerTypeInferenceTest
+{
+    private final static AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    static class TestLogger implements Runnable
+    {
+        @Override
+        public void run()
+        {
+            // Nothing to do...
+        }
+    }
+
+    static class SubclassLogger extends TestLogger {/* No methods */}
+
+    static TestLogger getLogger()
+    {
+        INVOCATIONS.incrementAndGet();
+        return new SubclassLogger();
+    }
+
+    static TestLogger getLogger(String name)
+    {
+        INVOCATIONS.incrementAndGet();
+        return new SubclassLogger();
+    }
+
+    static Runnable getLogger(String name, String bundle)
+    {
+        INVOCATIONS.incrementAndGet();
+        return new SubclassLogger();
+    }
+
+    @Before
+    public void reset()
+    {
+        INVOCATIONS.set(0);
+    }
+
+    @Test
+    public void testSupplierMethodReference()
+    {
+        LogInject<TestLogger> loginject = loginjectDeclared(LoggerTypeInferenceTest::getLogger);
+        Object[] expected = {0, TestLogger.class, LogInject.ClassType.IMPLEMENTATION};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass(), loginject.getLoggerClassType()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testFunctionMethodReference()
+    {
+        LogInject<TestLogger> loginject = loginjectDeclared(LoggerTypeInferenceTest::getLogger, currentClassName());
+        Object[] expected = {0, TestLogger.class};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testBiFunctionMethodReferenceWithInterfaceType()
+    {
+        LogInject<Runnable> loginject =
+            loginjectDeclared(LoggerTypeInferenceTest::getLogger, currentClassName(), constantString("bundle"));
+        Object[] expected = {0, Runnable.class, LogInject.ClassType.INTERFACE};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass(), loginject.getLoggerClassType()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testLambda()
+    {
+        LogInject<TestLogger> loginject = loginjectDeclared((String name) -> getLogger(name), currentClassName());
+        Object[] expected = {0, TestLogger.class};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testUndeterminableDeclaredType()
+    {
+        loginjectDeclared(Object::new);
+    }
+
+    @Test
+    public void testSupplierUsesPrototype()
+    {
+        LogInject<TestLogger> loginject = loginject(LoggerTypeInferenceTest::getLogger);
+        Object[] expected = {1, SubclassLogger.class, LogInject.ClassType.IMPLEMENTATION};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass(), loginject.getLoggerClassType()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testFunctionUsesPrototype()
+    {
+        LogInject<TestLogger> loginject = loginject(LoggerTypeInferenceTest::getLogger, currentClassName());
+        Object[] expected = {1, SubclassLogger.class, LogInject.ClassType.IMPLEMENTATION};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass(), loginject.getLoggerClassType()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testBiFunctionWithInterfaceTypeUsesPrototype()
+    {
+        LogInject<Runnable> loginject =
+            loginject(LoggerTypeInferenceTest::getLogger, currentClassName(), constantString("bundle"));
+        Object[] expected = {1, SubclassLogger.class, LogInject.ClassType.IMPLEMENTATION};
+        Object[] actual = {INVOCATIONS.get(), loginject.getLoggerClass(), loginject.getLoggerClassType()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testDeclaredBindingCreatesLoggers()
+    {
+        LogInject<TestLogger> loginject = loginjectDeclared(LoggerTypeInferenceTest::getLogger, currentClassName());
+        assertEquals(SubclassLogger.class, loginject.createLogger(LoggerTypeInferenceTest.class).getClass());
+    }
+}
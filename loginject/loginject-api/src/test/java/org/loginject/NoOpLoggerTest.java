@@ -0,0 +1,156 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.inject.Inject;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class NoOpLoggerTest
+{
+    public static interface Log
+    {
+        boolean isEnabled();
+
+        int getLevel();
+
+        String getName();
+
+        void log(String message);
+    }
+
+    static class DisabledLog implements Log
+    {
+        @Override
+        public boolean isEnabled()
+        {
+            return false;
+        }
+
+        @Override
+        public int getLevel()
+        {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public String getName()
+        {
+            return "disabled";
+        }
+
+        @Override
+        public void log(String message)
+        {
+            // Disabled...
+        }
+    }
+
+    static class TestClass
+    {
+        @Inject
+        Logger logger;
+    }
+
+    private final Logger configuredLogger = Logger.getLogger(TestClass.class.getName());
+
+    @After
+    public void resetLevel()
+    {
+        configuredLogger.setLevel(null);
+    }
+
+    private LogInject<Logger> loginjectDisabledJavaUtilLoggers()
+    {
+        return loginject(Logger::getLogger, currentClassName()).disabledIf(logger -> !logger.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    public void testDisabledClassReceivesSharedNoOpLogger()
+    {
+        configuredLogger.setLevel(Level.OFF);
+        LogInject<Logger> loginject = loginjectDisabledJavaUtilLoggers();
+        Logger logger1 = loginject.createLogger(TestClass.class);
+        Logger logger2 = loginjectDisabledJavaUtilLoggers().createLogger(TestClass.class);
+        assertSame(NoOpLogger.JavaUtilLogger.class, logger1.getClass());
+        assertSame(logger1, logger2);
+        assertFalse(logger1.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    public void testEnabledClassReceivesActualLogger()
+    {
+        Logger logger = loginjectDisabledJavaUtilLoggers().createLogger(TestClass.class);
+        assertSame(configuredLogger, logger);
+    }
+
+    @Test
+    public void testNoOpLoggerIgnoresConfiguration()
+    {
+        Logger logger = NoOpLogger.get(Logger.class);
+        logger.setLevel(Level.ALL);
+        logger.addHandler(new ConsoleHandler());
+        assertEquals(Level.OFF, logger.getLevel());
+        assertEquals(0, logger.getHandlers().length);
+        assertFalse(logger.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    public void testReinjectionAfterConfigurationChange()
+    {
+        configuredLogger.setLevel(Level.OFF);
+        LogInject<Logger> loginject = loginjectDisabledJavaUtilLoggers();
+        TestClass injectee = new TestClass();
+        loginject.reinject(injectee);
+        assertSame(NoOpLogger.get(Logger.class), injectee.logger);
+        configuredLogger.setLevel(Level.INFO);
+        loginject.reinject(injectee);
+        assertSame(configuredLogger, injectee.logger);
+        configuredLogger.setLevel(Level.OFF);
+        assertSame(NoOpLogger.get(Logger.class), loginject.reinject(injectee).logger);
+    }
+
+    @Test
+    public void testNoOpInterfaceLoggerReturnsDefaultValues()
+    {
+        Log log = NoOpLogger.get(Log.class);
+        log.log("ignored");
+        assertFalse(log.isEnabled());
+        assertEquals(0, log.getLevel());
+        assertNull(log.getName());
+        assertSame(log, NoOpLogger.get(Log.class));
+    }
+
+    @Test
+    public void testApplicationSuppliedNoOpLogger()
+    {
+        Log noOpLog = new DisabledLog();
+        LogInject<Log> loginject = loginject(Log.class, DisabledLog::new).disabledIf(log -> !log.isEnabled(), noOpLog);
+        assertSame(noOpLog, loginject.createLogger(TestClass.class));
+        assertNotSame(noOpLog, loginject(Log.class, DisabledLog::new).createLogger(TestClass.class));
+    }
+}
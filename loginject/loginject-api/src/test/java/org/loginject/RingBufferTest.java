@@ -0,0 +1,91 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTest
+{
+    @Test
+    public void testCapacityIsRoundedUpToPowerOfTwo()
+    {
+        assertEquals(8, new RingBuffer<String>(5).getCapacity());
+        assertEquals(8, new RingBuffer<String>(8).getCapacity());
+    }
+
+    @Test
+    public void testElementsArePolledInOrderUntilEmpty()
+    {
+        RingBuffer<String> buffer = new RingBuffer<>(2);
+        assertTrue(buffer.offer("A"));
+        assertTrue(buffer.offer("B"));
+        assertFalse(buffer.offer("C"));
+        assertEquals("A", buffer.poll());
+        assertTrue(buffer.offer("C"));
+        assertEquals("B", buffer.poll());
+        assertEquals("C", buffer.poll());
+        assertNull(buffer.poll());
+        assertEquals(3, buffer.getAddedCount());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException
+    {
+        final int PRODUCERS = 4;
+        final int ELEMENTS = 10_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(64);
+        List<Thread> producers = new ArrayList<>();
+        for (int producer = 0; producer < PRODUCERS; producer++)
+        {
+            int offset = producer * ELEMENTS;
+            Thread thread = new Thread(() ->
+            {
+                for (int element = 0; element < ELEMENTS; element++)
+                {
+                    while (!buffer.offer(offset + element))
+                    {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        Set<Integer> consumed = new HashSet<>();
+        while (consumed.size() < PRODUCERS * ELEMENTS)
+        {
+            Integer element = buffer.poll();
+            if (element != null)
+            {
+                assertTrue(consumed.add(element));
+            }
+        }
+        for (Thread producer: producers)
+        {
+            producer.join();
+        }
+        assertNull(buffer.poll());
+    }
+}
@@ -0,0 +1,73 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class StaticLoggersTest
+{
+    static class StaticLoggerClass
+    {
+        @InjectStatic
+        static Logger logger;
+    }
+
+    @Test
+    public void testConcurrentInjectionWaitsForInjectedFields() throws InterruptedException
+    {
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch created = new CountDownLatch(1);
+        LogInject<Logger> logInject = loginject(Logger.class, (String name) ->
+        {
+            creating.countDown();
+            try
+            {
+                created.await(10, SECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return Logger.getLogger(name);
+        }, currentClassName()).staticFields();
+        StaticLoggers staticLoggers = new StaticLoggers(field -> false, type -> logInject);
+        AtomicReference<Logger> injected = new AtomicReference<>();
+        Thread injector = new Thread(() -> staticLoggers.inject(StaticLoggerClass.class));
+        Thread latecomer = new Thread(() ->
+        {
+            staticLoggers.inject(StaticLoggerClass.class);
+            injected.set(StaticLoggerClass.logger);
+        });
+        injector.start();
+        creating.await(10, SECONDS);
+        latecomer.start();
+        latecomer.join(100);
+        assertTrue(latecomer.isAlive());
+        created.countDown();
+        latecomer.join();
+        injector.join();
+        assertEquals(StaticLoggerClass.class.getName(), injected.get().getName());
+    }
+}
@@ -0,0 +1,166 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import org.junit.Test;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class SwappableLoggersTest
+{
+    public static interface Log
+    {
+        String getName();
+
+        void info(String message);
+    }
+
+    static class RecordingLog implements Log
+    {
+        final String name;
+        final List<String> messages = new ArrayList<>();
+
+        RecordingLog(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+
+        @Override
+        public void info(String message)
+        {
+            messages.add(message);
+        }
+    }
+
+    static class ClientClass {/* No methods */}
+
+    static class ServerClass {/* No methods */}
+
+    @Test
+    public void testSwapAffectsExistingAndFutureInjections()
+    {
+        RecordingLog original = new RecordingLog("original");
+        RecordingLog debug = new RecordingLog("debug");
+        LogInject<Log> loginject = loginject(Log.class, () -> original).swappable();
+        Log client1 = loginject.createLogger(ClientClass.class);
+        Log server = loginject.createLogger(ServerClass.class);
+        assertEquals(1, loginject.swap(ClientClass.class.getName(), type -> debug));
+        Log client2 = loginject.createLogger(ClientClass.class);
+        client1.info("client1");
+        client2.info("client2");
+        server.info("server");
+        assertEquals(asList("client1", "client2"), debug.messages);
+        assertEquals(asList("server"), original.messages);
+    }
+
+    @Test
+    public void testRestoreRevertsSwap()
+    {
+        RecordingLog original = new RecordingLog("original");
+        LogInject<Log> loginject = loginject(Log.class, () -> original).swappable();
+        Log client = loginject.createLogger(ClientClass.class);
+        Log server = loginject.createLogger(ServerClass.class);
+        assertEquals(2, loginject.swap(getClass().getName() + "*", type -> new RecordingLog(type.getSimpleName())));
+        assertEquals(asList("ClientClass", "ServerClass"), asList(client.getName(), server.getName()));
+        assertEquals(1, loginject.restore(ServerClass.class.getName()));
+        assertEquals(asList("ClientClass", "original"), asList(client.getName(), server.getName()));
+    }
+
+    @Test
+    public void testSwappableJavaUtilLogger()
+    {
+        LogInject<Logger> loginject = loginject(Logger::getLogger, currentClassName()).swappable();
+        Logger logger = loginject.createLogger(ClientClass.class);
+        assertEquals(ClientClass.class.getName(), logger.getName());
+        loginject.swap("*", type -> Logger.getLogger("debug." + type.getName()));
+        assertEquals("debug." + ClientClass.class.getName(), logger.getName());
+        assertSame(SwappableLoggers.JavaUtilLogger.class, logger.getClass());
+    }
+
+    @Test(timeout=10_000)
+    public void testSwapIsVisibleToOtherThreads() throws Exception
+    {
+        LogInject<Log> loginject = loginject(Log.class, () -> new RecordingLog("original")).swappable();
+        Log client = loginject.createLogger(ClientClass.class);
+        AtomicInteger calls = new AtomicInteger();
+        Thread reader = new Thread(() ->
+        {
+            while (client.getName().equals("original"))
+            {
+                calls.incrementAndGet();
+            }
+        });
+        reader.start();
+        while (calls.get() == 0)
+        {
+            Thread.yield();
+        }
+        loginject.swap("*", type -> new RecordingLog("swapped"));
+        reader.join();
+        assertEquals("swapped", client.getName());
+    }
+
+    @Test(timeout=10_000)
+    public void testSwapDuringInjectionIsNotBlockedAndApplies() throws Exception
+    {
+        CountDownLatch resolving = new CountDownLatch(1);
+        CountDownLatch swapped = new CountDownLatch(1);
+        LogInject<Log> loginject = loginject(Log.class, () ->
+        {
+            resolving.countDown();
+            try
+            {
+                swapped.await(10, SECONDS);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            return new RecordingLog("original");
+        }).swappable();
+        AtomicReference<Log> client = new AtomicReference<>();
+        Thread injection = new Thread(() -> client.set(loginject.createLogger(ClientClass.class)));
+        injection.start();
+        resolving.await(10, SECONDS);
+        assertEquals(0, loginject.swap("*", type -> new RecordingLog("swapped")));
+        swapped.countDown();
+        injection.join();
+        assertEquals("swapped", client.get().getName());
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testSwapRequiresSwappableBinding()
+    {
+        loginject(Log.class, () -> new RecordingLog("original")).swap("*", type -> null);
+    }
+}
@@ -0,0 +1,92 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+/**
+* Compares level checks and disabled logging calls on a raw {@link java.util.logging.Logger} (which inherits its level
+* from a parent logger several levels up the hierarchy) with the same calls on a {@linkplain LogInject#guarded()
+* guarded} logger. Both loggers are enabled for {@link Level#INFO} only, so that the {@link Level#FINE} calls are
+* disabled.
+*
+* @author Mirko Raner
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class LevelGuardBenchmark
+{
+    static class Service
+    {
+        // Injectee class only...
+    }
+
+    private Logger configuredParent;
+    private Logger rawLogger;
+    private Logger guardedLogger;
+
+    @Setup
+    public void setup()
+    {
+        configuredParent = Logger.getLogger("org");
+        configuredParent.setLevel(Level.INFO);
+        rawLogger = Logger.getLogger(Service.class.getName());
+        guardedLogger = loginject(Logger::getLogger, currentClassName()).guarded().createLogger(Service.class);
+    }
+
+    @Benchmark
+    public boolean rawIsLoggable()
+    {
+        return rawLogger.isLoggable(Level.FINE);
+    }
+
+    @Benchmark
+    public boolean guardedIsLoggable()
+    {
+        return guardedLogger.isLoggable(Level.FINE);
+    }
+
+    @Benchmark
+    public void rawDisabledLogCall()
+    {
+        rawLogger.fine("disabled");
+    }
+
+    @Benchmark
+    public void guardedDisabledLogCall()
+    {
+        guardedLogger.fine("disabled");
+    }
+}
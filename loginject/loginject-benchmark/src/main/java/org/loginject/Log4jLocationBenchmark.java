@@ -0,0 +1,136 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+* Compares the throughput of Log4J logging calls with a {@code "%C %m"} pattern for three sources of location
+* information:
+* <ul>
+*  <li>{@code stack-walking}: a plain Log4J logger with location capture turned on (Log4J walks the stack of the
+*      calling thread for every event)</li>
+*  <li>{@code precomputed}: a {@link LocatedLog4jLogger} with location capture turned off (the injectee class is
+*      supplied as the location)</li>
+*  <li>{@code none}: a plain Log4J logger with location capture turned off (the source class is printed as
+*      {@code ?})</li>
+* </ul>
+* All events are formatted by the layout, but the formatted events are discarded.
+*
+* @author Mirko Raner
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class Log4jLocationBenchmark
+{
+    static class Service
+    {
+        // Injectee class only...
+    }
+
+    static class FormattingAppender extends AbstractAppender
+    {
+        long characters;
+
+        FormattingAppender(PatternLayout layout)
+        {
+            super(FormattingAppender.class.getSimpleName(), null, layout, false, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event)
+        {
+            characters += getLayout().toSerializable(event).toString().length();
+        }
+    }
+
+    @Param({"stack-walking", "precomputed", "none"})
+    public String location;
+
+    private LoggerContext context;
+    private FormattingAppender appender;
+    private Logger logger;
+
+    @Setup
+    public void setup()
+    {
+        String name = Service.class.getCanonicalName();
+        String includeLocation = String.valueOf(location.equals("stack-walking"));
+        context = (LoggerContext)LogManager.getContext(Service.class.getClassLoader(), false);
+        Configuration configuration = context.getConfiguration();
+        PatternLayout layout = PatternLayout.newBuilder().withPattern("%C %m").withConfiguration(configuration).build();
+        appender = new FormattingAppender(layout);
+        appender.start();
+        AppenderRef[] references = {AppenderRef.createAppenderRef(appender.getName(), null, null)};
+        LoggerConfig loggerConfig;
+        loggerConfig = LoggerConfig.createLogger(false, Level.INFO, name, includeLocation, references, null,
+            configuration, null);
+        loggerConfig.addAppender(appender, null, null);
+        loggerConfig.start();
+        configuration.addLogger(name, loggerConfig);
+        context.updateLoggers();
+        if (location.equals("precomputed"))
+        {
+            logger = LocatedLog4jLogger.locatedLoggers().createLogger(Service.class);
+        }
+        else
+        {
+            logger = LogManager.getLogger(Service.class);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        context.getConfiguration().removeLogger(Service.class.getCanonicalName());
+        context.updateLoggers();
+        appender.stop();
+    }
+
+    @Benchmark
+    public void info()
+    {
+        logger.info("request handled");
+    }
+}
@@ -0,0 +1,103 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.currentClassName;
+
+/**
+* Compares the creation of loggers through a three-parameter factory method bound via
+* {@link LogInject#loginject(Class, java.lang.reflect.Executable, LogParameter...)} with the {@code Object[]}-based
+* approach that loginject used before (evaluating all {@link LogParameter}s into an array and unpacking that array in
+* a lambda) and with a direct call of the factory method.
+*
+* @author Mirko Raner
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=5, time=1)
+@Measurement(iterations=5, time=1)
+@Fork(1)
+public class LoggerCreationBenchmark
+{
+    public static class Logger
+    {
+        final String name;
+        final String bundle;
+        final String tenant;
+
+        Logger(String name, String bundle, String tenant)
+        {
+            this.name = name;
+            this.bundle = bundle;
+            this.tenant = tenant;
+        }
+
+        public static Logger getLogger(String name, String bundle, String tenant)
+        {
+            return new Logger(name, bundle, tenant);
+        }
+    }
+
+    private LogParameter<?>[] parameters;
+    private Function<Object[], Logger> arrayFactory;
+    private LogInject<Logger> methodHandleFactory;
+
+    @Setup
+    public void setup() throws NoSuchMethodException
+    {
+        parameters = new LogParameter<?>[] {currentClassName(), constantString("bundle"), constantString("tenant")};
+        arrayFactory = values -> Logger.getLogger((String)values[0], (String)values[1], (String)values[2]);
+        Method getLogger = Logger.class.getMethod("getLogger", String.class, String.class, String.class);
+        methodHandleFactory = loginject(Logger.class, getLogger, parameters);
+    }
+
+    @Benchmark
+    public Logger objectArray()
+    {
+        Object[] values = Arrays.stream(parameters).map(parameter -> parameter.getValue(Logger.class)).toArray();
+        return arrayFactory.apply(values);
+    }
+
+    @Benchmark
+    public Logger methodHandle()
+    {
+        return methodHandleFactory.createLogger(Logger.class);
+    }
+
+    @Benchmark
+    public Logger direct()
+    {
+        return Logger.getLogger(Logger.class.getName(), "bundle", "tenant");
+    }
+}
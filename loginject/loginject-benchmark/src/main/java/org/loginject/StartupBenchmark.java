@@ -0,0 +1,172 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.Logger;
+import javax.inject.Inject;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.api.ServiceLocatorFactory;
+import org.glassfish.hk2.utilities.Binder;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+import static org.loginject.LogInject.loginject;
+
+/**
+* Measures the time it takes to start a container and to instantiate a number of services that each receive an
+* injected {@link Log}, with eager and with {@linkplain LogInject#lazy() lazy} logger creation. The services never
+* log, which is the case that lazy injection is meant for. The logger factory creates a new {@link Logger} with a
+* {@link ConsoleHandler}, to account for the back-end configuration that typically happens when a logger is created.
+* (The benchmark uses its own logger interface because Guice has a built-in binding for {@link Logger}.)
+*
+* @author Mirko Raner
+**/
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=50)
+@Measurement(iterations=50)
+@Fork(1)
+public class StartupBenchmark
+{
+    public static interface Log
+    {
+        void info(String message);
+    }
+
+    public static class Service
+    {
+        @Inject
+        Log log;
+    }
+
+    public static class Service00 extends Service {/* No methods */}
+    public static class Service01 extends Service {/* No methods */}
+    public static class Service02 extends Service {/* No methods */}
+    public static class Service03 extends Service {/* No methods */}
+    public static class Service04 extends Service {/* No methods */}
+    public static class Service05 extends Service {/* No methods */}
+    public static class Service06 extends Service {/* No methods */}
+    public static class Service07 extends Service {/* No methods */}
+    public static class Service08 extends Service {/* No methods */}
+    public static class Service09 extends Service {/* No methods */}
+    public static class Service10 extends Service {/* No methods */}
+    public static class Service11 extends Service {/* No methods */}
+    public static class Service12 extends Service {/* No methods */}
+    public static class Service13 extends Service {/* No methods */}
+    public static class Service14 extends Service {/* No methods */}
+    public static class Service15 extends Service {/* No methods */}
+
+    private final static Class<?>[] SERVICES =
+    {
+        Service00.class, Service01.class, Service02.class, Service03.class,
+        Service04.class, Service05.class, Service06.class, Service07.class,
+        Service08.class, Service09.class, Service10.class, Service11.class,
+        Service12.class, Service13.class, Service14.class, Service15.class
+    };
+
+    private final static AtomicInteger LOCATORS = new AtomicInteger();
+
+    @Param({"eager", "lazy"})
+    public String creation;
+
+    public static Log newLog()
+    {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.addHandler(new ConsoleHandler());
+        return logger::info;
+    }
+
+    private LogInject<Log> binding()
+    {
+        LogInject<Log> loginject = loginject(Log.class, StartupBenchmark::newLog);
+        return creation.equals("lazy")? loginject.lazy():loginject;
+    }
+
+    @Benchmark
+    public void hk2(Blackhole blackhole)
+    {
+        LogInject<Log> loginject = binding();
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject.as(Binder.class));
+                for (Class<?> service: SERVICES)
+                {
+                    addActiveDescriptor(service);
+                }
+            }
+        };
+        ServiceLocator locator = ServiceLocatorUtilities.bind("startup" + LOCATORS.incrementAndGet(), binder);
+        try
+        {
+            for (Class<?> service: SERVICES)
+            {
+                blackhole.consume(locator.getService(service));
+            }
+        }
+        finally
+        {
+            ServiceLocatorFactory.getInstance().destroy(locator);
+        }
+    }
+
+    @Benchmark
+    public void guice(Blackhole blackhole)
+    {
+        Injector injector = Guice.createInjector(binding().as(Module.class));
+        for (Class<?> service: SERVICES)
+        {
+            blackhole.consume(injector.getInstance(service));
+        }
+    }
+
+    @Benchmark
+    public void spring(Blackhole blackhole)
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext())
+        {
+            context.addBeanFactoryPostProcessor(binding().as(BeanFactoryPostProcessor.class));
+            context.register(SERVICES);
+            context.refresh();
+            for (Class<?> service: SERVICES)
+            {
+                blackhole.consume(context.getBean(service));
+            }
+        }
+    }
+}
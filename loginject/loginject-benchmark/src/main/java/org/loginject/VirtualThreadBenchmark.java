@@ -0,0 +1,163 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import static org.loginject.LogInject.loginject;
+
+/**
+* Measures the time it takes to handle 100,000 concurrent requests, each on its own virtual thread, with the Guice and
+* Spring adapters. Each request binds a trace ID and a tenant to {@link LogScope}s, obtains a new service instance
+* (with an injected {@linkplain LogInject#scoped(LogScope...) scoped} logger) from the container, and logs one
+* message. The log scopes are either backed by scoped values or by {@link ThreadLocal}s. The logger discards all
+* messages, so that only the cost of injection and of stamping the request context is measured.
+* <p>
+* Virtual threads require Java 21 or later; on older Java versions, the requests are handled by a fixed pool of
+* platform threads instead (and the log scopes are always backed by {@link ThreadLocal}s). On Java 17 and later,
+* Guice additionally requires {@code -jvmArgsAppend --add-opens=java.base/java.lang=ALL-UNNAMED}.
+*
+* @author Mirko Raner
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations=5)
+@Measurement(iterations=10)
+@Fork(1)
+public class VirtualThreadBenchmark
+{
+    private final static int REQUESTS = 100_000;
+    private final static String[] TENANTS = {"acme", "globex", "initech", "umbrella"};
+    private final static LongAdder CHARACTERS = new LongAdder();
+
+    public static interface Log
+    {
+        void info(String message);
+    }
+
+    @org.springframework.context.annotation.Scope("prototype")
+    public static class Service
+    {
+        @Inject
+        Log log;
+
+        void handle(int request)
+        {
+            log.info("handled request " + request);
+        }
+    }
+
+    @Param({"guice", "spring"})
+    public String adapter;
+
+    @Param({"scoped-value", "thread-local"})
+    public String scope;
+
+    private LogScope<String> traceId;
+    private LogScope<String> tenant;
+    private Supplier<Service> services;
+    private AnnotationConfigApplicationContext context;
+
+    public static Log newLog()
+    {
+        return message -> CHARACTERS.add(message.length());
+    }
+
+    @Setup
+    public void setup()
+    {
+        boolean scopedValue = scope.equals("scoped-value");
+        traceId = scopedValue? LogScope.newInstance("traceId"):LogScope.newThreadLocalInstance("traceId");
+        tenant = scopedValue? LogScope.newInstance("tenant"):LogScope.newThreadLocalInstance("tenant");
+        LogInject<Log> loginject = loginject(Log.class, VirtualThreadBenchmark::newLog).scoped(traceId, tenant);
+        if (adapter.equals("guice"))
+        {
+            services = Guice.createInjector(loginject.as(Module.class)).getProvider(Service.class)::get;
+        }
+        else
+        {
+            context = new AnnotationConfigApplicationContext();
+            context.addBeanFactoryPostProcessor(loginject.as(BeanFactoryPostProcessor.class));
+            context.register(Service.class);
+            context.refresh();
+            services = () -> context.getBean(Service.class);
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        if (context != null)
+        {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public long requests() throws InterruptedException
+    {
+        ExecutorService executor = newExecutor();
+        for (int request = 0; request < REQUESTS; request++)
+        {
+            int currentRequest = request;
+            String currentTenant = TENANTS[request % TENANTS.length];
+            executor.execute(() -> traceId.run("trace-" + currentRequest,
+                () -> tenant.run(currentTenant, () -> services.get().handle(currentRequest))));
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        return CHARACTERS.sum();
+    }
+
+    private static ExecutorService newExecutor()
+    {
+        try
+        {
+            // Java 21 and later:
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (NoSuchMethodException java8)
+        {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+        catch (ReflectiveOperationException exception)
+        {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -16,9 +16,12 @@
 
 package org.loginject;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
+import dagger.Provides;
 
 /**
 * The {@link LogInjectionService} implementation for Dagger ended up being the fewest lines of code, but it also
@@ -30,7 +33,11 @@ import java.util.stream.Stream;
 * <p>
 * To bring loginject's value to Dagger, {@link DaggerLogInjectionService} simply determines the injection point based
 * on the call stack at the time when the logger is created. This is not a great solution, because it makes some
-* assumptions about Dagger's generated class names.
+* assumptions about Dagger's generated class names. Loggers for {@code Provider<Logger>} and {@code Lazy<Logger>}
+* injection points are created when the provider is first invoked; in that case, the class that invokes the provider
+* (rather than the class into which the provider was injected) determines the logger. For
+* {@linkplain LogInjectionPoint injection points}, only the injectee class and the qualifiers are known; the
+* qualifiers are those of the module's provider method.
 * <p>
 * To establish a generic binding for loggers in Dagger, follow this example code:
 * <pre>
@@ -56,23 +63,31 @@ import java.util.stream.Stream;
 public class DaggerLogInjectionService<_Logger_> implements LogInjectionService<_Logger_, _Logger_>
 {
     private final static String INJECT_ADAPTER = "$$InjectAdapter";
+    private final static String MODULE_ADAPTER = "$$ModuleAdapter$";
+    private final static String DAGGER_PACKAGE = "dagger.";
 
     @Override
     public boolean supports(LogInject<_Logger_> loginject, Class<?> bindingType)
     {
-        return bindingType.isAssignableFrom(loginject.getLoggerClass());
+        return LogInjectIndex.getBindingTypes(loginject).stream().anyMatch(bindingType::isAssignableFrom);
     }
 
     @Override
     public _Logger_ getBindings(LogInject<_Logger_> loginject)
     {
-        Stream<StackTraceElement> stack = Stream.of(new Throwable().getStackTrace());
+        StackTraceElement[] stack = new Throwable().getStackTrace();
         Predicate<StackTraceElement> injectAdapter = frame -> frame.getClassName().endsWith(INJECT_ADAPTER);
-        Optional<StackTraceElement> injectionCall = stack.filter(injectAdapter).findFirst();
-        String className = injectionCall.get().getClassName();
+        Optional<StackTraceElement> injectionCall = Stream.of(stack).filter(injectAdapter).findFirst();
+        String className = injectionCall.map(StackTraceElement::getClassName)
+            .map(name -> name.substring(0, name.length()-INJECT_ADAPTER.length()))
+            .orElseGet(() -> getDeferredCaller(stack));
         try
         {
-            Class<?> injectee = Class.forName(className.substring(0, className.length()-INJECT_ADAPTER.length()));
+            Class<?> injectee = Class.forName(className);
+            if (loginject.isInjectionPointSensitive())
+            {
+                return loginject.createLogger(LogInjectionPoint.of(injectee, getProviderAnnotations(stack)));
+            }
             return loginject.createLogger(injectee);
         }
         catch (ClassNotFoundException noSuchClass)
@@ -80,4 +95,53 @@ public class DaggerLogInjectionService<_Logger_> implements LogInjectionService<
             throw new NoClassDefFoundError(noSuchClass.getMessage());
         }
     }
+
+    /**
+    * Determines the annotations of the module's provider method (i.e., the method that invoked
+    * {@link LogInject#as(Class)}). Dagger only injects the result of a provider method into injection points with the
+    * same qualifiers, so the qualifiers of the provider method are also the qualifiers of the injection point. The
+    * injected field or parameter itself cannot be determined.
+    **/
+    private Annotation[] getProviderAnnotations(StackTraceElement[] stack) throws ClassNotFoundException
+    {
+        int index = 0;
+        while (index < stack.length && !(stack[index].getClassName().equals(LogInject.class.getName())
+        && stack[index].getMethodName().equals("as")))
+        {
+            index++;
+        }
+        if (++index >= stack.length)
+        {
+            return new Annotation[0];
+        }
+        String methodName = stack[index].getMethodName();
+        Stream<Method> methods = Stream.of(Class.forName(stack[index].getClassName()).getDeclaredMethods());
+        Predicate<Method> providerMethod = method -> method.getName().equals(methodName)
+            && method.isAnnotationPresent(Provides.class);
+        return methods.filter(providerMethod).findFirst().map(Method::getAnnotations).orElseGet(() -> new Annotation[0]);
+    }
+
+    /**
+    * Determines the caller of a deferred {@code Provider<Logger>} or {@code Lazy<Logger>}. When such a provider is
+    * invoked, the injection is long over, and there is no inject adapter on the stack. Instead, the class that
+    * invoked the provider is the first class after the generated module adapter and Dagger's own classes.
+    **/
+    private String getDeferredCaller(StackTraceElement[] stack)
+    {
+        int index = 0;
+        while (index < stack.length && !stack[index].getClassName().contains(MODULE_ADAPTER))
+        {
+            index++;
+        }
+        while (++index < stack.length && (stack[index].getClassName().startsWith(DAGGER_PACKAGE)
+        || stack[index].getClassName().contains(MODULE_ADAPTER)))
+        {
+            // Skip Dagger's provider and lazy implementations (and bridge methods of the module adapter)...
+        }
+        if (index >= stack.length)
+        {
+            throw new LogInjectException("cannot determine injection point of logger");
+        }
+        return stack[index].getClassName();
+    }
 }
@@ -18,21 +18,26 @@ package org.loginject;
 
 import java.util.logging.Logger;
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
 import org.junit.Test;
+import dagger.Lazy;
 import dagger.Module;
 import dagger.ObjectGraph;
 import dagger.Provides;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.loginject.LogInject.loginject;
 import static org.loginject.LogParameter.constantString;
 import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.named;
 
 public class JavaUtilLoggingLoggerTest
 {
     private final static String BUNDLE_NAME = "ResourceBundle";
 
-    @Module(injects={TestClass1.class, TestClass2.class})
+    @Module(injects={TestClass1.class, TestClass2.class, TestClass3.class})
     public static class GetLoggerStringModule
     {
         @Provides
@@ -52,6 +57,33 @@ public class JavaUtilLoggingLoggerTest
         }
     }
     
+    @Module(injects=NamedClass.class)
+    public static class NamedLoggerModule
+    {
+        @Provides
+        Logger provideLogger()
+        {
+            return loginject(Logger::getLogger, named(currentClassName())).as(Logger.class);
+        }
+
+        @Provides
+        @Named("audit")
+        Logger provideAuditLogger()
+        {
+            return loginject(Logger::getLogger, named(currentClassName())).as(Logger.class);
+        }
+    }
+
+    static class NamedClass
+    {
+        @Inject
+        @Named("audit")
+        Logger auditLogger;
+
+        @Inject
+        Logger logger;
+    }
+
     static class TestClass1
     {
         @Inject
@@ -63,6 +95,15 @@ public class JavaUtilLoggingLoggerTest
         @Inject
         Logger injectedLogger;
     }
+
+    static class TestClass3
+    {
+        @Inject
+        Lazy<Logger> lazyLogger;
+
+        @Inject
+        Provider<Logger> loggerProvider;
+    }
     
     @Test
     public void testGetInferredLoggerWithStringParameter1()
@@ -89,4 +130,31 @@ public class JavaUtilLoggingLoggerTest
         String[] actual = {service.injectedLogger.getName(), service.injectedLogger.getResourceBundleName()};
         assertArrayEquals(expected, actual);
     }
+
+    @Test
+    public void testLazyLogger()
+    {
+        ObjectGraph objectGraph = ObjectGraph.create(new GetLoggerStringModule());
+        TestClass3 service = objectGraph.get(TestClass3.class);
+        assertEquals(getClass().getName(), service.lazyLogger.get().getName());
+        assertSame(service.lazyLogger.get(), service.lazyLogger.get());
+    }
+
+    @Test
+    public void testLoggerProvider()
+    {
+        ObjectGraph objectGraph = ObjectGraph.create(new GetLoggerStringModule());
+        TestClass3 service = objectGraph.get(TestClass3.class);
+        assertEquals(getClass().getName(), service.loggerProvider.get().getName());
+    }
+
+    @Test
+    public void testNamedLoggers()
+    {
+        ObjectGraph objectGraph = ObjectGraph.create(new NamedLoggerModule());
+        NamedClass service = objectGraph.get(NamedClass.class);
+        String[] expected = {"audit", NamedClass.class.getName()};
+        String[] actual = {service.auditLogger.getName(), service.logger.getName()};
+        assertArrayEquals(expected, actual);
+    }
 }
@@ -15,34 +15,57 @@
 //                                                                          //
 package org.loginject;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Parameter;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 import com.google.inject.AbstractModule;
+import com.google.inject.Binder;
 import com.google.inject.Binding;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.MembersInjector;
 import com.google.inject.Module;
+import com.google.inject.Provider;
 import com.google.inject.TypeLiteral;
+import com.google.inject.matcher.AbstractMatcher;
+import com.google.inject.matcher.Matcher;
 import com.google.inject.matcher.Matchers;
-import com.google.inject.spi.BindingTargetVisitor;
-import com.google.inject.spi.DefaultBindingTargetVisitor;
+import com.google.inject.name.Names;
 import com.google.inject.spi.Dependency;
 import com.google.inject.spi.DependencyAndSource;
+import com.google.inject.spi.InjectionListener;
 import com.google.inject.spi.InjectionPoint;
 import com.google.inject.spi.ProviderInstanceBinding;
 import com.google.inject.spi.ProvisionListener;
-import com.google.inject.util.Modules;
+import com.google.inject.spi.TypeEncounter;
+import com.google.inject.spi.TypeListener;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
+import static org.loginject.LoggerProviders.getProviderFields;
+import static org.loginject.LoggerProviders.setProviders;
 
 /**
 * The class {@link GuiceLogInjectionService} implements a {@link LogInjectionService} for the
-* {@link com.google.inject.Guice Guice} dependency injection framework. It binds a
-* {@link javax.inject.Provider Provider} for the logger class and a {@link ProvisionListener} for obtaining the
-* injection context.
+* {@link com.google.inject.Guice Guice} dependency injection framework. It binds a {@link GuiceLoggerProvider} for
+* each type that the {@link LogInject} binding provides, and a {@link ProvisionListener} for obtaining the injection
+* context. Loggers for qualified injection points (such as {@code @Named("audit") Logger}) are only bound for the
+* qualifiers that were declared via {@link LogInject#named(String...)} or {@link LogInject#qualified(Class...)}.
+* As Guice's own providers lose the injection context, injected {@code Provider<Logger>} fields are replaced
+* by loginject providers (via a {@link TypeListener}) after the injectee was injected. The same listener also injects
+* the static logger fields of a class (for bindings with {@linkplain LogInject#staticFields() static-field injection})
+* while the first instance of the class is injected.
+* <p>
+* Any number of {@link LogInject} bindings can be installed in the same injector. The listeners are installed only
+* once per injector (Guice skips modules that are equal to an already installed module) and they only apply to
+* logger bindings. Finding the {@link LogInject} binding for an injection point is Guice's own binding lookup. The
+* container identifier of each injection point is the string constant that is bound with the {@link LogContainer}
+* annotation (if any).
 *
 * @param <_Logger_> the logger type
 *
@@ -50,120 +73,165 @@ import static java.util.stream.Collectors.toSet;
 **/
 public class GuiceLogInjectionService<_Logger_> implements LogInjectionService<Module, _Logger_>
 {
-    @Override
-    public Module getBindings(LogInject<_Logger_> logInject)
+    private final static Predicate<Field> INJECTED = field -> field.isAnnotationPresent(javax.inject.Inject.class)
+        || field.isAnnotationPresent(com.google.inject.Inject.class);
+
+    private final static Matcher<Binding<?>> LOGGER_BINDING = new AbstractMatcher<Binding<?>>()
     {
-        Stream<Class<_Logger_>> bindings = getBindingClasses(logInject);
-        return Modules.combine(bindings.map(binding -> getBindings(logInject, binding)).toArray(Module[]::new));
-    }
+        @Override
+        public boolean matches(Binding<?> binding)
+        {
+            // Providers that were created without a binding only hand out loggers that were set explicitly:
+            GuiceLoggerProvider<?> provider = getLoggerProvider(binding);
+            return provider != null && provider.getLogInject() != null;
+        }
+    };
 
-    private Module getBindings(LogInject<_Logger_> logInject, Class<_Logger_> loggerClass)
+    @Override
+    public Module getBindings(LogInject<_Logger_> logInject)
     {
-        TypeLiteral<_Logger_> loggerType = TypeLiteral.get(loggerClass);
-        GuiceLoggerProvider<_Logger_> provider = new GuiceLoggerProvider<>();
-        Predicate<Dependency<?>> matchesLogger = dependency -> loggerType.equals(dependency.getKey().getTypeLiteral());
         return new AbstractModule()
         {
             @Override
             protected void configure()
             {
-                ProvisionListener provisionListener = new ProvisionListener()
-                {
-                    @Override
-                    public <_Target_> void onProvision(ProvisionInvocation<_Target_> provision)
-                    {
-                        Binding<_Target_> binding = provision.getBinding();
-                        if (loggerType.equals(binding.getKey().getTypeLiteral()))
-                        {
-                            Dependency<?> loggerDependency;
-                            Stream<Dependency<?>> stream;
-                            stream = provision.getDependencyChain().stream().map(DependencyAndSource::getDependency);
-                            Iterator<Dependency<?>> dependencies = reverse(stream.collect(toList())).iterator();
-                            if (dependencies.hasNext() && matchesLogger.test(loggerDependency = dependencies.next()))
-                            {
-                                InjectionPoint injectionPoint = loggerDependency.getInjectionPoint();
-                                TypeLiteral<?> declaringType = injectionPoint.getDeclaringType();
-                                TypeLiteral<?> targetType = null;
-                                if (dependencies.hasNext())
-                                {
-                                    TypeLiteral<?> typeLiteral = dependencies.next().getKey().getTypeLiteral();
-                                    if (declaringType.getRawType().isAssignableFrom(typeLiteral.getRawType()))
-                                    {
-                                        targetType = typeLiteral;
-                                    }
-                                }
-                                Class<?> logger = (targetType != null? targetType:declaringType).getRawType();
-                                BindingTargetVisitor<_Target_, Void> bindingTargetVisitor;
-                                bindingTargetVisitor = new DefaultBindingTargetVisitor<_Target_, Void>()
-                                {
-                                    @Override
-                                    public Void visit(ProviderInstanceBinding<? extends _Target_> instanceBinding)
-                                    {
-                                        if (provider.equals(instanceBinding.getUserSuppliedProvider()))
-                                        {
-                                            provider.setLogger(logInject.createLogger(logger));
-                                        }
-                                        return null;
-                                    }
-                                };
-                                binding.acceptTargetVisitor(bindingTargetVisitor);
-                            }
-                        }
-                    }
-                };
-                bind(loggerClass).toProvider(provider);
-                bindListener(Matchers.any(), provisionListener);
+                LogInjectIndex.getBindingTypes(logInject).forEach(type -> bindLogger(binder(), type, logInject));
+                install(new LoggerListeners());
             }
         };
     }
 
-    private Stream<Class<_Logger_>> getBindingClasses(LogInject<_Logger_> logInject)
+    private static <_Type_> void bindLogger(Binder binder, Class<_Type_> type, LogInject<?> logInject)
     {
-        Class<_Logger_> loggerClass = logInject.getLoggerClass();
-        switch (logInject.getLoggerClassType())
+        GuiceLoggerProvider<_Type_> provider = new GuiceLoggerProvider<>(type, logInject);
+        binder.bind(type).toProvider(provider);
+        for (String name: logInject.getQualifierNames())
         {
-            case INTERFACE: return Stream.of(loggerClass);
-            case IMPLEMENTATION: return getAllBindingTypes(loggerClass);
-            default: throw new IllegalArgumentException(String.valueOf(logInject.getLoggerClassType()));
+            binder.bind(Key.get(type, Names.named(name))).toProvider(provider);
+        }
+        for (Class<? extends Annotation> qualifier: logInject.getQualifierTypes())
+        {
+            binder.bind(Key.get(type, qualifier)).toProvider(provider);
         }
     }
 
-    private void getAllSuperclassesAndInterfaces(Class<?> type, Set<Class<?>> collected)
+    static GuiceLoggerProvider<?> getLoggerProvider(Binding<?> binding)
     {
-        if (type != null)
+        if (binding instanceof ProviderInstanceBinding)
         {
-            collected.add(type);
-            Class<?> superclass = type.getSuperclass();
-            getAllSuperclassesAndInterfaces(superclass, collected);
-            for (Class<?> implementedInterface: type.getInterfaces())
-            {
-                getAllSuperclassesAndInterfaces(implementedInterface, collected);
-            }
+            Object provider = ((ProviderInstanceBinding<?>)binding).getUserSuppliedProvider();
+            return provider instanceof GuiceLoggerProvider? (GuiceLoggerProvider<?>)provider:null;
         }
+        return null;
     }
 
-    private boolean noJDKClasses(Class<?> type)
+    /**
+    * The {@link LoggerListeners} module installs the listeners for all logger bindings of an injector. All instances
+    * of this module are equal, so that Guice installs it only once, no matter how many {@link LogInject} bindings
+    * are installed.
+    **/
+    static class LoggerListeners extends AbstractModule
     {
-        String name = type.getName();
-        return !name.startsWith("java.") || name.startsWith("java.util.logging.");
-    }
+        @Override
+        protected void configure()
+        {
+            Provider<Injector> injector = getProvider(Injector.class);
+            ProvisionListener provisionListener = new ProvisionListener()
+            {
+                @Override
+                public <_Target_> void onProvision(ProvisionInvocation<_Target_> provision)
+                {
+                    Binding<_Target_> binding = provision.getBinding();
+                    TypeLiteral<_Target_> loggerType = binding.getKey().getTypeLiteral();
+                    Predicate<Dependency<?>> matchesLogger = dependency ->
+                        loggerType.equals(dependency.getKey().getTypeLiteral());
+                    Dependency<?> loggerDependency;
+                    Stream<Dependency<?>> stream;
+                    stream = provision.getDependencyChain().stream().map(DependencyAndSource::getDependency);
+                    Iterator<Dependency<?>> dependencies = reverse(stream.collect(toList())).iterator();
+                    if (dependencies.hasNext() && matchesLogger.test(loggerDependency = dependencies.next()))
+                    {
+                        InjectionPoint injectionPoint = loggerDependency.getInjectionPoint();
+                        TypeLiteral<?> declaringType = injectionPoint.getDeclaringType();
+                        TypeLiteral<?> targetType = null;
+                        if (dependencies.hasNext())
+                        {
+                            TypeLiteral<?> typeLiteral = dependencies.next().getKey().getTypeLiteral();
+                            if (declaringType.getRawType().isAssignableFrom(typeLiteral.getRawType()))
+                            {
+                                targetType = typeLiteral;
+                            }
+                        }
+                        Class<?> logger = (targetType != null? targetType:declaringType).getRawType();
+                        LogInjectionPoint point = getInjectionPoint(logger, loggerDependency);
+                        getLoggerProvider(binding).createLogger(point.inContainer(getContainer(injector.get())));
+                    }
+                }
+            };
+            StaticLoggers staticLoggers = new StaticLoggers(INJECTED, type -> getLogInject(injector.get(), type));
+            TypeListener providerListener = new TypeListener()
+            {
+                @Override
+                public <_Injectee_> void hear(TypeLiteral<_Injectee_> type, TypeEncounter<_Injectee_> encounter)
+                {
+                    List<Field> fields = getProviderFields(type.getRawType(), providedClass -> true, INJECTED);
+                    if (!fields.isEmpty())
+                    {
+                        // The logger bindings are only known once the injector was created:
+                        encounter.register((InjectionListener<_Injectee_>)injectee -> setProviders(injectee, fields,
+                            providedClass -> getLogInject(injector.get(), providedClass)));
+                    }
+                    if (StaticLoggers.hasStaticInjectionPoints(type.getRawType(), INJECTED))
+                    {
+                        // Guice ignores static fields when it injects an instance:
+                        encounter.register((MembersInjector<_Injectee_>)injectee ->
+                            staticLoggers.inject(injectee.getClass()));
+                    }
+                }
+            };
+            bindListener(LOGGER_BINDING, provisionListener);
+            bindListener(Matchers.any(), providerListener);
+        }
 
-    <_Type_> List<_Type_> reverse(List<_Type_> list)
-    {
-        Collections.reverse(list);
-        return list;
-    }
+        private LogInjectionPoint getInjectionPoint(Class<?> injecteeClass, Dependency<?> dependency)
+        {
+            Member member = dependency.getInjectionPoint().getMember();
+            if (member instanceof Field)
+            {
+                return LogInjectionPoint.of(injecteeClass, (Field)member);
+            }
+            Parameter parameter = ((Executable)member).getParameters()[dependency.getParameterIndex()];
+            return LogInjectionPoint.of(injecteeClass, parameter);
+        }
 
-    Stream<Class<_Logger_>> getAllBindingTypes(Class<?> type)
-    {
-        return getAllPotentialBindingTypes(type).stream().filter(this::noJDKClasses);
+        private String getContainer(Injector injector)
+        {
+            Binding<String> container = injector.getExistingBinding(Key.get(String.class, LogContainer.class));
+            return container != null? container.getProvider().get():null;
+        }
+
+        private LogInject<?> getLogInject(Injector injector, Class<?> loggerClass)
+        {
+            GuiceLoggerProvider<?> provider = getLoggerProvider(injector.getExistingBinding(Key.get(loggerClass)));
+            return provider != null? provider.getLogInject():null;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            return object instanceof LoggerListeners;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return LoggerListeners.class.hashCode();
+        }
     }
 
-    Set<Class<_Logger_>> getAllPotentialBindingTypes(Class<?> type)
+    static <_Type_> List<_Type_> reverse(List<_Type_> list)
     {
-        Class<Class<_Logger_>> loggerClass = new LogLiteral<Class<_Logger_>>(Class.class).getLiteral();
-        Set<Class<?>> bindings = new HashSet<>();
-        getAllSuperclassesAndInterfaces(type, bindings);
-        return bindings.stream().map(loggerClass::cast).collect(toSet());
+        Collections.reverse(list);
+        return list;
     }
 }
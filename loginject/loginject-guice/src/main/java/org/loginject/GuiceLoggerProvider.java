@@ -18,18 +18,55 @@ package org.loginject;
 
 import javax.inject.Provider;
 
+/**
+* The {@link GuiceLoggerProvider} hands out the logger that the {@link GuiceLogInjectionService}'s provision
+* listener created for the current injection. The logger is kept in a {@link ThreadLocal} only until it is handed
+* out, so that the provider neither mixes up concurrent injections nor retains a logger after the injection.
+* Each provider that the {@link GuiceLogInjectionService} binds also knows the {@link LogInject} binding that creates
+* its loggers; providers that are created with the no-argument constructor only hand out the loggers that are passed
+* to {@link #setLogger(Object)}.
+*
+* @param <_Type_> the logger type
+*
+* @author Mirko Raner
+**/
 public class GuiceLoggerProvider<_Type_> implements Provider<_Type_>
 {
-    private _Type_ logger;
+    private final Class<_Type_> type;
+    private final LogInject<?> logInject;
+    private final ThreadLocal<_Type_> logger = new ThreadLocal<>();
+
+    public GuiceLoggerProvider()
+    {
+        this(null, null);
+    }
+
+    public GuiceLoggerProvider(Class<_Type_> type, LogInject<?> logInject)
+    {
+        this.type = type;
+        this.logInject = logInject;
+    }
+
+    public LogInject<?> getLogInject()
+    {
+        return logInject;
+    }
 
     public void setLogger(_Type_ logger)
     {
-        this.logger = logger;
+        this.logger.set(logger);
+    }
+
+    void createLogger(LogInjectionPoint injectionPoint)
+    {
+        setLogger(type.cast(logInject.createLogger(injectionPoint)));
     }
 
     @Override
     public _Type_ get()
     {
+        _Type_ logger = this.logger.get();
+        this.logger.remove();
         return logger;
     }
 }
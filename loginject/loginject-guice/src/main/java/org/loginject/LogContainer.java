@@ -0,0 +1,43 @@
+//                                                                          //
+// Copyright 2015 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import com.google.inject.BindingAnnotation;
+
+/**
+* {@link LogContainer} is the binding annotation of the container identifier of a Guice injector. Guice injectors have
+* no names, so an application that creates one injector per tenant binds an identifier in each injector:
+* <pre>
+*     bindConstant().annotatedWith(LogContainer.class).to("tenant-a");
+* </pre>
+* The identifier is passed to the logger factory via {@link LogParameter#container()}.
+*
+* @author Mirko Raner
+**/
+@Documented
+@BindingAnnotation
+@Target({ElementType.FIELD, ElementType.PARAMETER, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LogContainer
+{
+    // Marker annotation...
+}
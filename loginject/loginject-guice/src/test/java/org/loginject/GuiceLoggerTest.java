@@ -16,7 +16,11 @@
 
 package org.loginject;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.MessageFactory;
@@ -24,13 +28,20 @@ import org.apache.logging.log4j.message.MessageFormatMessageFactory;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
+import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.combine;
+import static org.loginject.LogParameter.container;
 import static org.loginject.LogParameter.currentClass;
+import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.named;
 import static org.loginject.LogParameter.parameter;
 
 public class GuiceLoggerTest
@@ -45,6 +56,45 @@ public class GuiceLoggerTest
 
     static class SubClass2 extends TestClass {/* No methods */}
 
+    static class ProviderClass
+    {
+        @Inject
+        Provider<Logger> loggerProvider;
+    }
+
+    static class ProviderSubClass extends ProviderClass {/* No methods */}
+
+    static class NamedClass
+    {
+        @Inject
+        @Named("audit")
+        Logger auditLogger;
+
+        @Inject
+        Logger logger;
+
+        @Inject
+        @Named("audit")
+        Provider<Logger> auditLoggerProvider;
+
+        final Logger securityLogger;
+
+        @Inject
+        NamedClass(@Named("security") Logger securityLogger)
+        {
+            this.securityLogger = securityLogger;
+        }
+    }
+
+    static class StaticLoggerClass
+    {
+        @Inject
+        static Logger staticLogger;
+
+        @InjectStatic
+        static Logger markedStaticLogger;
+    }
+
     @Rule
     public TestName testName = new TestName();
 
@@ -110,6 +160,27 @@ public class GuiceLoggerTest
         assertEquals(MF, service.injectedLogger.getMessageFactory());
     }
 
+    @Test
+    public void testProviderWithoutBinding()
+    {
+        Runnable runnable = () -> {};
+        GuiceLoggerProvider<Runnable> provider = new GuiceLoggerProvider<>();
+        Module module = new AbstractModule()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger.class, LogManager::getLogger, currentClass()).as(Module.class));
+                bind(Runnable.class).toProvider(provider);
+            }
+        };
+        Injector injector = Guice.createInjector(module);
+        provider.setLogger(runnable);
+        assertSame(runnable, injector.getInstance(Runnable.class));
+        assertEquals(TestClass.class.getName().replace('$', '.'),
+            injector.getInstance(TestClass.class).injectedLogger.getName());
+    }
+
     @Test
     public void testLoggerForSubclasses()
     {
@@ -120,4 +191,67 @@ public class GuiceLoggerTest
         assertEquals(SubClass1.class.getName().replace('$', '.'), service1.injectedLogger.getName());
         assertEquals(SubClass2.class.getName().replace('$', '.'), service2.injectedLogger.getName());
     }
+
+    @Test
+    public void testLoggerProvider()
+    {
+        Module module = loginject(LogManager::getLogger, currentClass()).as(Module.class);
+        Injector injector = Guice.createInjector(module);
+        ProviderClass service = injector.getInstance(ProviderClass.class);
+        assertEquals(ProviderClass.class.getName().replace('$', '.'), service.loggerProvider.get().getName());
+    }
+
+    @Test
+    public void testLoggerProviderForSubclass()
+    {
+        Module module = loginject(LogManager::getLogger, currentClass()).as(Module.class);
+        Injector injector = Guice.createInjector(module);
+        ProviderSubClass service = injector.getInstance(ProviderSubClass.class);
+        assertEquals(ProviderSubClass.class.getName().replace('$', '.'), service.loggerProvider.get().getName());
+    }
+
+    @Test
+    public void testNamedLoggers()
+    {
+        LogInject<Logger> loginject = loginject(LogManager::getLogger, named(currentClassName()));
+        Injector injector = Guice.createInjector(loginject.named("audit", "security").as(Module.class));
+        NamedClass service = injector.getInstance(NamedClass.class);
+        String[] expected = {"audit", "security", NamedClass.class.getName(), "audit"};
+        String[] actual = {service.auditLogger.getName(), service.securityLogger.getName(),
+            service.logger.getName(), service.auditLoggerProvider.get().getName()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testStaticLoggersAreInjectedOncePerClass()
+    {
+        AtomicInteger loggers = new AtomicInteger();
+        Function<Class<?>, Logger> factory = type -> LogManager.getLogger(type.getName() + loggers.incrementAndGet());
+        Module module = loginject(Logger.class, factory, currentClass()).staticFields().as(Module.class);
+        Injector injector = Guice.createInjector(module);
+        int initialLoggers = loggers.get();
+        injector.getInstance(StaticLoggerClass.class);
+        Logger staticLogger = StaticLoggerClass.staticLogger;
+        injector.getInstance(StaticLoggerClass.class);
+        assertEquals(initialLoggers + 2, loggers.get());
+        assertSame(staticLogger, StaticLoggerClass.staticLogger);
+        assertNotNull(StaticLoggerClass.markedStaticLogger);
+    }
+
+    @Test
+    public void testLoggersArePartitionedByInjector()
+    {
+        LogParameter<String> name = combine(container(), currentClassName(), String.class, (container, className) ->
+            container + "." + className);
+        LogInject<Logger> loginject = loginject(Logger.class, LogManager::getLogger, name).cached();
+        Module tenantA = binder -> binder.bindConstant().annotatedWith(LogContainer.class).to("tenantA");
+        Module tenantB = binder -> binder.bindConstant().annotatedWith(LogContainer.class).to("tenantB");
+        Injector injectorA = Guice.createInjector(loginject.as(Module.class), tenantA);
+        Injector injectorB = Guice.createInjector(loginject.as(Module.class), tenantB);
+        String className = TestClass.class.getName();
+        assertEquals("tenantA." + className, injectorA.getInstance(TestClass.class).injectedLogger.getName());
+        assertEquals("tenantB." + className, injectorB.getInstance(TestClass.class).injectedLogger.getName());
+        assertEquals("null." + className, Guice.createInjector(loginject.as(Module.class))
+            .getInstance(TestClass.class).injectedLogger.getName());
+    }
 }
@@ -16,47 +16,124 @@
 
 package org.loginject;
 
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
+import org.glassfish.hk2.api.DynamicConfigurationListener;
 import org.glassfish.hk2.api.Injectee;
 import org.glassfish.hk2.api.InjectionResolver;
+import org.glassfish.hk2.api.IterableProvider;
 import org.glassfish.hk2.api.Rank;
 import org.glassfish.hk2.api.ServiceHandle;
+import org.glassfish.hk2.api.ServiceLocator;
 
 /**
 * The class {@link HK2LogInjectionResolver} implements an {@link InjectionResolver} for the HK2 dependency injection
-* framework. It detects injection requests whose required type is compatible with {@link LogInject#getLoggerClass()}
-* and creates an appropriate logger.
+* framework. It detects injection requests whose required type is provided by one of the container's {@link LogInject}
+* bindings and creates an appropriate logger. For {@code Provider<Logger>} injection points, it creates a
+* {@link javax.inject.Provider Provider} that creates the logger on demand.
 * All other requests are passed on to HK2's JSR-330 system resolver.
+* <p>
+* A container may contain any number of {@link LogInject} bindings (e.g., for {@link java.util.logging.Logger} and
+* for a Log4J {@code Logger}). HK2 only uses a single {@link InjectionResolver} for the {@link Inject} annotation,
+* and that resolver dispatches to the appropriate binding via a {@link LogInjectIndex}. The container identifier of
+* each injection point is the name of the {@link ServiceLocator}. Bindings may also be added in a later configuration
+* of the {@link ServiceLocator}; the resolver rebuilds its index whenever the configuration changes.
 *
 * @author Mirko Raner
 **/
 @Rank(1)
 @Singleton
-public class HK2LogInjectionResolver implements InjectionResolver<Inject>
+public class HK2LogInjectionResolver implements InjectionResolver<Inject>, DynamicConfigurationListener
 {
     @Inject
-    private LogInject<?> logInject;
+    private IterableProvider<LogInject<?>> logInjects;
 
     @Inject
     @Named(SYSTEM_RESOLVER_NAME)
     private InjectionResolver<Inject> systemResolver;
 
+    @Inject
+    private ServiceLocator serviceLocator;
+
+    private volatile LogInjectIndex index;
+
+    @PostConstruct
+    private void index()
+    {
+        index = new LogInjectIndex(logInjects);
+    }
+
+    @Override
+    public void configurationChanged()
+    {
+        index();
+    }
+
+    @PreDestroy
+    private void close()
+    {
+        // Flush the asynchronous loggers when the service locator is shut down:
+        for (LogInject<?> logInject: logInjects)
+        {
+            AsyncLogDispatcher dispatcher = logInject.getDispatcher();
+            if (dispatcher != null)
+            {
+                dispatcher.close();
+            }
+        }
+    }
+
     @Override
     public Object resolve(Injectee injectee, ServiceHandle<?> root)
     {
-        if ((injectee.getRequiredType() instanceof Class)
-        && ((Class<?>)injectee.getRequiredType()).isAssignableFrom(logInject.getLoggerClass()))
+        Type requiredType = injectee.getRequiredType();
+        LogInject<?> logInject = index.get(requiredType);
+        if (logInject != null)
         {
-            Class<?> injecteeClass = injectee.getInjecteeClass();
-            Class<?> implementationClass = injectee.getInjecteeDescriptor().getImplementationClass();
-            Class<?> logger = (injecteeClass.isAssignableFrom(implementationClass))? implementationClass:injecteeClass;
-            return logInject.createLogger(logger);
+            return logInject.createLogger(getInjectionPoint(injectee));
+        }
+        LogInject<?> providerLogInject = index.get(LoggerProviders.getProvidedClass(requiredType));
+        if (providerLogInject != null)
+        {
+            return providerLogInject.createProvider(getInjectionPoint(injectee));
         }
         return systemResolver.resolve(injectee, root);
     }
 
+    private LogInjectionPoint getInjectionPoint(Injectee injectee)
+    {
+        return getMemberInjectionPoint(injectee).inContainer(serviceLocator.getName());
+    }
+
+    private LogInjectionPoint getMemberInjectionPoint(Injectee injectee)
+    {
+        Class<?> injecteeClass = getInjecteeClass(injectee);
+        AnnotatedElement element = injectee.getParent();
+        if (element instanceof Field)
+        {
+            return LogInjectionPoint.of(injecteeClass, (Field)element);
+        }
+        if (element instanceof Executable)
+        {
+            return LogInjectionPoint.of(injecteeClass, ((Executable)element).getParameters()[injectee.getPosition()]);
+        }
+        return LogInjectionPoint.of(injecteeClass);
+    }
+
+    private Class<?> getInjecteeClass(Injectee injectee)
+    {
+        Class<?> injecteeClass = injectee.getInjecteeClass();
+        Class<?> implementationClass = injectee.getInjecteeDescriptor().getImplementationClass();
+        return (injecteeClass.isAssignableFrom(implementationClass))? implementationClass:injecteeClass;
+    }
+
     @Override
     public boolean isConstructorParameterIndicator()
     {
@@ -15,23 +15,92 @@
 //                                                                          //
 package org.loginject;
 
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.glassfish.hk2.api.ActiveDescriptor;
+import org.glassfish.hk2.api.DynamicConfiguration;
+import org.glassfish.hk2.api.TwoPhaseResource;
+import org.glassfish.hk2.api.TwoPhaseTransactionData;
 import org.glassfish.hk2.utilities.Binder;
-import org.glassfish.hk2.utilities.binding.AbstractBinder;
-import org.loginject.LogInjectionService;
+import static org.glassfish.hk2.utilities.BuilderHelper.createConstantDescriptor;
 
 public class HK2LogInjectionService<_Logger_> implements LogInjectionService<Binder, _Logger_>
 {
     @Override
     public Binder getBindings(LogInject<_Logger_> logInject)
-	{
-		return new AbstractBinder()
-		{
-			@Override
-			protected void configure()
-			{
-				bind(logInject).to(LogInject.class);
-				addActiveDescriptor(HK2LogInjectionResolver.class);
-			}
-		};
-	}
+    {
+        return configuration ->
+        {
+            ActiveDescriptor<?> binding;
+            binding = configuration.addActiveDescriptor(createConstantDescriptor(logInject, null, LogInject.class));
+            LoggerServices services = LoggerServices.of(configuration, binding.getLocatorId());
+            services.add(configuration, HK2LogInjectionResolver.class);
+            if (logInject.isStaticInjection())
+            {
+                services.add(configuration, HK2StaticLoggerListener.class);
+            }
+        };
+    }
+
+    /**
+    * {@link LoggerServices} keeps track of the container-wide logger services (i.e., the injection resolver and the
+    * static logger listener) that were registered in a pending configuration of a {@code ServiceLocator}. Unlike
+    * Guice, HK2 does not de-duplicate installed binders, so without this bookkeeping each {@link LogInject} binding
+    * would register its own copy of these services. The bookkeeping ends when the configuration is committed or
+    * rolled back.
+    *
+    * @author Mirko Raner
+    **/
+    static class LoggerServices implements TwoPhaseResource
+    {
+        private final static Map<Long, LoggerServices> PENDING = new ConcurrentHashMap<>();
+
+        private final Long locatorId;
+        private final Set<Class<?>> services = new HashSet<>();
+
+        private LoggerServices(Long locatorId)
+        {
+            this.locatorId = locatorId;
+        }
+
+        static LoggerServices of(DynamicConfiguration configuration, Long locatorId)
+        {
+            LoggerServices services = new LoggerServices(locatorId);
+            LoggerServices pending = PENDING.putIfAbsent(locatorId, services);
+            if (pending != null)
+            {
+                return pending;
+            }
+            configuration.registerTwoPhaseResources(services);
+            return services;
+        }
+
+        synchronized void add(DynamicConfiguration configuration, Class<?> service)
+        {
+            if (services.add(service))
+            {
+                configuration.addActiveDescriptor(service);
+            }
+        }
+
+        @Override
+        public void prepareDynamicConfiguration(TwoPhaseTransactionData data)
+        {
+            // Nothing to prepare...
+        }
+
+        @Override
+        public void activateDynamicConfiguration(TwoPhaseTransactionData data)
+        {
+            PENDING.remove(locatorId, this);
+        }
+
+        @Override
+        public void rollbackDynamicConfiguration(TwoPhaseTransactionData data)
+        {
+            PENDING.remove(locatorId, this);
+        }
+    }
 }
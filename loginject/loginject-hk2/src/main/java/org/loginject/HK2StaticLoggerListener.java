@@ -0,0 +1,82 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.glassfish.hk2.api.ActiveDescriptor;
+import org.glassfish.hk2.api.DynamicConfigurationListener;
+import org.glassfish.hk2.api.Filter;
+import org.glassfish.hk2.api.InstanceLifecycleEvent;
+import org.glassfish.hk2.api.InstanceLifecycleEventType;
+import org.glassfish.hk2.api.InstanceLifecycleListener;
+import org.glassfish.hk2.api.IterableProvider;
+import org.glassfish.hk2.utilities.BuilderHelper;
+
+/**
+* The {@link HK2StaticLoggerListener} injects the static logger fields of a service's implementation class for
+* {@link LogInject} bindings with {@linkplain LogInject#staticFields() static-field injection}. The
+* {@link InjectStatic} fields are injected before the first instance of the class is created. The listener is only
+* installed for bindings that use static-field injection, and it picks up bindings that are added in a later
+* configuration of the {@code ServiceLocator}.
+*
+* @author Mirko Raner
+**/
+@Singleton
+public class HK2StaticLoggerListener implements InstanceLifecycleListener, DynamicConfigurationListener
+{
+    @Inject
+    private IterableProvider<LogInject<?>> logInjects;
+
+    private volatile LogInjectIndex index;
+
+    // HK2 rejects static fields with an @Inject annotation, so only @InjectStatic fields are injected:
+    private final StaticLoggers staticLoggers = new StaticLoggers(field -> false, type -> index.get(type));
+
+    @PostConstruct
+    private void index()
+    {
+        index = new LogInjectIndex(logInjects);
+    }
+
+    @Override
+    public void configurationChanged()
+    {
+        index();
+    }
+
+    @Override
+    public Filter getFilter()
+    {
+        return BuilderHelper.allFilter();
+    }
+
+    @Override
+    public void lifecycleEvent(InstanceLifecycleEvent event)
+    {
+        ActiveDescriptor<?> descriptor = event.getActiveDescriptor();
+        if (event.getEventType() == InstanceLifecycleEventType.PRE_PRODUCTION && descriptor != null)
+        {
+            Class<?> implementationClass = descriptor.getImplementationClass();
+            if (implementationClass != null)
+            {
+                staticLoggers.inject(implementationClass);
+            }
+        }
+    }
+}
@@ -16,8 +16,20 @@
 
 package org.loginject;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
+import org.glassfish.hk2.api.MultiException;
 import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.utilities.Binder;
 import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
@@ -27,10 +39,18 @@ import org.junit.Test;
 import org.junit.rules.TestName;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.loginject.LogGranularity.perPackage;
 import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.combine;
 import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.container;
 import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.named;
 
 public class JavaUtilLoggingLoggerTest
 {
@@ -44,6 +64,65 @@ public class JavaUtilLoggingLoggerTest
 
     static class SubClass2 extends TestClass {/* No methods */}
 
+    static class ProviderClass
+    {
+        @Inject
+        Provider<Logger> loggerProvider;
+    }
+
+    static class NamedClass
+    {
+        @Inject
+        @Named("audit")
+        Logger auditLogger;
+
+        @Inject
+        Logger logger;
+
+        @Inject
+        @Named("audit")
+        Provider<Logger> auditLoggerProvider;
+
+        final Logger securityLogger;
+
+        @Inject
+        NamedClass(@Named("security") Logger securityLogger)
+        {
+            this.securityLogger = securityLogger;
+        }
+    }
+
+    static class RunnableClass
+    {
+        @Inject
+        Runnable runnable;
+    }
+
+    static class StaticLoggerClass
+    {
+        @InjectStatic
+        static Logger staticLogger;
+
+        final Logger constructionLogger;
+
+        StaticLoggerClass()
+        {
+            constructionLogger = staticLogger;
+        }
+    }
+
+    static class TenantStaticLoggerClass
+    {
+        @InjectStatic
+        static Logger staticLogger;
+    }
+
+    static class FailingStaticLoggerClass
+    {
+        @InjectStatic
+        static Logger staticLogger;
+    }
+
     @Rule
     public TestName testName = new TestName();
 
@@ -137,4 +216,351 @@ public class JavaUtilLoggingLoggerTest
         String[] actual = {service.injectedLogger.getName(), service.injectedLogger.getResourceBundleName()};
         assertArrayEquals(expected, actual);
     }
+
+    @Test
+    public void testUncachedLoggerIsCreatedForEachInjection()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger.class, Logger::getAnonymousLogger).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        TestClass service1 = serviceLocator.getService(TestClass.class);
+        TestClass service2 = serviceLocator.getService(TestClass.class);
+        assertNotSame(service1.injectedLogger, service2.injectedLogger);
+    }
+
+    @Test
+    public void testCachedLoggerIsSharedBetweenInjections()
+    {
+        LogInject<Logger> loginject = loginject(Logger.class, Logger::getAnonymousLogger).cached();
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject.as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+                addActiveDescriptor(SubClass1.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        TestClass service1 = serviceLocator.getService(TestClass.class);
+        TestClass service2 = serviceLocator.getService(TestClass.class);
+        SubClass1 service3 = serviceLocator.getService(SubClass1.class);
+        assertSame(service1.injectedLogger, service2.injectedLogger);
+        assertNotSame(service1.injectedLogger, service3.injectedLogger);
+        LogCacheStatistics statistics = loginject.getCacheStatistics();
+        long[] expected = {1, 2, 2};
+        long[] actual = {statistics.getHitCount(), statistics.getMissCount(), statistics.getSize()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testLoggerSharedPerPackage()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                LogParameter<String> packageName = currentClassName(perPackage());
+                install(loginject(Logger::getLogger, packageName).granularity(perPackage()).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+                addActiveDescriptor(SubClass1.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger logger1 = serviceLocator.getService(TestClass.class).injectedLogger;
+        Logger logger2 = serviceLocator.getService(SubClass1.class).injectedLogger;
+        assertSame(logger1, logger2);
+        assertEquals(getClass().getPackage().getName(), logger1.getName());
+    }
+
+    @Test
+    public void testLazyLoggerInjection()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger::getLogger, currentClassName()).lazy().as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        TestClass service = serviceLocator.getService(TestClass.class);
+        assertNotSame(Logger.class, service.injectedLogger.getClass());
+        assertEquals(TestClass.class.getName(), service.injectedLogger.getName());
+    }
+
+    @Test
+    public void testLoggerProvider()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger::getLogger, currentClassName()).as(Binder.class));
+                addActiveDescriptor(ProviderClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        ProviderClass service = serviceLocator.getService(ProviderClass.class);
+        Logger logger = service.loggerProvider.get();
+        assertEquals(ProviderClass.class.getName(), logger.getName());
+        assertSame(logger, service.loggerProvider.get());
+    }
+
+    @Test
+    public void testPrewarmedLoggerIsInjected()
+    {
+        LogInject<Logger> loginject = loginject(Logger.class, Logger::getAnonymousLogger).cached();
+        loginject.prewarm(Arrays.asList(TestClass.class, SubClass1.class));
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject.as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        serviceLocator.getService(TestClass.class);
+        LogCacheStatistics statistics = loginject.getCacheStatistics();
+        long[] expected = {1, 2};
+        long[] actual = {statistics.getHitCount(), statistics.getMissCount()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testNamedLoggers()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger::getLogger, named(currentClassName())).as(Binder.class));
+                addActiveDescriptor(NamedClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        NamedClass service = serviceLocator.getService(NamedClass.class);
+        String[] expected = {"audit", "security", NamedClass.class.getName(), "audit"};
+        String[] actual = {service.auditLogger.getName(), service.securityLogger.getName(),
+            service.logger.getName(), service.auditLoggerProvider.get().getName()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testAsyncLoggerIsFlushedOnShutdown()
+    {
+        AsyncLogDispatcher dispatcher = AsyncLogDispatcher.blocking(1024);
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        Handler handler = new StreamHandler()
+        {
+            @Override
+            public void publish(LogRecord record)
+            {
+                messages.add(record.getMessage() + "@" + Thread.currentThread().getName());
+            }
+        };
+        // The LogManager only keeps weak references to loggers, so the logger with the handler must not be collected:
+        Logger testClassLogger = Logger.getLogger(TestClass.class.getName());
+        testClassLogger.addHandler(handler);
+        try
+        {
+            AbstractBinder binder = new AbstractBinder()
+            {
+                @Override
+                protected void configure()
+                {
+                    install(loginject(Logger::getLogger, currentClassName()).async(dispatcher).as(Binder.class));
+                    addActiveDescriptor(TestClass.class);
+                }
+            };
+            ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+            Logger logger = serviceLocator.getService(TestClass.class).injectedLogger;
+            for (int message = 0; message < 100; message++)
+            {
+                logger.info("message");
+            }
+            serviceLocator.shutdown();
+            assertEquals(100, messages.size());
+            assertTrue(messages.stream().allMatch(message -> message.startsWith("message@loginject-async-")));
+            logger.info("after shutdown");
+            assertEquals("after shutdown@" + Thread.currentThread().getName(), messages.get(100));
+        }
+        finally
+        {
+            testClassLogger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testStaticLoggerIsInjectedOncePerClass()
+    {
+        AtomicInteger loggers = new AtomicInteger();
+        Function<String, Logger> factory = name -> Logger.getLogger(name + "#" + loggers.incrementAndGet());
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(factory, currentClassName()).staticFields().as(Binder.class));
+                addActiveDescriptor(StaticLoggerClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        int initialLoggers = loggers.get();
+        StaticLoggerClass service1 = serviceLocator.getService(StaticLoggerClass.class);
+        StaticLoggerClass service2 = serviceLocator.getService(StaticLoggerClass.class);
+        assertNotSame(service1, service2);
+        assertEquals(initialLoggers + 1, loggers.get());
+        assertEquals(StaticLoggerClass.class.getName() + "#" + loggers.get(), StaticLoggerClass.staticLogger.getName());
+        assertSame(StaticLoggerClass.staticLogger, service1.constructionLogger);
+    }
+
+    @Test
+    public void testStaticLoggerIsInjectedByEachServiceLocator()
+    {
+        AtomicInteger loggers = new AtomicInteger();
+        LogParameter<String> name = combine(container(), currentClassName(), String.class, (container, className) ->
+            container + "." + className);
+        Function<String, Logger> factory = prefix -> Logger.getLogger(prefix + "#" + loggers.incrementAndGet());
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger.class, factory, name).staticFields().as(Binder.class));
+                addActiveDescriptor(TenantStaticLoggerClass.class);
+            }
+        };
+        ServiceLocatorUtilities.bind(testName.getMethodName() + "A", binder).getService(TenantStaticLoggerClass.class);
+        Logger loggerA = TenantStaticLoggerClass.staticLogger;
+        ServiceLocatorUtilities.bind(testName.getMethodName() + "B", binder).getService(TenantStaticLoggerClass.class);
+        Logger loggerB = TenantStaticLoggerClass.staticLogger;
+        String prefix = "null." + TenantStaticLoggerClass.class.getName();
+        String[] expected = {prefix + "#1", prefix + "#2"};
+        assertArrayEquals(expected, new String[] {loggerA.getName(), loggerB.getName()});
+    }
+
+    @Test
+    public void testStaticLoggerIsInjectedAfterFailedInjection()
+    {
+        AtomicInteger attempts = new AtomicInteger();
+        Function<String, Logger> factory = name ->
+        {
+            if (attempts.incrementAndGet() == 1)
+            {
+                throw new IllegalStateException(name);
+            }
+            return Logger.getLogger(name);
+        };
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger.class, factory, currentClassName()).staticFields().as(Binder.class));
+                addActiveDescriptor(FailingStaticLoggerClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        try
+        {
+            serviceLocator.getService(FailingStaticLoggerClass.class);
+            fail();
+        }
+        catch (MultiException exception)
+        {
+            assertNull(FailingStaticLoggerClass.staticLogger);
+        }
+        serviceLocator.getService(FailingStaticLoggerClass.class);
+        assertEquals(FailingStaticLoggerClass.class.getName(), FailingStaticLoggerClass.staticLogger.getName());
+    }
+
+    @Test
+    public void testLoggerServicesAreRegisteredOnce()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger::getLogger, currentClassName()).staticFields().as(Binder.class));
+                install(loginject(Runnable.class, (String name) -> () -> {}, currentClassName()).staticFields()
+                    .as(Binder.class));
+                addActiveDescriptor(StaticLoggerClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        serviceLocator.getService(StaticLoggerClass.class);
+        int[] expected = {1, 1};
+        int[] actual = {serviceLocator.getAllServiceHandles(HK2LogInjectionResolver.class).size(),
+            serviceLocator.getAllServiceHandles(HK2StaticLoggerListener.class).size()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testBindingAddedInLaterConfiguration()
+    {
+        Runnable runnable = () -> {};
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger::getLogger, currentClassName()).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        AbstractBinder laterBinder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Runnable.class, (String name) -> runnable, currentClassName()).as(Binder.class));
+                addActiveDescriptor(RunnableClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        assertEquals(TestClass.class.getName(), serviceLocator.getService(TestClass.class).injectedLogger.getName());
+        ServiceLocatorUtilities.bind(serviceLocator, laterBinder);
+        assertSame(runnable, serviceLocator.getService(RunnableClass.class).runnable);
+    }
+
+    @Test
+    public void testLoggersArePartitionedByServiceLocator()
+    {
+        LogParameter<String> name = combine(container(), currentClassName(), String.class, (container, className) ->
+            container + "." + className);
+        LogInject<Logger> loginject = loginject(Logger.class, Logger::getLogger, name).cached();
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject.as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        String tenantA = testName.getMethodName() + "A";
+        String tenantB = testName.getMethodName() + "B";
+        Logger loggerA = ServiceLocatorUtilities.bind(tenantA, binder).getService(TestClass.class).injectedLogger;
+        Logger loggerB = ServiceLocatorUtilities.bind(tenantB, binder).getService(TestClass.class).injectedLogger;
+        assertEquals(tenantA + "." + TestClass.class.getName(), loggerA.getName());
+        assertEquals(tenantB + "." + TestClass.class.getName(), loggerB.getName());
+        assertEquals(2, loginject.getCacheStatistics().getSize());
+    }
 }
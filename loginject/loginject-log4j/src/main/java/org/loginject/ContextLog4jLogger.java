@@ -0,0 +1,149 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import java.util.Map;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
+import org.apache.logging.log4j.spi.LocationAwareLogger;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.context;
+import static org.loginject.LogParameter.currentClass;
+
+/**
+* A {@link ContextLog4jLogger} is a Log4J {@link ExtendedLogger} that attaches the structured fields of a
+* {@link LogContext} to all its log events. The fields of each injectee class are computed once at injection time; for
+* every event that passes the level check, they are put into the {@link ThreadContext} while the event is created (so
+* that layouts can refer to them as {@code %X{key}}, and appenders see them in the event's context data), and the
+* previous values of the thread are restored afterwards. Disabled logging calls do not touch the {@link ThreadContext}:
+* <pre>
+*     install(ContextLog4jLogger.contextLoggers(fields().constant("team", "payments")).as(Binder.class));
+* </pre>
+* Fields that the calling thread has put into the {@link ThreadContext} itself are overridden for the duration of a
+* logging call if they have the same key.
+*
+* @author Mirko Raner
+**/
+public class ContextLog4jLogger extends ExtendedLoggerWrapper
+{
+    private final static long serialVersionUID = 1L;
+
+    private final String[] keys;
+    private final String[] values;
+
+    /**
+    * Creates a new {@link ContextLog4jLogger}.
+    *
+    * @param logger the actual logger
+    * @param fields the fields that are attached to all log events
+    **/
+    public ContextLog4jLogger(ExtendedLogger logger, Map<String, String> fields)
+    {
+        super(logger, logger.getName(), logger.getMessageFactory());
+        this.keys = fields.keySet().toArray(new String[fields.size()]);
+        this.values = fields.values().toArray(new String[fields.size()]);
+    }
+
+    /**
+    * @param context the {@link LogContext} that defines the fields
+    * @return a {@link LogInject} binding for Log4J {@link Logger}s that attach the fields to all log events
+    **/
+    public static LogInject<Logger> contextLoggers(LogContext context)
+    {
+        return loginject(Logger.class, ContextLog4jLogger::getLogger, currentClass(), context(context));
+    }
+
+    /**
+    * Creates a {@link ContextLog4jLogger} for a class.
+    *
+    * @param injectee the class (which determines the logger name)
+    * @param fields the fields that are attached to all log events
+    * @return the {@link ContextLog4jLogger}
+    **/
+    public static ContextLog4jLogger getLogger(Class<?> injectee, Map<String, String> fields)
+    {
+        return new ContextLog4jLogger((ExtendedLogger)LogManager.getLogger(injectee), fields);
+    }
+
+    @Override
+    public void logMessage(String fqcn, Level level, Marker marker, Message message, Throwable throwable)
+    {
+        String[] previous = enter();
+        try
+        {
+            logger.logMessage(fqcn, level, marker, message, throwable);
+        }
+        finally
+        {
+            exit(previous);
+        }
+    }
+
+    @Override
+    protected void log(Level level, Marker marker, String fqcn, StackTraceElement location, Message message,
+        Throwable throwable)
+    {
+        String[] previous = enter();
+        try
+        {
+            if (logger instanceof LocationAwareLogger)
+            {
+                ((LocationAwareLogger)logger).logMessage(level, marker, fqcn, location, message, throwable);
+            }
+            else
+            {
+                logger.logMessage(fqcn, level, marker, message, throwable);
+            }
+        }
+        finally
+        {
+            exit(previous);
+        }
+    }
+
+    private String[] enter()
+    {
+        String[] previous = new String[keys.length];
+        for (int index = 0; index < keys.length; index++)
+        {
+            previous[index] = ThreadContext.get(keys[index]);
+            ThreadContext.put(keys[index], values[index]);
+        }
+        return previous;
+    }
+
+    private void exit(String[] previous)
+    {
+        for (int index = 0; index < keys.length; index++)
+        {
+            if (previous[index] == null)
+            {
+                ThreadContext.remove(keys[index]);
+            }
+            else
+            {
+                ThreadContext.put(keys[index], previous[index]);
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.ExtendedLoggerWrapper;
+import org.apache.logging.log4j.spi.LocationAwareLogger;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClass;
+
+/**
+* A {@link LocatedLog4jLogger} is a Log4J {@link ExtendedLogger} that supplies the class into which it was injected as
+* the source location of all its log events. Log4J determines the location of an event (for layouts that contain
+* {@code %C}, {@code %M}, {@code %F}, {@code %L}, or {@code %l}) by walking the stack of the calling thread, which is
+* expensive; with {@code includeLocation="false"}, it does not determine the location at all. For layouts that only
+* need the source class, the injectee class is sufficient, and it is already known at injection time:
+* <pre>
+*     install(LocatedLog4jLogger.locatedLoggers().as(Binder.class));
+* </pre>
+* With this binding, {@code %C} works even if location capture is turned off, and no stack is walked. The method name
+* of the precomputed location is unknown ({@code ?}), and it has no file name or line number.
+*
+* @author Mirko Raner
+**/
+public class LocatedLog4jLogger extends ExtendedLoggerWrapper
+{
+    private final static long serialVersionUID = 1L;
+
+    private final StackTraceElement location;
+
+    /**
+    * Creates a new {@link LocatedLog4jLogger}.
+    *
+    * @param logger the actual logger
+    * @param sourceClass the class that is reported as the source of all log events
+    **/
+    public LocatedLog4jLogger(ExtendedLogger logger, Class<?> sourceClass)
+    {
+        super(logger, logger.getName(), logger.getMessageFactory());
+        this.location = new StackTraceElement(sourceClass.getName(), "?", null, -1);
+    }
+
+    /**
+    * @return a {@link LogInject} binding for Log4J {@link Logger}s with precomputed source class information
+    **/
+    public static LogInject<Logger> locatedLoggers()
+    {
+        return loginject(Logger.class, LocatedLog4jLogger::getLogger, currentClass());
+    }
+
+    /**
+    * Creates a {@link LocatedLog4jLogger} for a class.
+    *
+    * @param sourceClass the class (which determines the logger name as well as the source location)
+    * @return the {@link LocatedLog4jLogger}
+    **/
+    public static LocatedLog4jLogger getLogger(Class<?> sourceClass)
+    {
+        return new LocatedLog4jLogger((ExtendedLogger)LogManager.getLogger(sourceClass), sourceClass);
+    }
+
+    /**
+    * @return the precomputed source location
+    **/
+    public StackTraceElement getLocation()
+    {
+        return location;
+    }
+
+    @Override
+    public void logMessage(String fqcn, Level level, Marker marker, Message message, Throwable throwable)
+    {
+        log(level, marker, fqcn, location, message, throwable);
+    }
+
+    @Override
+    protected void log(Level level, Marker marker, String fqcn, StackTraceElement unknownLocation, Message message,
+        Throwable throwable)
+    {
+        if (logger instanceof LocationAwareLogger)
+        {
+            ((LocationAwareLogger)logger).logMessage(level, marker, fqcn, location, message, throwable);
+        }
+        else
+        {
+            logger.logMessage(fqcn, level, marker, message, throwable);
+        }
+    }
+}
@@ -17,19 +17,36 @@
 package org.loginject;
 
 import java.beans.PropertyDescriptor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import javax.inject.Inject;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.PropertyValues;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
-import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.support.AutowireCandidateResolver;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.context.annotation.ContextAnnotationAutowireCandidateResolver;
+import org.springframework.core.MethodParameter;
+import static org.loginject.LoggerProviders.getProviderFields;
+import static org.loginject.LoggerProviders.setProviders;
 
 /**
  * The {@link SpringLogInjectionService} implements log injection for the Spring Framework. It exposes logger
- * bindings as a Spring {@link BeanFactoryPostProcessor}.
+ * bindings as a Spring {@link BeanFactoryPostProcessor}. Spring's own {@code Provider<Logger>} objects lose the
+ * injection context, so injected provider fields are replaced by loginject providers after property injection.
+ * <p>
+ * Any number of {@link LogInject} bindings can be added to the same bean factory. The first binding installs a single
+ * {@link LoggerResolver}; subsequent bindings are added to that resolver's {@link LogInjectIndex}, so that each
+ * dependency is checked with a single lookup, regardless of the number of bindings. The container identifier of each
+ * injection point is the ID of the application context.
  *
  * @param <_Logger_> the logger type
  *
@@ -37,44 +54,156 @@ import org.springframework.context.annotation.ContextAnnotationAutowireCandidate
  */
 public class SpringLogInjectionService<_Logger_> implements LogInjectionService<BeanFactoryPostProcessor, _Logger_>
 {
+    private final static Predicate<Field> INJECTED = field -> field.isAnnotationPresent(Inject.class)
+        || field.isAnnotationPresent(Autowired.class);
+
     @Override
     public BeanFactoryPostProcessor getBindings(LogInject<_Logger_> logInject)
     {
-        return new BeanFactoryPostProcessor()
+        return beanFactory ->
         {
-            ThreadLocal<Object> injectee = new ThreadLocal<>();
+            DefaultListableBeanFactory defaultListableBeanFactory = (DefaultListableBeanFactory)beanFactory;
+            AsyncLogDispatcher dispatcher = logInject.getDispatcher();
+            if (dispatcher != null)
+            {
+                // Flush the asynchronous loggers when the application context is closed:
+                String name = AsyncLogDispatcher.class.getName() + '#' + System.identityHashCode(dispatcher);
+                defaultListableBeanFactory.registerDisposableBean(name, dispatcher::close);
+            }
+            AutowireCandidateResolver currentResolver = defaultListableBeanFactory.getAutowireCandidateResolver();
+            if (currentResolver instanceof LoggerResolver)
+            {
+                // The bean factory already has a logger resolver (installed by another binding), which will also
+                // dispatch to this binding:
+                ((LoggerResolver)currentResolver).index.add(logInject);
+                return;
+            }
+            LoggerResolver resolver = new LoggerResolver(currentResolver, logInject);
+            AutowiredAnnotationBeanPostProcessor beanPostProcessor = new LoggerBeanPostProcessor(resolver);
+            beanPostProcessor.setBeanFactory(defaultListableBeanFactory);
+            defaultListableBeanFactory.addBeanPostProcessor(beanPostProcessor);
+            defaultListableBeanFactory.setAutowireCandidateResolver(resolver);
+        };
+    }
 
+    /**
+     * The {@link LoggerResolver} resolves the logger dependencies of a bean factory for any number of {@link LogInject}
+     * bindings. All other dependencies are passed on to the bean factory's previous resolver.
+     */
+    static class LoggerResolver extends ContextAnnotationAutowireCandidateResolver
+    {
+        final LogInjectIndex index;
+        final ThreadLocal<Class<?>> injectee = new ThreadLocal<>();
+        final StaticLoggers staticLoggers;
+        final ClassValue<List<Field>> providerFields = new ClassValue<List<Field>>()
+        {
             @Override
-            public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException
+            protected List<Field> computeValue(Class<?> type)
             {
-                DefaultListableBeanFactory defaultListableBeanFactory = (DefaultListableBeanFactory)beanFactory;
-                AutowireCandidateResolver defaultResolver = defaultListableBeanFactory.getAutowireCandidateResolver();
-                AutowireCandidateResolver resolver = new ContextAnnotationAutowireCandidateResolver()
+                return getProviderFields(type, providedClass -> index.get(providedClass) != null, INJECTED);
+            }
+        };
+        private final AutowireCandidateResolver defaultResolver;
+
+        LoggerResolver(AutowireCandidateResolver defaultResolver, LogInject<?> logInject)
+        {
+            this.defaultResolver = defaultResolver;
+            this.index = new LogInjectIndex(Collections.singleton(logInject));
+            this.staticLoggers = new StaticLoggers(INJECTED, index::get);
+        }
+
+        @Override
+        public Object getSuggestedValue(DependencyDescriptor descriptor)
+        {
+            LogInject<?> logInject = index.get(descriptor.getDependencyType());
+            if (logInject != null)
+            {
+                Field field = descriptor.getField();
+                if (field != null)
                 {
-                    @Override
-                    public Object getSuggestedValue(DependencyDescriptor descriptor)
+                    // The bean that is currently injected may be a subclass of the class that declares the field
+                    // (but it is some other bean if the field's bean is created while that bean is injected):
+                    Class<?> injecteeClass = injectee.get();
+                    if (injecteeClass == null || !field.getDeclaringClass().isAssignableFrom(injecteeClass))
                     {
-                        if (descriptor.getDependencyType().equals(logInject.getLoggerClass()))
-                        {
-                            return logInject.createLogger(injectee.get().getClass());
-                        }
-                        return defaultResolver.getSuggestedValue(descriptor);
+                        injecteeClass = field.getDeclaringClass();
                     }
-                };
-                AutowiredAnnotationBeanPostProcessor beanPostProcessor = new AutowiredAnnotationBeanPostProcessor()
+                    return logInject.createLogger(LogInjectionPoint.of(injecteeClass, field).inContainer(getId()));
+                }
+                // Constructor and method parameters are injected before any enclosing bean's injection is complete:
+                MethodParameter parameter = descriptor.getMethodParameter();
+                Executable executable = parameter.getMethod() != null? parameter.getMethod():parameter.getConstructor();
+                Parameter injected = executable.getParameters()[parameter.getParameterIndex()];
+                Class<?> injecteeClass = parameter.getDeclaringClass();
+                return logInject.createLogger(LogInjectionPoint.of(injecteeClass, injected).inContainer(getId()));
+            }
+            return defaultResolver.getSuggestedValue(descriptor);
+        }
+
+        /**
+         * @return the ID of the application context (which is also the serialization ID of its bean factory)
+         */
+        private String getId()
+        {
+            BeanFactory beanFactory = getBeanFactory();
+            return beanFactory instanceof DefaultListableBeanFactory?
+                ((DefaultListableBeanFactory)beanFactory).getSerializationId():null;
+        }
+    }
+
+    /**
+     * The {@link LoggerBeanPostProcessor} keeps track of the bean that is currently injected and replaces injected
+     * {@code Provider<Logger>} fields after property injection. It also injects the static logger fields of bean
+     * classes (for bindings with {@linkplain LogInject#staticFields() static-field injection}).
+     */
+    static class LoggerBeanPostProcessor extends AutowiredAnnotationBeanPostProcessor
+    {
+        private final LoggerResolver resolver;
+
+        LoggerBeanPostProcessor(LoggerResolver resolver)
+        {
+            this.resolver = resolver;
+        }
+
+        @Override
+        public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException
+        {
+            // Spring ignores static fields, so static loggers are injected before the first bean is instantiated:
+            if (beanClass != null)
+            {
+                resolver.staticLoggers.inject(beanClass);
+            }
+            return super.postProcessBeforeInstantiation(beanClass, beanName);
+        }
+
+        @Override
+        public PropertyValues postProcessPropertyValues(PropertyValues values, PropertyDescriptor[] descriptors,
+            Object bean, String beanName) throws BeansException
+        {
+            // Injecting a bean may create and inject other beans; the injectee class is restored afterwards, and no
+            // reference to the bean class is kept once the injection is complete:
+            ThreadLocal<Class<?>> injectee = resolver.injectee;
+            Class<?> enclosingInjectee = injectee.get();
+            injectee.set(bean.getClass());
+            try
+            {
+                PropertyValues propertyValues = super.postProcessPropertyValues(values, descriptors, bean, beanName);
+                setProviders(bean, resolver.providerFields.get(bean.getClass()), resolver.index::get);
+                // The actual bean class may be a subclass of the class that was known before instantiation:
+                resolver.staticLoggers.inject(bean.getClass());
+                return propertyValues;
+            }
+            finally
+            {
+                if (enclosingInjectee != null)
                 {
-                    @Override
-                    public PropertyValues postProcessPropertyValues(PropertyValues values, PropertyDescriptor[] descriptors,
-                        Object bean, String beanName) throws BeansException
-                    {
-                        injectee.set(bean);
-                        return super.postProcessPropertyValues(values, descriptors, bean, beanName);
-                    }
-                };
-                beanPostProcessor.setBeanFactory(defaultListableBeanFactory);
-                defaultListableBeanFactory.addBeanPostProcessor(beanPostProcessor);
-                defaultListableBeanFactory.setAutowireCandidateResolver(resolver);
+                    injectee.set(enclosingInjectee);
+                }
+                else
+                {
+                    injectee.remove();
+                }
             }
-        };
+        }
     }
 }
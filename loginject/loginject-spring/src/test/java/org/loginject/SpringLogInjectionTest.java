@@ -18,15 +18,24 @@ package org.loginject;
 
 import java.util.logging.Logger;
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Provider;
 import org.junit.Test;
 import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Scope;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.combine;
+import static org.loginject.LogParameter.container;
 import static org.loginject.LogParameter.currentClassName;
+import static org.loginject.LogParameter.named;
 
 public class SpringLogInjectionTest
 {
@@ -45,10 +54,60 @@ public class SpringLogInjectionTest
             return new OtherClass();
         }
 
+        @Bean
+        ProviderClass getProviderClass()
+        {
+            return new ProviderClass();
+        }
+
+        @Bean
+        @Scope("prototype")
+        StaticLoggerClass getStaticLoggerClass()
+        {
+            return new StaticLoggerClass();
+        }
+
+        @Bean
+        static BeanFactoryPostProcessor injectLogger()
+        {
+            return loginject(Logger::getLogger, currentClassName()).staticFields().as(BeanFactoryPostProcessor.class);
+        }
+    }
+
+    @Configuration
+    static class NamedBinder
+    {
+        @Bean
+        NamedClass getNamedClass(@Named("security") Logger securityLogger)
+        {
+            return new NamedClass(securityLogger);
+        }
+
         @Bean
         static BeanFactoryPostProcessor injectLogger()
         {
-            return loginject(Logger::getLogger, currentClassName()).as(BeanFactoryPostProcessor.class);
+            return loginject(Logger::getLogger, named(currentClassName())).as(BeanFactoryPostProcessor.class);
+        }
+    }
+
+    static class NamedClass
+    {
+        @Inject
+        @Named("audit")
+        Logger auditLogger;
+
+        @Inject
+        Logger logger;
+
+        @Inject
+        @Named("audit")
+        Provider<Logger> auditLoggerProvider;
+
+        final Logger securityLogger;
+
+        NamedClass(Logger securityLogger)
+        {
+            this.securityLogger = securityLogger;
         }
     }
 
@@ -61,11 +120,45 @@ public class SpringLogInjectionTest
         OtherClass otherClass;
     }
 
+    static class StaticLoggerClass
+    {
+        @Inject
+        static Logger staticLogger;
+
+        final Logger constructionLogger = staticLogger;
+    }
+
     static class OtherClass
     {
         // No additional fields or methods...
     }
 
+    static class EnclosingClass
+    {
+        @Inject
+        Logger logger;
+
+        @Inject
+        NestedClass nested;
+    }
+
+    static class NestedClass
+    {
+        final Logger logger;
+
+        @Inject
+        NestedClass(Logger logger)
+        {
+            this.logger = logger;
+        }
+    }
+
+    static class ProviderClass
+    {
+        @Inject
+        Provider<Logger> loggerProvider;
+    }
+
     @Test
     public void testGetLogger()
     {
@@ -76,4 +169,79 @@ public class SpringLogInjectionTest
             assertNotNull(service.otherClass);
         }
     }
+
+    @Test
+    public void testLoggerProvider()
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Binder.class))
+        {
+            ProviderClass service = context.getBean(ProviderClass.class);
+            context.getBean(TestClass.class);
+            assertEquals(ProviderClass.class.getName(), service.loggerProvider.get().getName());
+        }
+    }
+
+    @Test
+    public void testNamedLoggers()
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(NamedBinder.class))
+        {
+            NamedClass service = context.getBean(NamedClass.class);
+            String[] expected = {"audit", "security", NamedClass.class.getName(), "audit"};
+            String[] actual = {service.auditLogger.getName(), service.securityLogger.getName(),
+                service.logger.getName(), service.auditLoggerProvider.get().getName()};
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testStaticLoggerIsInjectedBeforeInstantiation()
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(Binder.class))
+        {
+            StaticLoggerClass service1 = context.getBean(StaticLoggerClass.class);
+            StaticLoggerClass service2 = context.getBean(StaticLoggerClass.class);
+            assertNotSame(service1, service2);
+            assertEquals(StaticLoggerClass.class.getName(), StaticLoggerClass.staticLogger.getName());
+            assertSame(StaticLoggerClass.staticLogger, service1.constructionLogger);
+        }
+    }
+
+    @Test
+    public void testLoggersArePartitionedByApplicationContext()
+    {
+        LogParameter<String> name = combine(container(), currentClassName(), String.class, (container, className) ->
+            container + "." + className);
+        LogInject<Logger> loginject = loginject(Logger::getLogger, name).cached();
+        String[] expected = {"tenantA." + TestClass.class.getName(), "tenantB." + TestClass.class.getName()};
+        String[] actual = new String[2];
+        for (int tenant = 0; tenant < actual.length; tenant++)
+        {
+            try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext())
+            {
+                context.setId(tenant == 0? "tenantA":"tenantB");
+                context.addBeanFactoryPostProcessor(loginject.as(BeanFactoryPostProcessor.class));
+                context.register(TestClass.class, OtherClass.class);
+                context.refresh();
+                actual[tenant] = context.getBean(TestClass.class).injectedLogger.getName();
+            }
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testNestedConstructorInjection()
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext())
+        {
+            context.addBeanFactoryPostProcessor(loginject(Logger::getLogger, currentClassName())
+                .as(BeanFactoryPostProcessor.class));
+            context.register(EnclosingClass.class, NestedClass.class);
+            context.refresh();
+            EnclosingClass service = context.getBean(EnclosingClass.class);
+            String[] expected = {EnclosingClass.class.getName(), NestedClass.class.getName()};
+            String[] actual = {service.logger.getName(), service.nested.logger.getName()};
+            assertArrayEquals(expected, actual);
+        }
+    }
 }
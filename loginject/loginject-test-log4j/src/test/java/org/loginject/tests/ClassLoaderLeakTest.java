@@ -0,0 +1,257 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.api.ServiceLocatorFactory;
+import org.glassfish.hk2.utilities.Binder;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.loginject.LogInject;
+import org.loginject.tests.redeploy.Service;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import static org.junit.Assert.assertEquals;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogInject.loginjectDeclared;
+import static org.loginject.LogParameter.currentClass;
+import static org.loginject.LogParameter.currentClassName;
+
+/**
+* Simulates repeated redeployments: each iteration loads the injectee class in a new class loader, creates a
+* container, injects a logger (and a logger provider), and discards the container and the class loader. The same
+* cached (or shared) {@link LogInject} binding is used for all iterations, as it would be if loginject were installed
+* as a shared library. After all iterations, all class loaders must have been garbage-collected.
+**/
+public class ClassLoaderLeakTest
+{
+    private final static int ITERATIONS = 1000;
+    private final static String EXPECTED = Service.class.getName() + "," + Service.class.getName();
+
+    static class ThrowawayClassLoader extends ClassLoader
+    {
+        private final static String PACKAGE = Service.class.getPackage().getName() + ".";
+
+        ThrowawayClassLoader()
+        {
+            super(ClassLoaderLeakTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException
+        {
+            if (!name.startsWith(PACKAGE))
+            {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name))
+            {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null)
+                {
+                    byte[] bytes = getBytes(name.replace('.', '/') + ".class");
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve)
+                {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+
+        private byte[] getBytes(String resource) throws ClassNotFoundException
+        {
+            try (InputStream stream = getParent().getResourceAsStream(resource))
+            {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for (int length; (length = stream.read(buffer)) != -1;)
+                {
+                    bytes.write(buffer, 0, length);
+                }
+                return bytes.toByteArray();
+            }
+            catch (IOException|NullPointerException exception)
+            {
+                throw new ClassNotFoundException(resource, exception);
+            }
+        }
+    }
+
+    @BeforeClass
+    public static void initializeLog4J()
+    {
+        // Log4J registers a shutdown hook thread when it is first used; that thread inherits the context class
+        // loader, so Log4J must not be initialized while a throwaway class loader is the context class loader:
+        LogManager.getLogger(ClassLoaderLeakTest.class);
+    }
+
+    private final LogInject<Logger> loginject = loginject(LogManager::getLogger, currentClassName()).cached();
+
+    /**
+    * A logger factory whose loggers are strongly retained by Log4J's logger context (but do not refer to the injectee
+    * class).
+    **/
+    static Logger getLogger(Class<?> injectee)
+    {
+        return LogManager.getLogger(injectee.getName());
+    }
+
+    @Test
+    public void testHK2()
+    {
+        assertNoClassLoadersRetained(serviceClass -> getService(loginject, serviceClass));
+    }
+
+    @Test
+    public void testSharedLoggerRegistry()
+    {
+        LogInject<Logger> shared = loginjectDeclared(ClassLoaderLeakTest::getLogger, currentClass()).shared();
+        assertNoClassLoadersRetained(serviceClass -> getService(shared, serviceClass));
+    }
+
+    @Test
+    public void testGuice()
+    {
+        assertNoClassLoadersRetained(serviceClass -> Guice.createInjector(loginject.as(Module.class))
+            .getInstance(serviceClass));
+    }
+
+    @Test
+    public void testSpring()
+    {
+        assertNoClassLoadersRetained(serviceClass ->
+        {
+            try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext())
+            {
+                context.setClassLoader(serviceClass.getClassLoader());
+                context.addBeanFactoryPostProcessor(loginject.as(BeanFactoryPostProcessor.class));
+                context.register(serviceClass);
+                context.refresh();
+                return context.getBean(serviceClass);
+            }
+        });
+    }
+
+    private Object getService(LogInject<Logger> binding, Class<?> serviceClass)
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(binding.as(Binder.class));
+                addActiveDescriptor(serviceClass);
+            }
+        };
+        ServiceLocator locator = ServiceLocatorUtilities.bind(binder);
+        try
+        {
+            return locator.getService(serviceClass);
+        }
+        finally
+        {
+            ServiceLocatorFactory.getInstance().destroy(locator);
+        }
+    }
+
+    private void assertNoClassLoadersRetained(Function<Class<?>, Object> container)
+    {
+        List<Reference<ClassLoader>> classLoaders = new ArrayList<>();
+        for (int iteration = 0; iteration < ITERATIONS; iteration++)
+        {
+            classLoaders.add(redeploy(container));
+        }
+        for (int attempt = 0; attempt < 10 && retained(classLoaders) > 0; attempt++)
+        {
+            // Frameworks like Spring cache reflection data in soft references, which are only cleared when the
+            // heap is running out:
+            exhaustHeap();
+            System.gc();
+            try
+            {
+                Thread.sleep(100);
+            }
+            catch (InterruptedException interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertEquals(0, retained(classLoaders));
+    }
+
+    private void exhaustHeap()
+    {
+        List<long[]> memory = new ArrayList<>();
+        try
+        {
+            while (true)
+            {
+                memory.add(new long[1 << 20]);
+            }
+        }
+        catch (OutOfMemoryError exhausted)
+        {
+            memory.clear();
+        }
+    }
+
+    private Reference<ClassLoader> redeploy(Function<Class<?>, Object> container)
+    {
+        ClassLoader classLoader = new ThrowawayClassLoader();
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try
+        {
+            Class<?> serviceClass = classLoader.loadClass(Service.class.getName());
+            @SuppressWarnings("unchecked")
+            Supplier<String> service = (Supplier<String>)container.apply(serviceClass);
+            assertEquals(EXPECTED, service.get());
+            return new WeakReference<>(classLoader);
+        }
+        catch (ClassNotFoundException exception)
+        {
+            throw new NoClassDefFoundError(exception.getMessage());
+        }
+        finally
+        {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private long retained(List<Reference<ClassLoader>> classLoaders)
+    {
+        return classLoaders.stream().filter(reference -> reference.get() != null).count();
+    }
+}
@@ -16,17 +16,22 @@
 
 package org.loginject.tests;
 
+import java.lang.reflect.Proxy;
 import javax.inject.Inject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
+import org.loginject.AsyncLogDispatcher;
 import com.google.inject.AbstractModule;
+import com.google.inject.ConfigurationException;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
 import com.google.inject.Module;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.loginject.LogInject.loginject;
 import static org.loginject.LogParameter.currentClass;
 
@@ -38,6 +43,12 @@ public class GuiceLogInjectLog4JTest
         Logger logger;
     }
 
+    static class ImplementationTypeClass
+    {
+        @Inject
+        org.apache.logging.log4j.core.Logger logger;
+    }
+
     @Rule
     public TestName testName = new TestName();
 
@@ -74,4 +85,29 @@ public class GuiceLogInjectLog4JTest
         TestClass service = injector.getInstance(TestClass.class);
         assertEquals(TestClass.class.getName().replace('$', '.'), service.logger.getName());
     }
+
+    @Test
+    public void testAsyncBindingDoesNotInjectImplementationTypes()
+    {
+        AsyncLogDispatcher dispatcher = AsyncLogDispatcher.blocking(16);
+        Module logger = loginject(LogManager::getLogger, currentClass()).async(dispatcher).as(Module.class);
+        Injector injector = Guice.createInjector(logger);
+        try
+        {
+            assertTrue(Proxy.isProxyClass(injector.getInstance(TestClass.class).logger.getClass()));
+            try
+            {
+                injector.getInstance(ImplementationTypeClass.class);
+                fail();
+            }
+            catch (ConfigurationException exception)
+            {
+                assertTrue(exception.getMessage().contains("org.apache.logging.log4j.core.Logger"));
+            }
+        }
+        finally
+        {
+            dispatcher.close();
+        }
+    }
 }
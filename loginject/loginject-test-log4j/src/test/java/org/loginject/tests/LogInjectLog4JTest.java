@@ -16,19 +16,56 @@
 
 package org.loginject.tests;
 
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import javax.inject.Inject;
+import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.AppenderRef;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.message.MessageFactory;
+import org.apache.logging.log4j.message.ParameterizedMessageFactory;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+import org.apache.logging.log4j.spi.LoggerContext;
+import org.loginject.AsyncLogDispatcher;
+import org.loginject.ContextLog4jLogger;
+import org.loginject.LocatedLog4jLogger;
+import org.loginject.LogContext;
+import org.loginject.LogDecorator;
+import org.loginject.LogInject;
+import org.loginject.LogInjectException;
+import org.glassfish.hk2.api.MultiException;
 import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.api.UnsatisfiedDependencyException;
 import org.glassfish.hk2.utilities.Binder;
 import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestName;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.loginject.LogInject.loginject;
+import static org.loginject.LogInject.loginjectDeclared;
+import static org.loginject.LogParameter.constantString;
+import static org.loginject.LogParameter.context;
 import static org.loginject.LogParameter.currentClass;
+import static org.loginject.LogParameter.currentClassName;
 
 public class LogInjectLog4JTest
 {
@@ -38,6 +75,134 @@ public class LogInjectLog4JTest
         Logger logger;
     }
 
+    static class DisabledClass
+    {
+        @Inject
+        Logger logger;
+    }
+
+    static class ImplementationTypeClass
+    {
+        @Inject
+        Logger logger;
+
+        @Inject
+        ExtendedLogger extendedLogger;
+
+        @Inject
+        org.apache.logging.log4j.core.Logger coreLogger;
+    }
+
+    static class InterfaceTypeClass
+    {
+        @Inject
+        Logger logger;
+
+        @Inject
+        ExtendedLogger extendedLogger;
+    }
+
+    static class LocatedClass
+    {
+        @Inject
+        Logger logger;
+    }
+
+    static class ContextClass
+    {
+        @Inject
+        Logger logger;
+    }
+
+    /**
+    * An appender that collects the formatted events in memory.
+    **/
+    static class CapturingAppender extends AbstractAppender
+    {
+        final List<String> events = new ArrayList<>();
+
+        CapturingAppender(PatternLayout layout)
+        {
+            super(CapturingAppender.class.getSimpleName(), null, layout, false, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(LogEvent event)
+        {
+            events.add(getLayout().toSerializable(event).toString());
+        }
+    }
+
+    /**
+    * A {@link MessageFactory} that attaches the precomputed context fields of a class to every message (without
+    * copying them).
+    **/
+    static class ContextMessageFactory implements MessageFactory
+    {
+        private final Map<String, String> fields;
+
+        ContextMessageFactory(Map<String, String> fields)
+        {
+            this.fields = fields;
+        }
+
+        @Override
+        public Message newMessage(Object message)
+        {
+            return new ContextMessage(ParameterizedMessageFactory.INSTANCE.newMessage(message), fields);
+        }
+
+        @Override
+        public Message newMessage(String message)
+        {
+            return new ContextMessage(ParameterizedMessageFactory.INSTANCE.newMessage(message), fields);
+        }
+
+        @Override
+        public Message newMessage(String message, Object... parameters)
+        {
+            return new ContextMessage(ParameterizedMessageFactory.INSTANCE.newMessage(message, parameters), fields);
+        }
+    }
+
+    static class ContextMessage implements Message
+    {
+        private final static long serialVersionUID = 1L;
+
+        private final Message message;
+        private final Map<String, String> fields;
+
+        ContextMessage(Message message, Map<String, String> fields)
+        {
+            this.message = message;
+            this.fields = fields;
+        }
+
+        @Override
+        public String getFormattedMessage()
+        {
+            return fields + " " + message.getFormattedMessage();
+        }
+
+        @Override
+        public String getFormat()
+        {
+            return message.getFormat();
+        }
+
+        @Override
+        public Object[] getParameters()
+        {
+            return message.getParameters();
+        }
+
+        @Override
+        public Throwable getThrowable()
+        {
+            return message.getThrowable();
+        }
+    }
+
     @Rule
     public TestName testName = new TestName();
 
@@ -74,4 +239,278 @@ public class LogInjectLog4JTest
         TestClass service = serviceLocator.getService(TestClass.class);
         assertEquals(TestClass.class.getName().replace('$', '.'), service.logger.getName());
     }
+
+    @Test
+    public void testInferredBindingInjectsImplementationTypes()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(LogManager::getLogger, currentClass()).as(Binder.class));
+                addActiveDescriptor(ImplementationTypeClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        ImplementationTypeClass service = serviceLocator.getService(ImplementationTypeClass.class);
+        String name = ImplementationTypeClass.class.getName().replace('$', '.');
+        String[] expected = {name, name, name};
+        String[] actual = {service.logger.getName(), service.extendedLogger.getName(), service.coreLogger.getName()};
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testDeclaredBindingDoesNotCreatePrototypeLogger()
+    {
+        LoggerContext context = LogManager.getContext(false);
+        String name = testName.getMethodName();
+        loginjectDeclared(LogManager::getLogger, constantString(name)).as(Binder.class);
+        assertFalse(context.hasLogger(name));
+    }
+
+    @Test
+    public void testDisabledLog4JLoggerIsReplacedByNoOpLogger()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                LogInject<Logger> loginject = loginject(LogManager::getLogger, currentClass());
+                install(loginject.disabledIf(logger -> !logger.isFatalEnabled()).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+                addActiveDescriptor(DisabledClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger enabled = serviceLocator.getService(TestClass.class).logger;
+        Logger disabled = serviceLocator.getService(DisabledClass.class).logger;
+        assertEquals(TestClass.class.getName().replace('$', '.'), enabled.getName());
+        assertTrue(Proxy.isProxyClass(disabled.getClass()));
+        assertFalse(disabled.isFatalEnabled());
+        disabled.fatal("not logged");
+    }
+
+    @Test
+    public void testAsyncLog4JLogger()
+    {
+        AsyncLogDispatcher dispatcher = AsyncLogDispatcher.blocking(16);
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(LogManager::getLogger, currentClass()).async(dispatcher).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger logger = serviceLocator.getService(TestClass.class).logger;
+        assertTrue(Proxy.isProxyClass(logger.getClass()));
+        assertEquals(TestClass.class.getName().replace('$', '.'), logger.getName());
+        logger.debug("asynchronous");
+        serviceLocator.shutdown();
+        assertEquals(0, dispatcher.getDroppedCount());
+    }
+
+    @Test
+    public void testAsyncBindingDoesNotInjectImplementationTypes()
+    {
+        AsyncLogDispatcher dispatcher = AsyncLogDispatcher.blocking(16);
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(LogManager::getLogger, currentClass()).async(dispatcher).as(Binder.class));
+                addActiveDescriptor(InterfaceTypeClass.class);
+                addActiveDescriptor(ImplementationTypeClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        try
+        {
+            InterfaceTypeClass service = serviceLocator.getService(InterfaceTypeClass.class);
+            String name = InterfaceTypeClass.class.getName().replace('$', '.');
+            assertArrayEquals(new String[] {name, name},
+                new String[] {service.logger.getName(), service.extendedLogger.getName()});
+            assertTrue(Proxy.isProxyClass(service.extendedLogger.getClass()));
+            try
+            {
+                serviceLocator.getService(ImplementationTypeClass.class);
+                fail();
+            }
+            catch (MultiException exception)
+            {
+                assertTrue(exception.getErrors().stream().anyMatch(UnsatisfiedDependencyException.class::isInstance));
+            }
+        }
+        finally
+        {
+            serviceLocator.shutdown();
+        }
+    }
+
+    @Test
+    public void testDecoratedLog4JImplementationClass()
+    {
+        List<Integer> levels = new ArrayList<>();
+        LogDecorator decorator = new LogDecorator()
+        {
+            @Override
+            public long enter(Class<?> injectee, int level)
+            {
+                levels.add(level);
+                return 0;
+            }
+        };
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(LogManager::getLogger, currentClass()).decorated(decorator).as(Binder.class));
+                addActiveDescriptor(InterfaceTypeClass.class);
+                addActiveDescriptor(ImplementationTypeClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        InterfaceTypeClass service = serviceLocator.getService(InterfaceTypeClass.class);
+        service.logger.error("decorated");
+        service.extendedLogger.warn("decorated");
+        assertFalse(service.logger instanceof org.apache.logging.log4j.core.Logger);
+        assertEquals(InterfaceTypeClass.class.getName().replace('$', '.'), service.extendedLogger.getName());
+        assertEquals(Arrays.asList(1000, 900), levels);
+        try
+        {
+            serviceLocator.getService(ImplementationTypeClass.class);
+            fail();
+        }
+        catch (MultiException exception)
+        {
+            assertTrue(exception.getErrors().stream().anyMatch(UnsatisfiedDependencyException.class::isInstance));
+        }
+    }
+
+    @Test(expected=LogInjectException.class)
+    public void testLog4JCoreLoggerClassIsNotDecorated()
+    {
+        Function<String, org.apache.logging.log4j.core.Logger> factory = name ->
+            (org.apache.logging.log4j.core.Logger)LogManager.getLogger(name);
+        loginject(org.apache.logging.log4j.core.Logger.class, factory, currentClassName()).decorated(new LogDecorator()
+        {
+            // Default methods only...
+        });
+    }
+
+    @Test
+    public void testLog4JLoggerWithContextFields()
+    {
+        LogContext fields = LogContext.fields().constant("team", "payments").field("component", currentClassName());
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(loginject(Logger.class, (String name, Map<String, String> context) ->
+                    LogManager.getLogger(name, new ContextMessageFactory(context)), currentClassName(),
+                    context(fields)).as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger logger = serviceLocator.getService(TestClass.class).logger;
+        Message message = logger.getMessageFactory().newMessage("hello {}", "world");
+        String component = TestClass.class.getName();
+        assertEquals("{team=payments, component=" + component + "} hello world", message.getFormattedMessage());
+    }
+
+    @Test
+    public void testLocatedLog4JLoggerWithoutLocationCapture()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(LocatedLog4jLogger.locatedLoggers().as(Binder.class));
+                addActiveDescriptor(LocatedClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger logger = serviceLocator.getService(LocatedClass.class).logger;
+        assertEquals(LocatedClass.class.getName() + " located", capture(logger, "%C %m", "located"));
+    }
+
+    @Test
+    public void testPlainLog4JLoggerWithoutLocationCapture()
+    {
+        Logger logger = LogManager.getLogger(LocatedClass.class);
+        assertEquals("? unlocated", capture(logger, "%C %m", "unlocated"));
+    }
+
+    @Test
+    public void testContextLog4JLoggerAttachesFieldsToThreadContext()
+    {
+        LogContext fields = LogContext.fields().constant("team", "payments").field("component", currentClassName());
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(ContextLog4jLogger.contextLoggers(fields).as(Binder.class));
+                addActiveDescriptor(ContextClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        Logger logger = serviceLocator.getService(ContextClass.class).logger;
+        ThreadContext.put("team", "billing");
+        try
+        {
+            String expected = "payments " + ContextClass.class.getName() + " hello";
+            assertEquals(expected, capture(logger, "%X{team} %X{component} %m", "hello"));
+            assertEquals("billing", ThreadContext.get("team"));
+            assertFalse(ThreadContext.containsKey("component"));
+        }
+        finally
+        {
+            ThreadContext.remove("team");
+        }
+    }
+
+    /**
+    * Logs a message with location capture turned off.
+    **/
+    private String capture(Logger logger, String pattern, String message)
+    {
+        String name = logger.getName();
+        ClassLoader classLoader = LocatedClass.class.getClassLoader();
+        org.apache.logging.log4j.core.LoggerContext context;
+        context = (org.apache.logging.log4j.core.LoggerContext)LogManager.getContext(classLoader, false);
+        Configuration configuration = context.getConfiguration();
+        PatternLayout layout = PatternLayout.newBuilder().withPattern(pattern).withConfiguration(configuration).build();
+        CapturingAppender appender = new CapturingAppender(layout);
+        appender.start();
+        AppenderRef[] references = {AppenderRef.createAppenderRef(appender.getName(), null, null)};
+        LoggerConfig loggerConfig;
+        loggerConfig = LoggerConfig.createLogger(false, Level.INFO, name, "false", references, null, configuration,
+            null);
+        loggerConfig.addAppender(appender, null, null);
+        loggerConfig.start();
+        configuration.addLogger(name, loggerConfig);
+        context.updateLoggers();
+        try
+        {
+            logger.info(message);
+            assertEquals(1, appender.events.size());
+            return appender.events.get(0);
+        }
+        finally
+        {
+            configuration.removeLogger(name);
+            context.updateLoggers();
+            appender.stop();
+        }
+    }
 }
@@ -0,0 +1,129 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject.tests;
+
+import java.util.function.Function;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.glassfish.hk2.api.ServiceLocator;
+import org.glassfish.hk2.utilities.Binder;
+import org.glassfish.hk2.utilities.ServiceLocatorUtilities;
+import org.glassfish.hk2.utilities.binding.AbstractBinder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestName;
+import org.loginject.LogInject;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import com.google.inject.Guice;
+import com.google.inject.Module;
+import static org.junit.Assert.assertArrayEquals;
+import static org.loginject.LogInject.loginject;
+import static org.loginject.LogParameter.currentClassName;
+
+public class MultipleLoggerTypesTest
+{
+    public static interface Audit
+    {
+        String getName();
+    }
+
+    static class AuditLog implements Audit
+    {
+        private final String name;
+
+        AuditLog(String name)
+        {
+            this.name = name;
+        }
+
+        @Override
+        public String getName()
+        {
+            return name;
+        }
+    }
+
+    public static class TestClass
+    {
+        @Inject
+        Logger logger;
+
+        @Inject
+        Audit audit;
+
+        @Inject
+        Provider<Audit> auditProvider;
+
+        String[] getNames()
+        {
+            return new String[] {logger.getName(), audit.getName(), auditProvider.get().getName()};
+        }
+    }
+
+    private final static String[] EXPECTED = {TestClass.class.getName(), TestClass.class.getName(),
+        TestClass.class.getName()};
+
+    @Rule
+    public TestName testName = new TestName();
+
+    private final LogInject<Logger> log4j = loginject(LogManager::getLogger, currentClassName());
+
+    // A factory that is not serializable results in a binding for the implementation type (AuditLog), which also
+    // provides the logger's supertypes:
+    private final Function<String, AuditLog> auditLog = AuditLog::new;
+    private final LogInject<AuditLog> audit = loginject(auditLog, currentClassName());
+
+    @Test
+    public void testHK2()
+    {
+        AbstractBinder binder = new AbstractBinder()
+        {
+            @Override
+            protected void configure()
+            {
+                install(log4j.as(Binder.class));
+                install(audit.as(Binder.class));
+                addActiveDescriptor(TestClass.class);
+            }
+        };
+        ServiceLocator serviceLocator = ServiceLocatorUtilities.bind(testName.getMethodName(), binder);
+        assertArrayEquals(EXPECTED, serviceLocator.getService(TestClass.class).getNames());
+    }
+
+    @Test
+    public void testGuice()
+    {
+        Module[] modules = {log4j.as(Module.class), audit.as(Module.class)};
+        assertArrayEquals(EXPECTED, Guice.createInjector(modules).getInstance(TestClass.class).getNames());
+    }
+
+    @Test
+    public void testSpring()
+    {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext())
+        {
+            context.addBeanFactoryPostProcessor(log4j.as(BeanFactoryPostProcessor.class));
+            context.addBeanFactoryPostProcessor(audit.as(BeanFactoryPostProcessor.class));
+            context.register(TestClass.class);
+            context.refresh();
+            assertArrayEquals(EXPECTED, context.getBean(TestClass.class).getNames());
+        }
+    }
+}
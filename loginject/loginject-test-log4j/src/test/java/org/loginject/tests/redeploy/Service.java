@@ -0,0 +1,41 @@
+//                                                                          //
+// Copyright 2026 Mirko Raner                                               //
+//                                                                          //
+// Licensed under the Apache License, Version 2.0 (the "License");          //
+// you may not use this file except in compliance with the License.         //
+// You may obtain a copy of the License at                                  //
+//                                                                          //
+//     http://www.apache.org/licenses/LICENSE-2.0                           //
+//                                                                          //
+// Unless required by applicable law or agreed to in writing, software      //
+// distributed under the License is distributed on an "AS IS" BASIS,        //
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. //
+// See the License for the specific language governing permissions and      //
+// limitations under the License.                                           //
+//                                                                          //
+
+package org.loginject.tests.redeploy;
+
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Provider;
+import org.apache.logging.log4j.Logger;
+
+/**
+* An injectee class that {@link org.loginject.tests.ClassLoaderLeakTest} loads in a throwaway class loader.
+* It is accessed from the test only through the {@link Supplier} interface.
+**/
+public class Service implements Supplier<String>
+{
+    @Inject
+    Logger logger;
+
+    @Inject
+    Provider<Logger> loggerProvider;
+
+    @Override
+    public String get()
+    {
+        return logger.getName() + "," + loggerProvider.get().getName();
+    }
+}